@@ -7,12 +7,20 @@
  */
 package com.realmone.owl.orm;
 
+import com.realmone.owl.orm.annotations.Type;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.ModelFactory;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * This interface describes the front door to working with the OWL ORM API. To create instances of your types
@@ -67,6 +75,36 @@ public interface ThingFactory {
     <T extends Thing> T create(Class<T> type, String resource) throws OrmException;
 
 
+    /**
+     * Create new instances of your type of {@link Thing} for a batch of resources. Either all of them are created, or
+     * none are.
+     *
+     * @param type      The interface class that extends {@link Thing} that you want to work with
+     * @param resources The {@link Resource}s that uniquely identify your new instances of the {@link Thing}
+     * @param model     The {@link Model} to use to underpin your {@link Thing}s
+     * @param <T>       The type of {@link Thing} you want to work with
+     * @return The instances of your {@link Thing}, in the same order as the resources
+     * @throws OrmException If a {@link Thing} already exists for any of the {@link Resource}s you tried to create, or
+     *                      the same {@link Resource} is given more than once
+     */
+    default <T extends Thing> List<T> createAll(Class<T> type, Collection<? extends Resource> resources, Model model)
+            throws OrmException {
+        // Check everything up front, so nothing is created if any of them can't be.
+        final Set<Resource> distinct = new HashSet<>();
+        for (Resource resource : resources) {
+            if (!distinct.add(resource)) {
+                throw new OrmException("Cannot create '" + resource.stringValue() + "' more than once");
+            }
+            if (get(type, resource, model).isPresent()) {
+                throw new OrmException("Cannot create an instance of '" + type.getName() + "' with resource '"
+                        + resource.stringValue() + "' as it already exists in our underlying model");
+            }
+        }
+        final List<T> created = new ArrayList<>(resources.size());
+        resources.forEach(resource -> created.add(create(type, resource, model)));
+        return created;
+    }
+
     /**
      * Get a {@link Thing} that should exist in the underling {@link Model} you're working with.
      *
@@ -91,6 +129,67 @@ public interface ThingFactory {
      */
     <T extends Thing> Optional<T> get(Class<T> type, String resource, Model model) throws OrmException;
 
+    /**
+     * Get a {@link Thing} as the most specific interface its {@code rdf:type}s allow, rather than exactly the one you
+     * ask for. The types of the resource are read once and matched against the known subtypes of the bound, so there
+     * is no need to try getting each candidate subtype in turn.
+     * <p>
+     * The default implementation doesn't know any subtypes, so it gets the bound itself.
+     * </p>
+     *
+     * @param bound    The interface class that extends {@link Thing} that the result must implement
+     * @param resource The {@link Resource} that uniquely identifies your instance of the {@link Thing}
+     * @param model    The {@link Model} to use to underpin your {@link Thing}
+     * @param <T>      The type of {@link Thing} you want to work with
+     * @return The instance of your {@link Thing}, implementing the deepest known subtypes of the bound the resource is
+     * typed with, or an empty {@link Optional} if it is typed with neither the bound nor any known subtype of it in
+     * your {@link Model}
+     * @throws OrmException If there is an issue with getting your instance
+     */
+    default <T extends Thing> Optional<T> getMostSpecific(Class<T> bound, Resource resource, Model model)
+            throws OrmException {
+        return get(bound, resource, model);
+    }
+
+    /**
+     * Get every instance of a type of {@link Thing} in the underlying {@link Model} you're working with.
+     *
+     * @param type  The interface class that extends {@link Thing} that you want to work with
+     * @param model The {@link Model} to use to underpin your {@link Thing}s
+     * @param <T>   The type of {@link Thing} you want to work with
+     * @return The instances of your {@link Thing}, one per subject typed with the {@link Thing}'s type in the model
+     * @throws OrmException If there is an issue with getting your instances
+     */
+    default <T extends Thing> List<T> getAll(Class<T> type, Model model) throws OrmException {
+        return streamAll(type, model).toList();
+    }
+
+    /**
+     * Stream every instance of a type of {@link Thing} in the underlying {@link Model} you're working with. The
+     * stream is sized and splits evenly, so it parallelizes well as long as the model isn't modified while it is
+     * consumed.
+     * <p>
+     * The default implementation finds the subjects typed with the IRI of the {@link Type} annotation on the
+     * interface, and gets each of them.
+     * </p>
+     *
+     * @param type  The interface class that extends {@link Thing} that you want to work with
+     * @param model The {@link Model} to use to underpin your {@link Thing}s
+     * @param <T>   The type of {@link Thing} you want to work with
+     * @return A {@link Stream} of the instances of your {@link Thing}
+     * @throws OrmException If there is an issue with getting your instances
+     */
+    default <T extends Thing> Stream<T> streamAll(Class<T> type, Model model) throws OrmException {
+        final Type annotation = type.getAnnotation(Type.class);
+        if (annotation == null) {
+            throw new OrmException("Missing Type annotation on provided Thing subtype: " + type.getName());
+        }
+        final List<Resource> subjects = List.copyOf(model.filter(null, RDF.TYPE,
+                getValueFactory().createIRI(annotation.value())).subjects());
+        return subjects.stream().map(subject -> get(type, subject, model).orElseThrow(() ->
+                new OrmException("Couldn't get thing for resource in underlying model: " + subject)));
+    }
+
     /**
      * @return The RDF4j {@link ValueFactory} backing this {@link ThingFactory}.
      */
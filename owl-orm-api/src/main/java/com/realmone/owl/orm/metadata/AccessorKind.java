@@ -0,0 +1,38 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metadata;
+
+/**
+ * The kinds of method an OWL ORM interface declares for a property, as told apart by their name prefixes.
+ */
+public enum AccessorKind {
+    /**
+     * {@code get*} and {@code is*} methods.
+     */
+    GET,
+    /**
+     * {@code stream*} methods.
+     */
+    STREAM,
+    /**
+     * {@code set*} methods.
+     */
+    SET,
+    /**
+     * {@code addTo*} methods.
+     */
+    ADD,
+    /**
+     * {@code removeFrom*} methods.
+     */
+    REMOVE,
+    /**
+     * {@code clearOut*} methods.
+     */
+    CLEAR
+}
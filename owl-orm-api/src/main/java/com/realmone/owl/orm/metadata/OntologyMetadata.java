@@ -0,0 +1,40 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metadata;
+
+import com.realmone.owl.orm.Thing;
+import org.eclipse.rdf4j.model.IRI;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed metadata about the OWL ORM interfaces of an ontology, so an engine can set them up without reflecting
+ * over their annotations. The code generator implements this with an {@code OntologyRegistry} class in every package
+ * it generates into.
+ */
+public interface OntologyMetadata {
+
+    /**
+     * @return The interfaces described, in no particular order
+     */
+    List<TypeMetadata> getTypes();
+
+    /**
+     * Look the interfaces described up by their type IRI. By default this is worked out from {@link #getTypes()} on
+     * every call, so callers needing it more than once should hold on to it.
+     *
+     * @return The interfaces described, by type IRI; if several share a type IRI, the first of them
+     */
+    default Map<IRI, Class<? extends Thing>> getTypesByIri() {
+        final Map<IRI, Class<? extends Thing>> types = new HashMap<>();
+        getTypes().forEach(type -> types.putIfAbsent(type.getTypeIri(), type.getType()));
+        return Map.copyOf(types);
+    }
+}
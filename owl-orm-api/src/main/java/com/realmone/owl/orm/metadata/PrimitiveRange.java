@@ -0,0 +1,72 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metadata;
+
+import lombok.Getter;
+
+/**
+ * The boxed property ranges the engine's {@code BaseThing} has primitive operations for, with the names of its
+ * operations taking and returning the boxed type that go through them. Both the engine and the implementation classes
+ * the code generator emits call the operations by these names.
+ */
+@Getter
+public enum PrimitiveRange {
+    INT(Integer.class, "getBoxedIntValue", "streamBoxedIntValues", "setBoxedIntValue"),
+    LONG(Long.class, "getBoxedLongValue", "streamBoxedLongValues", "setBoxedLongValue"),
+    DOUBLE(Double.class, "getBoxedDoubleValue", "streamBoxedDoubleValues", "setBoxedDoubleValue"),
+    FLOAT(Float.class, "getBoxedFloatValue", "streamBoxedFloatValues", "setBoxedFloatValue"),
+    BOOLEAN(Boolean.class, "getBooleanValue", "streamBooleanValues", "setBoxedBooleanValue");
+
+    /**
+     * The boxed range type.
+     */
+    private final Class<?> type;
+
+    /**
+     * The operation getting the value of a functional property, as an optional boxed value.
+     */
+    private final String getter;
+
+    /**
+     * The operation streaming the boxed values of a property.
+     */
+    private final String streamer;
+
+    /**
+     * The operation setting the value of a functional property from a boxed value.
+     */
+    private final String setter;
+
+    PrimitiveRange(Class<?> type, String getter, String streamer, String setter) {
+        this.type = type;
+        this.getter = getter;
+        this.streamer = streamer;
+        this.setter = setter;
+    }
+
+    /**
+     * @param type The range of a property
+     * @return The {@link PrimitiveRange} for the range, or null if it isn't one
+     */
+    public static PrimitiveRange of(Class<?> type) {
+        return of(type.getName());
+    }
+
+    /**
+     * @param typeName The fully qualified name of the range of a property
+     * @return The {@link PrimitiveRange} for the range, or null if it isn't one
+     */
+    public static PrimitiveRange of(String typeName) {
+        for (PrimitiveRange range : values()) {
+            if (range.type.getName().equals(typeName)) {
+                return range;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metadata;
+
+import lombok.NonNull;
+import lombok.Value;
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * Describes one property method of an OWL ORM interface, as its {@link com.realmone.owl.orm.annotations.Property}
+ * annotation and name would.
+ */
+@Value
+public class PropertyMetadata {
+
+    /**
+     * The name of the method. Generated interfaces don't overload property methods, so along with the shape its
+     * {@link #getKind() kind} calls for it identifies the method; hand written overloads are told apart by the latter.
+     */
+    @NonNull
+    String methodName;
+
+    /**
+     * The predicate of the property.
+     */
+    @NonNull
+    IRI predicate;
+
+    /**
+     * Whether the property is functional.
+     */
+    boolean functional;
+
+    /**
+     * The range type of the property.
+     */
+    @NonNull
+    Class<?> range;
+
+    /**
+     * What the method does with the property.
+     */
+    @NonNull
+    AccessorKind kind;
+
+    /**
+     * The position of the method among the property methods of its interface.
+     */
+    int ordinal;
+}
@@ -0,0 +1,60 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metadata;
+
+import com.realmone.owl.orm.Thing;
+import lombok.NonNull;
+import lombok.Value;
+import org.eclipse.rdf4j.model.IRI;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes an OWL ORM interface: the IRI of its {@link com.realmone.owl.orm.annotations.Type} annotation, the type
+ * IRIs of every annotated interface it (transitively) extends, and the property methods it declares itself.
+ */
+@Value
+public class TypeMetadata {
+
+    /**
+     * The interface described.
+     */
+    Class<? extends Thing> type;
+
+    /**
+     * The type IRI of the interface.
+     */
+    IRI typeIri;
+
+    /**
+     * The type IRIs of every annotated interface the interface extends, directly or not.
+     */
+    Set<IRI> parents;
+
+    /**
+     * The property methods declared by the interface, ordered by {@link PropertyMetadata#getOrdinal()}.
+     */
+    List<PropertyMetadata> properties;
+
+    /**
+     * Describe an interface.
+     *
+     * @param type       The interface described
+     * @param typeIri    The type IRI of the interface
+     * @param parents    The type IRIs of every annotated interface the interface extends
+     * @param properties The property methods declared by the interface
+     */
+    public TypeMetadata(@NonNull Class<? extends Thing> type, @NonNull IRI typeIri, @NonNull Set<IRI> parents,
+                        @NonNull List<PropertyMetadata> properties) {
+        this.type = type;
+        this.typeIri = typeIri;
+        this.parents = Set.copyOf(parents);
+        this.properties = List.copyOf(properties);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.metrics;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.ValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * A service provider interface the ORM engine reports its work to: creating and getting {@link Thing}s, the property
+ * methods of proxied {@link Thing}s, {@link ValueConverter} invocations and failures, and the statements copied
+ * between models when a {@link Thing} is linked to one from another model.
+ * <p>
+ * Every method does nothing by default, so implementations only override what they're interested in. They're called
+ * on the caller's thread, from any number of threads at once, and so should be quick and thread safe. Engines skip
+ * the timing altogether when {@link #isEnabled()} is false, which is what makes the {@link #NOOP} default free.
+ * </p>
+ */
+public interface OrmMetrics {
+
+    /**
+     * The default metrics, which ignore everything.
+     */
+    OrmMetrics NOOP = new OrmMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * The kinds of property method a proxied {@link Thing} can intercept.
+     */
+    enum PropertyOperation {
+        GET, STREAM, SET, ADD, REMOVE, CLEAR
+    }
+
+    /**
+     * @return Whether these metrics want to hear about anything at all
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * A {@link Thing} was created through a {@link ThingFactory}.
+     *
+     * @param type  The type IRI of the {@link Thing}
+     * @param nanos How long creating it took, in nanoseconds
+     */
+    default void recordCreate(IRI type, long nanos) {
+    }
+
+    /**
+     * A {@link Thing} was looked up through a {@link ThingFactory}.
+     *
+     * @param type  The type IRI of the {@link Thing}
+     * @param found Whether the {@link Thing} exists in the model
+     * @param nanos How long the lookup took, in nanoseconds
+     */
+    default void recordGet(IRI type, boolean found, long nanos) {
+    }
+
+    /**
+     * A property method of a {@link Thing} was called. Stream methods are reported once their stream runs out or is
+     * closed, timed from the call.
+     *
+     * @param type      The type IRI of the {@link Thing}
+     * @param predicate The predicate of the property
+     * @param operation What the method did with the property
+     * @param nanos     How long the call took, in nanoseconds
+     */
+    default void recordPropertyAccess(IRI type, IRI predicate, PropertyOperation operation, long nanos) {
+    }
+
+    /**
+     * A {@link ValueConverter} was called, in either direction.
+     *
+     * @param type   The type the {@link ValueConverter} works with
+     * @param values The number of values converted by the call
+     * @param nanos  How long the call took, in nanoseconds
+     */
+    default void recordConversion(Class<?> type, int values, long nanos) {
+    }
+
+    /**
+     * A {@link ValueConverter} call failed.
+     *
+     * @param type  The type the {@link ValueConverter} works with
+     * @param cause What it failed with
+     */
+    default void recordConversionFailure(Class<?> type, RuntimeException cause) {
+    }
+
+    /**
+     * The statements about a {@link Thing} were copied into another model, as it was linked to from there through an
+     * object property.
+     *
+     * @param type       The type IRI of the {@link Thing} linking to it
+     * @param predicate  The predicate of the object property
+     * @param statements The number of statements copied
+     */
+    default void recordMerge(IRI type, IRI predicate, int statements) {
+    }
+}
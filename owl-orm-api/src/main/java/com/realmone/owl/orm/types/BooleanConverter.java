@@ -0,0 +1,71 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types;
+
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+
+/**
+ * A {@link ValueConverter} for {@link Boolean}s that can also work with a {@code boolean} directly, without boxing.
+ * Callers that know they're dealing with boolean values should prefer {@link #convertToBoolean(Value)} and
+ * {@link #convertBoolean(boolean)}.
+ */
+public interface BooleanConverter extends ValueConverter<Boolean> {
+
+    /**
+     * Convert a value to a {@code boolean}.
+     *
+     * @param value The {@link Value} to convert
+     * @return The converted {@code boolean}
+     * @throws ValueConversionException If there is an issue converting the value
+     */
+    boolean convertToBoolean(@NonNull Value value) throws ValueConversionException;
+
+    /**
+     * Convert a {@code boolean} into a {@link Value}.
+     *
+     * @param value The {@code boolean} to convert
+     * @return The {@link Value} form of the {@code boolean}
+     * @throws ValueConversionException If there is an issue performing the conversion
+     */
+    Value convertBoolean(boolean value) throws ValueConversionException;
+
+    /**
+     * Convert a batch of values to an array of {@code boolean}s.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted {@code boolean}s, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default boolean[] convertToBooleans(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final boolean[] converted = new boolean[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = convertToBoolean(value);
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Boolean convertValue(@NonNull Value value) throws ValueConversionException {
+        return convertToBoolean(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Value convertType(@NonNull Boolean type) throws ValueConversionException {
+        return convertBoolean(type);
+    }
+}
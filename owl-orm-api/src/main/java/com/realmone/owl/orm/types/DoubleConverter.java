@@ -0,0 +1,71 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types;
+
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+
+/**
+ * A {@link ValueConverter} for {@link Double}s that can also work with a {@code double} directly, without boxing.
+ * Callers that know they're dealing with double values should prefer {@link #convertToDouble(Value)} and
+ * {@link #convertDouble(double)}.
+ */
+public interface DoubleConverter extends ValueConverter<Double> {
+
+    /**
+     * Convert a value to a {@code double}.
+     *
+     * @param value The {@link Value} to convert
+     * @return The converted {@code double}
+     * @throws ValueConversionException If there is an issue converting the value
+     */
+    double convertToDouble(@NonNull Value value) throws ValueConversionException;
+
+    /**
+     * Convert a {@code double} into a {@link Value}.
+     *
+     * @param value The {@code double} to convert
+     * @return The {@link Value} form of the {@code double}
+     * @throws ValueConversionException If there is an issue performing the conversion
+     */
+    Value convertDouble(double value) throws ValueConversionException;
+
+    /**
+     * Convert a batch of values to an array of {@code double}s.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted {@code double}s, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default double[] convertToDoubles(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final double[] converted = new double[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = convertToDouble(value);
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Double convertValue(@NonNull Value value) throws ValueConversionException {
+        return convertToDouble(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Value convertType(@NonNull Double type) throws ValueConversionException {
+        return convertDouble(type);
+    }
+}
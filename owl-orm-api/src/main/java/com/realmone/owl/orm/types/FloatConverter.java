@@ -0,0 +1,71 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types;
+
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+
+/**
+ * A {@link ValueConverter} for {@link Float}s that can also work with a {@code float} directly, without boxing.
+ * Callers that know they're dealing with float values should prefer {@link #convertToFloat(Value)} and
+ * {@link #convertFloat(float)}.
+ */
+public interface FloatConverter extends ValueConverter<Float> {
+
+    /**
+     * Convert a value to a {@code float}.
+     *
+     * @param value The {@link Value} to convert
+     * @return The converted {@code float}
+     * @throws ValueConversionException If there is an issue converting the value
+     */
+    float convertToFloat(@NonNull Value value) throws ValueConversionException;
+
+    /**
+     * Convert a {@code float} into a {@link Value}.
+     *
+     * @param value The {@code float} to convert
+     * @return The {@link Value} form of the {@code float}
+     * @throws ValueConversionException If there is an issue performing the conversion
+     */
+    Value convertFloat(float value) throws ValueConversionException;
+
+    /**
+     * Convert a batch of values to an array of {@code float}s.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted {@code float}s, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default float[] convertToFloats(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final float[] converted = new float[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = convertToFloat(value);
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Float convertValue(@NonNull Value value) throws ValueConversionException {
+        return convertToFloat(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Value convertType(@NonNull Float type) throws ValueConversionException {
+        return convertFloat(type);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types;
+
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+
+/**
+ * A {@link ValueConverter} for {@link Integer}s that can also work with an {@code int} directly, without boxing.
+ * Callers that know they're dealing with int values should prefer {@link #convertToInt(Value)} and
+ * {@link #convertInt(int)}.
+ */
+public interface IntConverter extends ValueConverter<Integer> {
+
+    /**
+     * Convert a value to an {@code int}.
+     *
+     * @param value The {@link Value} to convert
+     * @return The converted {@code int}
+     * @throws ValueConversionException If there is an issue converting the value
+     */
+    int convertToInt(@NonNull Value value) throws ValueConversionException;
+
+    /**
+     * Convert an {@code int} into a {@link Value}.
+     *
+     * @param value The {@code int} to convert
+     * @return The {@link Value} form of the {@code int}
+     * @throws ValueConversionException If there is an issue performing the conversion
+     */
+    Value convertInt(int value) throws ValueConversionException;
+
+    /**
+     * Convert a batch of values to an array of {@code int}s.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted {@code int}s, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default int[] convertToInts(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final int[] converted = new int[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = convertToInt(value);
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Integer convertValue(@NonNull Value value) throws ValueConversionException {
+        return convertToInt(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Value convertType(@NonNull Integer type) throws ValueConversionException {
+        return convertInt(type);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types;
+
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+
+/**
+ * A {@link ValueConverter} for {@link Long}s that can also work with a {@code long} directly, without boxing.
+ * Callers that know they're dealing with long values should prefer {@link #convertToLong(Value)} and
+ * {@link #convertLong(long)}.
+ */
+public interface LongConverter extends ValueConverter<Long> {
+
+    /**
+     * Convert a value to a {@code long}.
+     *
+     * @param value The {@link Value} to convert
+     * @return The converted {@code long}
+     * @throws ValueConversionException If there is an issue converting the value
+     */
+    long convertToLong(@NonNull Value value) throws ValueConversionException;
+
+    /**
+     * Convert a {@code long} into a {@link Value}.
+     *
+     * @param value The {@code long} to convert
+     * @return The {@link Value} form of the {@code long}
+     * @throws ValueConversionException If there is an issue performing the conversion
+     */
+    Value convertLong(long value) throws ValueConversionException;
+
+    /**
+     * Convert a batch of values to an array of {@code long}s.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted {@code long}s, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default long[] convertToLongs(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final long[] converted = new long[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = convertToLong(value);
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Long convertValue(@NonNull Value value) throws ValueConversionException {
+        return convertToLong(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Value convertType(@NonNull Long type) throws ValueConversionException {
+        return convertLong(type);
+    }
+}
@@ -9,6 +9,12 @@ package com.realmone.owl.orm.types;
 
 import lombok.NonNull;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface ValueConverter<T> {
 
@@ -30,8 +36,52 @@ public interface ValueConverter<T> {
      */
     Value convertType(@NonNull T type) throws ValueConversionException;
 
+    /**
+     * Convert a batch of values to the specified type. Implementations may override this with a tighter loop than
+     * converting each value in turn.
+     *
+     * @param values The {@link Value}s to convert
+     * @return The converted instances, in the iteration order of the values
+     * @throws ValueConversionException If there is an issue converting any of the values
+     */
+    default List<T> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<T> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(convertValue(value));
+        }
+        return converted;
+    }
+
+    /**
+     * Convert a batch of instances of the TYPE of object this {@link ValueConverter} works with into {@link Value}s.
+     * Implementations may override this with a tighter loop than converting each instance in turn.
+     *
+     * @param types The objects to convert into {@link Value}s
+     * @return The {@link Value} forms of the objects, in their iteration order
+     * @throws ValueConversionException If there is an issue converting any of the objects
+     */
+    default List<Value> convertTypes(@NonNull Collection<? extends T> types) throws ValueConversionException {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (T type : types) {
+            converted.add(convertType(type));
+        }
+        return converted;
+    }
+
     /**
      * @return The type of class this convert works with
      */
     Class<T> getType();
+
+    /**
+     * A converter can specialize in literals of particular datatypes, for example to decode xsd:decimal literals into
+     * {@link Integer}s. When several converters are registered for a type, a registry may send literals of these
+     * datatypes to the specialized converter, and everything else to the type's general converter.
+     *
+     * @return The literal datatypes this converter specializes in, or an empty set if it is a general converter for
+     * its type
+     */
+    default Set<CoreDatatype> getDatatypes() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.benchmarks;
+
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ExampleClass;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.benchmarks.bier.Beer;
+import com.realmone.owl.orm.benchmarks.bier.Brewery;
+import com.realmone.owl.orm.benchmarks.bier.User;
+import org.eclipse.rdf4j.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks getter and setter calls on existing instances, for functional and non-functional datatype and object
+ * properties of both the hand written {@link ExampleClass} and the generated BierOnto interfaces. With the
+ * {@link ThingEngine#PROXY} engine these go through the invocation handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    private static final String[] NAMES = {"first name", "second name"};
+
+    private static final Double[] STRENGTHS = {4.5, 6.5};
+
+    @Param({"LinkedHashModel", "TreeModel", "ThingModel"})
+    String modelType;
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    @Param({"PROXY", "HIDDEN_CLASS"})
+    ThingEngine engine;
+
+    private ExampleClass[] examples;
+    private Beer[] beers;
+    private User[] users;
+    private int next;
+    private int toggle;
+
+    @Setup
+    public void setUp() {
+        final BaseThingFactory factory = Fixtures.factory(engine);
+        final Model model = Fixtures.newModel(modelType);
+        Fixtures.populateExamples(model, size);
+        Fixtures.populateBierOnto(model, size);
+        examples = new ExampleClass[size];
+        beers = new Beer[size];
+        users = new User[size];
+        for (int i = 0; i < size; i++) {
+            examples[i] = factory.get(ExampleClass.class, Fixtures.example(i), model).orElseThrow();
+            beers[i] = factory.get(Beer.class, Fixtures.beer(i), model).orElseThrow();
+            users[i] = factory.get(User.class, Fixtures.user(i), model).orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public Optional<String> getFunctionalDatatype() {
+        return examples[nextIndex()].getName();
+    }
+
+    @Benchmark
+    public void setFunctionalDatatype() {
+        examples[nextIndex()].setName(NAMES[nextToggle()]);
+    }
+
+    @Benchmark
+    public Set<String> getNonFunctionalDatatype() {
+        return examples[nextIndex()].getList();
+    }
+
+    /**
+     * Adding and then removing a value, so the model doesn't grow between invocations.
+     */
+    @Benchmark
+    public boolean addAndRemoveNonFunctionalDatatype() {
+        final ExampleClass example = examples[nextIndex()];
+        return example.addToList("added") & example.removeFromList("added");
+    }
+
+    @Benchmark
+    public Optional<ExampleClass> getFunctionalObject() {
+        return examples[nextIndex()].getPointsTo();
+    }
+
+    @Benchmark
+    public void setFunctionalObject() {
+        final int index = nextIndex();
+        examples[index].setPointsTo(examples[(index + 1 + nextToggle()) % size]);
+    }
+
+    @Benchmark
+    public Set<ExampleClass> getNonFunctionalObject() {
+        return examples[nextIndex()].getMultiPointsTo();
+    }
+
+    @Benchmark
+    public Optional<String> getGeneratedFunctionalDatatype() {
+        return beers[nextIndex()].getBeerName();
+    }
+
+    @Benchmark
+    public Optional<Double> getGeneratedFunctionalDouble() {
+        return beers[nextIndex()].getAlcoholByVolume();
+    }
+
+    @Benchmark
+    public void setGeneratedFunctionalDouble() {
+        beers[nextIndex()].setAlcoholByVolume(STRENGTHS[nextToggle()]);
+    }
+
+    @Benchmark
+    public Optional<Brewery> getGeneratedFunctionalObject() {
+        return beers[nextIndex()].getBrewery();
+    }
+
+    @Benchmark
+    public Set<User> getGeneratedNonFunctionalObject() {
+        return users[nextIndex()].getKnowsUser();
+    }
+
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    private int nextToggle() {
+        toggle ^= 1;
+        return toggle;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.benchmarks;
+
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ExampleClass;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.benchmarks.bier.Beer;
+import com.realmone.owl.orm.benchmarks.bier.Brewery;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link BaseThingFactory#create} and {@link BaseThingFactory#get} on existing and missing resources, and
+ * the bulk {@link BaseThingFactory#getAll}, {@link BaseThingFactory#streamAll} and {@link BaseThingFactory#createAll}.
+ * The bulk reads look up every instance of a type, so they show how well each model finds the subjects of a type:
+ * all of the examples, or the handful of breweries among many other subjects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    /**
+     * The number of instances {@link #createAllAndRemove()} creates at once.
+     */
+    private static final int BATCH = 100;
+
+    @Param({"LinkedHashModel", "TreeModel", "ThingModel"})
+    String modelType;
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    @Param({"PROXY", "HIDDEN_CLASS"})
+    ThingEngine engine;
+
+    private BaseThingFactory factory;
+    private Model model;
+    private IRI[] examples;
+    private IRI[] beers;
+    private IRI missing;
+    private List<IRI> batch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        factory = Fixtures.factory(engine);
+        model = Fixtures.newModel(modelType);
+        Fixtures.populateExamples(model, size);
+        Fixtures.populateBierOnto(model, size);
+        examples = new IRI[size];
+        beers = new IRI[size];
+        for (int i = 0; i < size; i++) {
+            examples[i] = Fixtures.example(i);
+            beers[i] = Fixtures.beer(i);
+        }
+        missing = Fixtures.example(size);
+        batch = IntStream.range(size, size + BATCH).mapToObj(Fixtures::example).toList();
+    }
+
+    /**
+     * Creating a new instance, then removing it again so the model doesn't grow between invocations.
+     */
+    @Benchmark
+    public ExampleClass createAndRemove() {
+        final ExampleClass created = factory.create(ExampleClass.class, missing, model);
+        model.remove(missing, null, null);
+        return created;
+    }
+
+    @Benchmark
+    public Optional<ExampleClass> get() {
+        return factory.get(ExampleClass.class, examples[nextIndex()], model);
+    }
+
+    @Benchmark
+    public Optional<ExampleClass> getMissing() {
+        return factory.get(ExampleClass.class, missing, model);
+    }
+
+    @Benchmark
+    public Optional<Beer> getGenerated() {
+        return factory.get(Beer.class, beers[nextIndex()], model);
+    }
+
+    @Benchmark
+    public List<ExampleClass> getAll() {
+        return factory.getAll(ExampleClass.class, model);
+    }
+
+    @Benchmark
+    public void streamAll(Blackhole blackhole) {
+        factory.streamAll(ExampleClass.class, model).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<Brewery> getAllSparse() {
+        return factory.getAll(Brewery.class, model);
+    }
+
+    /**
+     * Creating a batch of new instances, then removing them again so the model doesn't grow between invocations.
+     */
+    @Benchmark
+    public List<ExampleClass> createAllAndRemove() {
+        final List<ExampleClass> created = factory.createAll(ExampleClass.class, batch, model);
+        batch.forEach(resource -> model.remove(resource, null, null));
+        return created;
+    }
+
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.benchmarks;
+
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ExampleClass;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.basic.ThingModel;
+import com.realmone.owl.orm.benchmarks.bier.Beer;
+import com.realmone.owl.orm.benchmarks.bier.Brewery;
+import com.realmone.owl.orm.benchmarks.bier.User;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.impl.TreeModel;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * Shared set up for the benchmarks: the factory, the models under test and the data they're filled with.
+ */
+final class Fixtures {
+
+    static final ValueFactory VALUE_FACTORY = SimpleValueFactory.getInstance();
+
+    private static final String EXAMPLE_NAMESPACE = "urn://benchmark/example/";
+    private static final String BEER_NAMESPACE = "urn://benchmark/beer/";
+    private static final String BREWERY_NAMESPACE = "urn://benchmark/brewery/";
+    private static final String USER_NAMESPACE = "urn://benchmark/user/";
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param engine How the factory should implement the interfaces
+     * @return A factory knowing the built-in converters
+     */
+    static BaseThingFactory factory(ThingEngine engine) {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.registerDefaults();
+        return BaseThingFactory.builder()
+                .valueConverterRegistry(registry)
+                .valueFactory(VALUE_FACTORY)
+                .engine(engine)
+                .build();
+    }
+
+    /**
+     * @param modelType The simple name of the {@link Model} implementation to build
+     * @return An empty model of that implementation
+     */
+    static Model newModel(String modelType) {
+        return switch (modelType) {
+            case "LinkedHashModel" -> new LinkedHashModel();
+            case "TreeModel" -> new TreeModel();
+            case "ThingModel" -> new ThingModel();
+            default -> throw new IllegalArgumentException("Unknown model type: " + modelType);
+        };
+    }
+
+    static IRI example(int index) {
+        return VALUE_FACTORY.createIRI(EXAMPLE_NAMESPACE, Integer.toString(index));
+    }
+
+    static IRI beer(int index) {
+        return VALUE_FACTORY.createIRI(BEER_NAMESPACE, Integer.toString(index));
+    }
+
+    static IRI brewery(int index) {
+        return VALUE_FACTORY.createIRI(BREWERY_NAMESPACE, Integer.toString(index));
+    }
+
+    static IRI user(int index) {
+        return VALUE_FACTORY.createIRI(USER_NAMESPACE, Integer.toString(index));
+    }
+
+    /**
+     * Fill a model with a ring of {@link ExampleClass} instances, each with a name, two list entries and links to
+     * their neighbours.
+     *
+     * @param model The model to fill
+     * @param size  The number of instances
+     */
+    static void populateExamples(Model model, int size) {
+        final IRI type = VALUE_FACTORY.createIRI(ExampleClass.TYPE_IRI);
+        final IRI name = VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_NAME);
+        final IRI list = VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST);
+        final IRI pointsTo = VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_POINTSTO);
+        final IRI multiPointsTo = VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_MULTIPOINTSTO);
+        for (int i = 0; i < size; i++) {
+            final IRI subject = example(i);
+            model.add(subject, RDF.TYPE, type);
+            model.add(subject, name, VALUE_FACTORY.createLiteral("name-" + i));
+            model.add(subject, list, VALUE_FACTORY.createLiteral("shared"));
+            model.add(subject, list, VALUE_FACTORY.createLiteral("entry-" + i));
+            model.add(subject, pointsTo, example((i + 1) % size));
+            model.add(subject, multiPointsTo, example((i + 1) % size));
+            model.add(subject, multiPointsTo, example((i + 2) % size));
+        }
+    }
+
+    /**
+     * @param size The number of beers
+     * @return The number of breweries brewing them
+     */
+    static int breweries(int size) {
+        return Math.max(1, size / 100);
+    }
+
+    /**
+     * Fill a model with instances of the generated BierOnto interfaces: beers brewed by one of a handful of breweries,
+     * and users who know their neighbours.
+     *
+     * @param model The model to fill
+     * @param size  The number of beers and of users
+     */
+    static void populateBierOnto(Model model, int size) {
+        final int breweries = breweries(size);
+        for (int i = 0; i < breweries; i++) {
+            model.add(brewery(i), RDF.TYPE, Brewery.TYPE);
+            model.add(brewery(i), Brewery.BREWERYNAME, VALUE_FACTORY.createLiteral("brewery-" + i));
+        }
+        for (int i = 0; i < size; i++) {
+            model.add(beer(i), RDF.TYPE, Beer.TYPE);
+            model.add(beer(i), Beer.BEERNAME, VALUE_FACTORY.createLiteral("beer-" + i));
+            model.add(beer(i), Beer.ALCOHOLBYVOLUME, VALUE_FACTORY.createLiteral(4.0 + i % 80 / 10.0));
+            model.add(beer(i), Beer.BREWERY, brewery(i % breweries));
+            model.add(user(i), RDF.TYPE, User.TYPE);
+            model.add(user(i), User.USERID, VALUE_FACTORY.createLiteral("user-" + i));
+            model.add(user(i), User.KNOWSUSER, user((i + 1) % size));
+        }
+    }
+}
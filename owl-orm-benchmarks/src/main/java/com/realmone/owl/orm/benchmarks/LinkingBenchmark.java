@@ -0,0 +1,128 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.benchmarks;
+
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ExampleClass;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.benchmarks.bier.Beer;
+import com.realmone.owl.orm.benchmarks.bier.Brewery;
+import com.realmone.owl.orm.benchmarks.bier.User;
+import org.eclipse.rdf4j.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks linking instances through object properties, with the linked instance either in the same model or in
+ * another one (whose statements about it get copied over). The targets are linked again on every pass, so after the
+ * first pass this measures the lookup and merge rather than the growth of the model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkingBenchmark {
+
+    /**
+     * The number of instances in the other model.
+     */
+    private static final int OTHER_SIZE = 100;
+
+    @Param({"LinkedHashModel", "TreeModel", "ThingModel"})
+    String modelType;
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    @Param({"PROXY", "HIDDEN_CLASS"})
+    ThingEngine engine;
+
+    private ExampleClass[] examples;
+    private ExampleClass[] otherExamples;
+    private Beer[] beers;
+    private Brewery[] otherBreweries;
+    private User[] users;
+    private User[] otherUsers;
+    private int next;
+    private int nextOther;
+
+    @Setup
+    public void setUp() {
+        final BaseThingFactory factory = Fixtures.factory(engine);
+        final Model model = Fixtures.newModel(modelType);
+        Fixtures.populateExamples(model, size);
+        Fixtures.populateBierOnto(model, size);
+        // The other model uses the same subjects, so its instances stand in for copies of those in the main model.
+        final Model other = Fixtures.newModel(modelType);
+        Fixtures.populateExamples(other, OTHER_SIZE);
+        Fixtures.populateBierOnto(other, OTHER_SIZE);
+        examples = new ExampleClass[size];
+        beers = new Beer[size];
+        users = new User[size];
+        for (int i = 0; i < size; i++) {
+            examples[i] = factory.get(ExampleClass.class, Fixtures.example(i), model).orElseThrow();
+            beers[i] = factory.get(Beer.class, Fixtures.beer(i), model).orElseThrow();
+            users[i] = factory.get(User.class, Fixtures.user(i), model).orElseThrow();
+        }
+        otherExamples = new ExampleClass[OTHER_SIZE];
+        otherBreweries = new Brewery[OTHER_SIZE];
+        otherUsers = new User[OTHER_SIZE];
+        for (int i = 0; i < OTHER_SIZE; i++) {
+            otherExamples[i] = factory.get(ExampleClass.class, Fixtures.example(i), other).orElseThrow();
+            otherBreweries[i] = factory.get(Brewery.class,
+                    Fixtures.brewery(i % Fixtures.breweries(OTHER_SIZE)), other).orElseThrow();
+            otherUsers[i] = factory.get(User.class, Fixtures.user(i), other).orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public boolean addToSameModel() {
+        final int index = nextIndex();
+        return examples[index].addToMultiPointsTo(examples[(index + 3) % size]);
+    }
+
+    @Benchmark
+    public boolean addToAcrossModels() {
+        return examples[nextIndex()].addToMultiPointsTo(otherExamples[nextOtherIndex()]);
+    }
+
+    @Benchmark
+    public boolean addToGeneratedAcrossModels() {
+        return users[nextIndex()].addToKnowsUser(otherUsers[nextOtherIndex()]);
+    }
+
+    @Benchmark
+    public void setGeneratedAcrossModels() {
+        beers[nextIndex()].setBrewery(otherBreweries[nextOtherIndex()]);
+    }
+
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    private int nextOtherIndex() {
+        final int index = nextOther;
+        nextOther = index + 1 == OTHER_SIZE ? 0 : index + 1;
+        return index;
+    }
+}
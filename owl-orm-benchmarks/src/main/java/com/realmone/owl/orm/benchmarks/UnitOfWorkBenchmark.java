@@ -0,0 +1,141 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.benchmarks;
+
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ExampleClass;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.basic.UnitOfWork;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks writes through a {@link UnitOfWork}: recording changes and flushing them to the model in one batch, next
+ * to the same writes made straight to the model, and creating instances that are then discarded without touching the
+ * model at all.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitOfWorkBenchmark {
+
+    /**
+     * The number of instances written to, or created, between flushes.
+     */
+    private static final int BATCH = 100;
+
+    private static final String[] NAMES = {"first name", "second name"};
+
+    @Param({"LinkedHashModel", "TreeModel", "ThingModel"})
+    String modelType;
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    @Param({"PROXY", "HIDDEN_CLASS"})
+    ThingEngine engine;
+
+    private BaseThingFactory factory;
+    private Model model;
+    private UnitOfWork unitOfWork;
+    private ExampleClass[] direct;
+    private ExampleClass[] tracked;
+    private List<IRI> batch;
+    private int next;
+    private int toggle;
+
+    @Setup
+    public void setUp() {
+        factory = Fixtures.factory(engine);
+        model = Fixtures.newModel(modelType);
+        Fixtures.populateExamples(model, size);
+        unitOfWork = factory.beginUnitOfWork(model);
+        direct = new ExampleClass[size];
+        tracked = new ExampleClass[size];
+        for (int i = 0; i < size; i++) {
+            direct[i] = factory.get(ExampleClass.class, Fixtures.example(i), model).orElseThrow();
+            tracked[i] = unitOfWork.get(ExampleClass.class, Fixtures.example(i)).orElseThrow();
+        }
+        batch = IntStream.range(size, size + BATCH).mapToObj(Fixtures::example).toList();
+    }
+
+    /**
+     * Setting the names of a batch of instances straight on the model, as a baseline for
+     * {@link #setBatchAndFlush()}.
+     */
+    @Benchmark
+    public void setBatchDirect() {
+        final String name = NAMES[nextToggle()];
+        for (int i = 0; i < BATCH; i++) {
+            direct[nextIndex()].setName(name);
+        }
+    }
+
+    /**
+     * Setting the names of a batch of instances through the unit of work, then flushing them to the model.
+     */
+    @Benchmark
+    public void setBatchAndFlush() {
+        final String name = NAMES[nextToggle()];
+        for (int i = 0; i < BATCH; i++) {
+            tracked[nextIndex()].setName(name);
+        }
+        unitOfWork.flush();
+    }
+
+    /**
+     * Setting a name back and forth through the unit of work, which leaves nothing to flush.
+     */
+    @Benchmark
+    public boolean setAndRevert() {
+        final ExampleClass example = tracked[nextIndex()];
+        final String name = example.getName().orElseThrow();
+        example.setName(NAMES[nextToggle()]);
+        example.setName(name);
+        return unitOfWork.hasChanges();
+    }
+
+    /**
+     * Creating a batch of new instances through the unit of work, then discarding them, so the model never sees them.
+     */
+    @Benchmark
+    public List<ExampleClass> createAllAndDiscard() {
+        final List<ExampleClass> created = unitOfWork.createAll(ExampleClass.class, batch);
+        unitOfWork.discard();
+        return created;
+    }
+
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    private int nextToggle() {
+        toggle ^= 1;
+        return toggle;
+    }
+}
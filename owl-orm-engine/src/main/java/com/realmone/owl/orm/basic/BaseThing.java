@@ -9,8 +9,17 @@ package com.realmone.owl.orm.basic;
 
 import com.realmone.owl.orm.OrmException;
 import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import com.realmone.owl.orm.metrics.OrmMetrics.PropertyOperation;
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.DoubleConverter;
+import com.realmone.owl.orm.types.FloatConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.LongConverter;
+import com.realmone.owl.orm.types.ValueConverter;
 import com.realmone.owl.orm.types.ValueConverterRegistry;
-import lombok.AccessLevel;
+import com.realmone.owl.orm.types.impl.OrmConversion;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -22,13 +31,33 @@ import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * This is a base implementation of the {@link Thing} interface that will allow generalized proxying of "things" defined
- * in your OWL ontologies.
+ * in your OWL ontologies. Besides the untyped {@link Thing} operations, it exposes the typed property operations that
+ * back the generated accessor methods, so that both proxies and generated implementation classes share them.
+ * <p>
+ * The typed property operations record {@link OrmPropertyAccess} and {@link OrmConversion} Flight Recorder events,
+ * which cost next to nothing unless a recording has them enabled. They're also timed for the
+ * {@link com.realmone.owl.orm.metrics.OrmMetrics} of a {@link BaseThingFactory} that has them, whichever engine
+ * backs the instance.
  */
 public class BaseThing implements Thing {
 
@@ -67,32 +96,32 @@ public class BaseThing implements Thing {
     @NonNull
     protected final ValueConverterRegistry valueConverterRegistry;
 
-    @Getter(AccessLevel.PACKAGE)
-    protected boolean detached = false;
+    /**
+     * The {@link ThingFactory} used to resolve the values of object properties. May be null, in which case object
+     * properties cannot be read.
+     */
+    protected final ThingFactory factory;
 
     @Builder(setterPrefix = "use")
     protected BaseThing(@NonNull Resource resource, @NonNull Model model, @NonNull IRI typeIri, Set<IRI> parents,
-                        @NonNull ValueConverterRegistry registry, boolean create) {
+                        @NonNull ValueConverterRegistry registry, boolean create, ThingFactory factory) {
         this.resource = resource;
         this.model = model;
         this.parents = parents != null ? parents : new HashSet<>();
         this.typeIri = typeIri;
         this.valueConverterRegistry = registry;
-        boolean exists = !model.filter(resource, RDF.TYPE, typeIri).isEmpty();
-        if (!exists) {
-            if (create) { // If it doesn't exist and we are creating, add the statement.
-                this.model.add(resource, RDF.TYPE, typeIri);
-                this.parents.forEach(parent -> this.model.add(resource, RDF.TYPE, parent));
-            } else { // If it doesn't exist and we are not creating, note that we are detached for the facade...
-                detached = true;
-            }
-        } else {
-            if (create) { // If it exists and we are creating, raise an exception...
+        this.factory = factory;
+        if (create) {
+            // If it exists and we are creating, raise an exception...
+            if (model.contains(resource, RDF.TYPE, typeIri)) {
                 throw new OrmException("Cannot create an instance of '" + typeIri + "' with resource '"
                         + resource.stringValue() + "' as it already exists in our underlying model");
             }
-            // Just get it if it exists!
+            // If it doesn't exist and we are creating, add the statement.
+            this.model.add(resource, RDF.TYPE, typeIri);
+            this.parents.forEach(parent -> this.model.add(resource, RDF.TYPE, parent));
         }
+        // Otherwise we're just getting it, and whether it exists is checked on demand by isDetached().
     }
 
     /**
@@ -108,6 +137,10 @@ public class BaseThing implements Thing {
      */
     @Override
     public Set<Value> getProperties(@NonNull final IRI predicate, @NonNull final IRI... context) {
+        // Skip building a filtered view of the model when it can look our values up directly.
+        if (context.length == 0 && model instanceof ThingModel thingModel) {
+            return thingModel.objects(resource, predicate);
+        }
         return model.filter(resource, predicate, null, context).objects();
     }
 
@@ -118,6 +151,7 @@ public class BaseThing implements Thing {
     public boolean setProperty(@NonNull Value value, @NonNull IRI predicate, IRI... context) {
         // Remove other properties with same prediciate...
         model.remove(getResource(), predicate, null, context);
+        typesChanged(predicate);
         return model.add(getResource(), predicate, value, context);
 
     }
@@ -129,6 +163,7 @@ public class BaseThing implements Thing {
     public void setProperties(@NonNull Set<Value> values, @NonNull IRI predicate, IRI... context) {
         // Remove other properties with same predicate...
         model.remove(getResource(), predicate, null, context);
+        typesChanged(predicate);
         values.forEach(value -> model.add(getResource(), predicate, value, context));
     }
 
@@ -145,6 +180,7 @@ public class BaseThing implements Thing {
      */
     @Override
     public boolean removeProperty(@NonNull Value value, @NonNull IRI predicate, IRI... context) {
+        typesChanged(predicate);
         return model.remove(resource, predicate, value, context);
     }
 
@@ -153,6 +189,1053 @@ public class BaseThing implements Thing {
      */
     @Override
     public boolean clearProperty(@NonNull IRI predicate, IRI... context) {
+        typesChanged(predicate);
         return model.remove(resource, predicate, null, context);
     }
+
+    /**
+     * Whether the type statement backing this instance is missing from the model. This is only checked on demand, so
+     * callers that already know the resource is typed (like bulk enumeration of a type) don't pay for it.
+     *
+     * @return True if the model doesn't say our resource is of our type
+     */
+    boolean isDetached() {
+        return !model.contains(resource, RDF.TYPE, typeIri);
+    }
+
+    /**
+     * Provides a string representation of this {@link Thing}.
+     *
+     * @return A string describing the resource and type of this instance
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " {resource=" + resource.stringValue()
+                + " type=" + typeIri.stringValue() + "}";
+    }
+
+    /**
+     * Get the value of a functional property, converted into the given type.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param <T>       The range type of the property
+     * @return The optional value of the property
+     */
+    protected <T> Optional<T> getFunctionalValue(IRI predicate, Class<T> type) {
+        return getFunctionalValue(predicate, type, null);
+    }
+
+    /**
+     * Get the value of a functional property, converted into the given type.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @param <T>       The range type of the property
+     * @return The optional value of the property
+     */
+    protected <T> Optional<T> getFunctionalValue(@NonNull IRI predicate, @NonNull Class<T> type,
+                                                 ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final Optional<T> result;
+        if (isObjectProperty(type)) {
+            final ValueConverter<IRI> iriConverter = converter(IRI.class, converter);
+            result = value.map(iriConverter::convertValue).flatMap(iri -> getThing(type, iri));
+        } else {
+            final ValueConverter<T> valueConverter = converter(type, converter);
+            result = value.map(object -> OrmConversion.convertValue(valueConverter, object));
+        }
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Get the values of a non-functional property, converted into the given type.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param <T>       The range type of the property
+     * @return The set of values of the property; for object properties a lazy, read-only view over the model
+     */
+    protected <T> Set<T> getNonFunctionalValues(IRI predicate, Class<T> type) {
+        return getNonFunctionalValues(predicate, type, null);
+    }
+
+    /**
+     * Get the values of a non-functional property, converted into the given type.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @param <T>       The range type of the property
+     * @return The set of values of the property; for object properties a lazy, read-only view over the model
+     */
+    protected <T> Set<T> getNonFunctionalValues(@NonNull IRI predicate, @NonNull Class<T> type,
+                                                ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Set<T> result;
+        if (isObjectProperty(type)) {
+            // Object properties can be very wide, so hand back a view that only resolves the things it is asked for.
+            final ValueConverter<IRI> iriConverter = converter(IRI.class, converter);
+            result = new ObjectPropertySet<>(getProperties(predicate), type,
+                    value -> requireThing(type, iriConverter.convertValue(value)));
+        } else {
+            result = convertToSet(converter(type, converter), getProperties(predicate));
+        }
+        event.complete(typeIri, predicate, PropertyOperation.GET, result);
+        return result;
+    }
+
+    /**
+     * Stream the values of a property, converted into the given type. Values are converted lazily as they are pulled
+     * from the model, so short-circuiting operations only pay for the elements they consume.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param <T>       The range type of the property
+     * @return A {@link Stream} over the values of the property
+     */
+    protected <T> Stream<T> streamValues(IRI predicate, Class<T> type) {
+        return streamValues(predicate, type, null);
+    }
+
+    /**
+     * Stream the values of a property, converted into the given type. Values are converted lazily as they are pulled
+     * from the model, so short-circuiting operations only pay for the elements they consume.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property; {@link Thing} subtypes are resolved through the factory
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @param <T>       The range type of the property
+     * @return A {@link Stream} over the values of the property
+     */
+    protected <T> Stream<T> streamValues(@NonNull IRI predicate, @NonNull Class<T> type,
+                                         ValueConverter<?> converter) {
+        final Stream<Value> values = streamProperties(predicate);
+        if (isObjectProperty(type)) {
+            final ValueConverter<IRI> iriConverter = converter(IRI.class, converter);
+            return values.map(iriConverter::convertValue).map(iri -> requireThing(type, iri));
+        }
+        final ValueConverter<T> valueConverter = converter(type, converter);
+        return values.map(value -> OrmConversion.convertValue(valueConverter, value));
+    }
+
+    /**
+     * Get the value of a functional {@code int} property. If the registered converter is an {@link IntConverter}, the
+     * value is never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @return The optional value of the property
+     */
+    protected OptionalInt getIntValue(IRI predicate) {
+        return getIntValue(predicate, null);
+    }
+
+    /**
+     * Get the value of a functional {@code int} property. If the converter is an {@link IntConverter}, the value is
+     * never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected OptionalInt getIntValue(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final OptionalInt result = value.isPresent()
+                ? OptionalInt.of(intReader(converter).applyAsInt(value.get())) : OptionalInt.empty();
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Get the value of a functional {@code long} property. If the registered converter is a {@link LongConverter}, the
+     * value is never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @return The optional value of the property
+     */
+    protected OptionalLong getLongValue(IRI predicate) {
+        return getLongValue(predicate, null);
+    }
+
+    /**
+     * Get the value of a functional {@code long} property. If the converter is a {@link LongConverter}, the value is
+     * never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected OptionalLong getLongValue(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final OptionalLong result = value.isPresent()
+                ? OptionalLong.of(longReader(converter).applyAsLong(value.get())) : OptionalLong.empty();
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Get the value of a functional {@code double} property. If the registered converter is a {@link DoubleConverter},
+     * the value is never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @return The optional value of the property
+     */
+    protected OptionalDouble getDoubleValue(IRI predicate) {
+        return getDoubleValue(predicate, null);
+    }
+
+    /**
+     * Get the value of a functional {@code double} property. If the converter is a {@link DoubleConverter}, the value
+     * is never boxed.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected OptionalDouble getDoubleValue(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final OptionalDouble result = value.isPresent()
+                ? OptionalDouble.of(doubleReader(converter).applyAsDouble(value.get())) : OptionalDouble.empty();
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Get the value of a functional {@code float} property. If the registered converter is a {@link FloatConverter},
+     * the value is never boxed. The value is widened to a {@code double}, which is exact.
+     *
+     * @param predicate The predicate of the property
+     * @return The optional value of the property
+     */
+    protected OptionalDouble getFloatValue(IRI predicate) {
+        return getFloatValue(predicate, null);
+    }
+
+    /**
+     * Get the value of a functional {@code float} property. If the converter is a {@link FloatConverter}, the value is
+     * never boxed. The value is widened to a {@code double}, which is exact.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected OptionalDouble getFloatValue(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final OptionalDouble result = value.isPresent()
+                ? OptionalDouble.of(floatReader(converter).applyAsDouble(value.get())) : OptionalDouble.empty();
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Stream the values of an {@code int} property, converting them lazily and without boxing when the registered
+     * converter is an {@link IntConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @return An {@link IntStream} over the values of the property
+     */
+    protected IntStream streamIntValues(IRI predicate) {
+        return streamIntValues(predicate, null);
+    }
+
+    /**
+     * Stream the values of an {@code int} property, converting them lazily and without boxing when the converter is an
+     * {@link IntConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return An {@link IntStream} over the values of the property
+     */
+    protected IntStream streamIntValues(@NonNull IRI predicate, ValueConverter<?> converter) {
+        return streamProperties(predicate).mapToInt(intReader(converter));
+    }
+
+    /**
+     * Stream the values of a {@code long} property, converting them lazily and without boxing when the registered
+     * converter is a {@link LongConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @return A {@link LongStream} over the values of the property
+     */
+    protected LongStream streamLongValues(IRI predicate) {
+        return streamLongValues(predicate, null);
+    }
+
+    /**
+     * Stream the values of a {@code long} property, converting them lazily and without boxing when the converter is a
+     * {@link LongConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link LongStream} over the values of the property
+     */
+    protected LongStream streamLongValues(@NonNull IRI predicate, ValueConverter<?> converter) {
+        return streamProperties(predicate).mapToLong(longReader(converter));
+    }
+
+    /**
+     * Stream the values of a {@code double} property, converting them lazily and without boxing when the registered
+     * converter is a {@link DoubleConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @return A {@link DoubleStream} over the values of the property
+     */
+    protected DoubleStream streamDoubleValues(IRI predicate) {
+        return streamDoubleValues(predicate, null);
+    }
+
+    /**
+     * Stream the values of a {@code double} property, converting them lazily and without boxing when the converter is a
+     * {@link DoubleConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link DoubleStream} over the values of the property
+     */
+    protected DoubleStream streamDoubleValues(@NonNull IRI predicate, ValueConverter<?> converter) {
+        return streamProperties(predicate).mapToDouble(doubleReader(converter));
+    }
+
+    /**
+     * Stream the values of a {@code float} property, converting them lazily and without boxing when the registered
+     * converter is a {@link FloatConverter}. They are widened to {@code double}s, which is exact.
+     *
+     * @param predicate The predicate of the property
+     * @return A {@link DoubleStream} over the values of the property
+     */
+    protected DoubleStream streamFloatValues(IRI predicate) {
+        return streamFloatValues(predicate, null);
+    }
+
+    /**
+     * Stream the values of a {@code float} property, converting them lazily and without boxing when the converter is a
+     * {@link FloatConverter}. They are widened to {@code double}s, which is exact.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link DoubleStream} over the values of the property
+     */
+    protected DoubleStream streamFloatValues(@NonNull IRI predicate, ValueConverter<?> converter) {
+        return streamProperties(predicate).mapToDouble(floatReader(converter));
+    }
+
+    /**
+     * Set the value of a functional {@code int} property, without boxing it when the registered converter is an {@link
+     * IntConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     */
+    protected void setIntValue(IRI predicate, int value) {
+        setIntValue(predicate, value, null);
+    }
+
+    /**
+     * Set the value of a functional {@code int} property, without boxing it when the converter is an {@link
+     * IntConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setIntValue(@NonNull IRI predicate, int value, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final ValueConverter<Integer> valueConverter = converter(Integer.class, converter);
+        final Value converted = valueConverter instanceof IntConverter ints
+                ? OrmConversion.convertInt(ints, value) : OrmConversion.convertType(valueConverter, value);
+        setProperty(converted, predicate);
+        event.complete(typeIri, predicate, PropertyOperation.SET, 1);
+    }
+
+    /**
+     * Set the value of a functional {@code long} property, without boxing it when the registered converter is a {@link
+     * LongConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     */
+    protected void setLongValue(IRI predicate, long value) {
+        setLongValue(predicate, value, null);
+    }
+
+    /**
+     * Set the value of a functional {@code long} property, without boxing it when the converter is a {@link
+     * LongConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setLongValue(@NonNull IRI predicate, long value, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final ValueConverter<Long> valueConverter = converter(Long.class, converter);
+        final Value converted = valueConverter instanceof LongConverter longs
+                ? OrmConversion.convertLong(longs, value) : OrmConversion.convertType(valueConverter, value);
+        setProperty(converted, predicate);
+        event.complete(typeIri, predicate, PropertyOperation.SET, 1);
+    }
+
+    /**
+     * Set the value of a functional {@code double} property, without boxing it when the registered converter is a
+     * {@link DoubleConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     */
+    protected void setDoubleValue(IRI predicate, double value) {
+        setDoubleValue(predicate, value, null);
+    }
+
+    /**
+     * Set the value of a functional {@code double} property, without boxing it when the converter is a {@link
+     * DoubleConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setDoubleValue(@NonNull IRI predicate, double value, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final ValueConverter<Double> valueConverter = converter(Double.class, converter);
+        final Value converted = valueConverter instanceof DoubleConverter doubles
+                ? OrmConversion.convertDouble(doubles, value) : OrmConversion.convertType(valueConverter, value);
+        setProperty(converted, predicate);
+        event.complete(typeIri, predicate, PropertyOperation.SET, 1);
+    }
+
+    /**
+     * Set the value of a functional {@code float} property, without boxing it when the registered converter is a {@link
+     * FloatConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     */
+    protected void setFloatValue(IRI predicate, float value) {
+        setFloatValue(predicate, value, null);
+    }
+
+    /**
+     * Set the value of a functional {@code float} property, without boxing it when the converter is a {@link
+     * FloatConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setFloatValue(@NonNull IRI predicate, float value, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final ValueConverter<Float> valueConverter = converter(Float.class, converter);
+        final Value converted = valueConverter instanceof FloatConverter floats
+                ? OrmConversion.convertFloat(floats, value) : OrmConversion.convertType(valueConverter, value);
+        setProperty(converted, predicate);
+        event.complete(typeIri, predicate, PropertyOperation.SET, 1);
+    }
+
+    /**
+     * Get the value of a functional {@code boolean} property. If the registered converter is a {@link
+     * BooleanConverter}, the value is read without going through its boxed conversion.
+     *
+     * @param predicate The predicate of the property
+     * @return The optional value of the property
+     */
+    protected Optional<Boolean> getBooleanValue(IRI predicate) {
+        return getBooleanValue(predicate, null);
+    }
+
+    /**
+     * Get the value of a functional {@code boolean} property. If the converter is a {@link BooleanConverter}, the value
+     * is read without going through its boxed conversion, and only the two cached {@link Boolean}s are ever handed out.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected Optional<Boolean> getBooleanValue(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final Optional<Value> value = getProperty(predicate);
+        final Optional<Boolean> result = value.isPresent()
+                ? Optional.of(booleanReader(converter).test(value.get())) : Optional.empty();
+        event.complete(typeIri, predicate, PropertyOperation.GET, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Stream the values of a {@code boolean} property, converting them lazily through the registered converter, without
+     * its boxed conversion when it is a {@link BooleanConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Boolean> streamBooleanValues(IRI predicate) {
+        return streamBooleanValues(predicate, null);
+    }
+
+    /**
+     * Stream the values of a {@code boolean} property, converting them lazily, without the boxed conversion of the
+     * converter when it is a {@link BooleanConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Boolean> streamBooleanValues(@NonNull IRI predicate, ValueConverter<?> converter) {
+        final Predicate<Value> reader = booleanReader(converter);
+        return streamProperties(predicate).map(reader::test);
+    }
+
+    /**
+     * Set the value of a functional {@code boolean} property, without boxing it when the registered converter is a
+     * {@link BooleanConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     */
+    protected void setBooleanValue(IRI predicate, boolean value) {
+        setBooleanValue(predicate, value, null);
+    }
+
+    /**
+     * Set the value of a functional {@code boolean} property, without boxing it when the converter is a {@link
+     * BooleanConverter}.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBooleanValue(@NonNull IRI predicate, boolean value, ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final ValueConverter<Boolean> valueConverter = converter(Boolean.class, converter);
+        final Value converted = valueConverter instanceof BooleanConverter booleans
+                ? OrmConversion.convertBoolean(booleans, value) : OrmConversion.convertType(valueConverter, value);
+        setProperty(converted, predicate);
+        event.complete(typeIri, predicate, PropertyOperation.SET, 1);
+    }
+
+    /**
+     * Set the value of a functional {@code Boolean} property through {@link #setBooleanValue(IRI, boolean,
+     * ValueConverter)}. A null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set, or null
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBoxedBooleanValue(IRI predicate, Boolean value, ValueConverter<?> converter) {
+        if (value == null) {
+            setFunctionalValue(predicate, Boolean.class, null, converter);
+        } else {
+            setBooleanValue(predicate, value, converter);
+        }
+    }
+
+    /**
+     * Get the value of a functional {@code Integer} property through {@link #getIntValue(IRI, ValueConverter)}, only
+     * boxing it once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected Optional<Integer> getBoxedIntValue(IRI predicate, ValueConverter<?> converter) {
+        final OptionalInt value = getIntValue(predicate, converter);
+        return value.isPresent() ? Optional.of(value.getAsInt()) : Optional.empty();
+    }
+
+    /**
+     * Stream the values of an {@code Integer} property through {@link #streamIntValues(IRI, ValueConverter)}, only
+     * boxing them once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Integer> streamBoxedIntValues(IRI predicate, ValueConverter<?> converter) {
+        return streamIntValues(predicate, converter).boxed();
+    }
+
+    /**
+     * Set the value of a functional {@code Integer} property through {@link #setIntValue(IRI, int, ValueConverter)}. A
+     * null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set, or null
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBoxedIntValue(IRI predicate, Integer value, ValueConverter<?> converter) {
+        if (value == null) {
+            setFunctionalValue(predicate, Integer.class, null, converter);
+        } else {
+            setIntValue(predicate, value, converter);
+        }
+    }
+
+    /**
+     * Get the value of a functional {@code Long} property through {@link #getLongValue(IRI, ValueConverter)}, only
+     * boxing it once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected Optional<Long> getBoxedLongValue(IRI predicate, ValueConverter<?> converter) {
+        final OptionalLong value = getLongValue(predicate, converter);
+        return value.isPresent() ? Optional.of(value.getAsLong()) : Optional.empty();
+    }
+
+    /**
+     * Stream the values of a {@code Long} property through {@link #streamLongValues(IRI, ValueConverter)}, only boxing
+     * them once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Long> streamBoxedLongValues(IRI predicate, ValueConverter<?> converter) {
+        return streamLongValues(predicate, converter).boxed();
+    }
+
+    /**
+     * Set the value of a functional {@code Long} property through {@link #setLongValue(IRI, long, ValueConverter)}. A
+     * null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set, or null
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBoxedLongValue(IRI predicate, Long value, ValueConverter<?> converter) {
+        if (value == null) {
+            setFunctionalValue(predicate, Long.class, null, converter);
+        } else {
+            setLongValue(predicate, value, converter);
+        }
+    }
+
+    /**
+     * Get the value of a functional {@code Double} property through {@link #getDoubleValue(IRI, ValueConverter)}, only
+     * boxing it once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected Optional<Double> getBoxedDoubleValue(IRI predicate, ValueConverter<?> converter) {
+        final OptionalDouble value = getDoubleValue(predicate, converter);
+        return value.isPresent() ? Optional.of(value.getAsDouble()) : Optional.empty();
+    }
+
+    /**
+     * Stream the values of a {@code Double} property through {@link #streamDoubleValues(IRI, ValueConverter)}, only
+     * boxing them once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Double> streamBoxedDoubleValues(IRI predicate, ValueConverter<?> converter) {
+        return streamDoubleValues(predicate, converter).boxed();
+    }
+
+    /**
+     * Set the value of a functional {@code Double} property through {@link #setDoubleValue(IRI, double,
+     * ValueConverter)}. A null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set, or null
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBoxedDoubleValue(IRI predicate, Double value, ValueConverter<?> converter) {
+        if (value == null) {
+            setFunctionalValue(predicate, Double.class, null, converter);
+        } else {
+            setDoubleValue(predicate, value, converter);
+        }
+    }
+
+    /**
+     * Get the value of a functional {@code Float} property through {@link #getFloatValue(IRI, ValueConverter)}, only
+     * boxing it once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return The optional value of the property
+     */
+    protected Optional<Float> getBoxedFloatValue(IRI predicate, ValueConverter<?> converter) {
+        final OptionalDouble value = getFloatValue(predicate, converter);
+        return value.isPresent() ? Optional.of((float) value.getAsDouble()) : Optional.empty();
+    }
+
+    /**
+     * Stream the values of a {@code Float} property through {@link #streamFloatValues(IRI, ValueConverter)}, only
+     * boxing them once converted.
+     *
+     * @param predicate The predicate of the property
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return A {@link Stream} over the values of the property
+     */
+    protected Stream<Float> streamBoxedFloatValues(IRI predicate, ValueConverter<?> converter) {
+        return streamFloatValues(predicate, converter).mapToObj(value -> (float) value);
+    }
+
+    /**
+     * Set the value of a functional {@code Float} property through {@link #setFloatValue(IRI, float, ValueConverter)}.
+     * A null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param value     The value to set, or null
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setBoxedFloatValue(IRI predicate, Float value, ValueConverter<?> converter) {
+        if (value == null) {
+            setFunctionalValue(predicate, Float.class, null, converter);
+        } else {
+            setFloatValue(predicate, value, converter);
+        }
+    }
+
+    /**
+     * Set the value of a functional property. A null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to set; for object properties either a {@link Thing} or a {@link Resource}
+     */
+    protected void setFunctionalValue(IRI predicate, Class<?> type, Object value) {
+        setFunctionalValue(predicate, type, value, null);
+    }
+
+    /**
+     * Set the value of a functional property. A null value clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to set; for object properties either a {@link Thing} or a {@link Resource}
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setFunctionalValue(@NonNull IRI predicate, @NonNull Class<?> type, Object value,
+                                      ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        if (value == null) {
+            clearProperty(predicate);
+        } else if (isObjectProperty(type)) {
+            // If the arg is a resource, then we'll set it directly
+            if (value instanceof Resource valueResource) {
+                setProperty(valueResource, predicate);
+            }
+            // Otherwise if the arg is a Thing, bring its statements along with it.
+            else if (value instanceof Thing thing) {
+                setProperty(link(thing, predicate), predicate);
+            }
+            // Else we don't know how to handle the argument that was passed in!
+            else {
+                throw new OrmException(String.format("Cannot set a functional property value on '%s' to a " +
+                        "type (%s): %s", this, value.getClass().getName(), value));
+            }
+        } else {
+            setProperty(convert(type, value, converter), predicate);
+        }
+        event.complete(typeIri, predicate, PropertyOperation.SET, value == null ? 0 : 1);
+    }
+
+    /**
+     * Replace the values of a non-functional property. An empty set clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param values    The {@link Set} of values to set
+     */
+    protected void setNonFunctionalValues(IRI predicate, Class<?> type, Set<?> values) {
+        setNonFunctionalValues(predicate, type, values, null);
+    }
+
+    /**
+     * Replace the values of a non-functional property. An empty set clears the property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param values    The {@link Set} of values to set
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     */
+    protected void setNonFunctionalValues(@NonNull IRI predicate, @NonNull Class<?> type, Set<?> values,
+                                          ValueConverter<?> converter) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        if (values == null) {
+            throw new OrmException("Setting non functional property value requires usage of a java.util.Set " +
+                    "argument");
+        } else if (values.isEmpty()) {
+            clearProperty(predicate);
+        } else if (isObjectProperty(type)) {
+            setProperties(values.stream().map(value -> toResource(value, predicate)).collect(Collectors.toSet()),
+                    predicate);
+        } else {
+            setProperties(new HashSet<>(convertAll(type, values, converter)), predicate);
+        }
+        event.complete(typeIri, predicate, PropertyOperation.SET, values);
+    }
+
+    /**
+     * Add a value to a non-functional property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to add
+     * @return Whether the underlying model was modified
+     */
+    protected boolean addValue(IRI predicate, Class<?> type, Object value) {
+        return addValue(predicate, type, value, null);
+    }
+
+    /**
+     * Add a value to a non-functional property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to add
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return Whether the underlying model was modified
+     */
+    protected boolean addValue(@NonNull IRI predicate, @NonNull Class<?> type, Object value,
+                               ValueConverter<?> converter) {
+        if (value == null) {
+            throw new OrmException("Null value cannot be added or removed from a non-functional property");
+        }
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final boolean modified = isObjectProperty(type) ? addProperty(toResource(value, predicate), predicate)
+                : addProperty(convert(type, value, converter), predicate);
+        event.complete(typeIri, predicate, PropertyOperation.ADD, 1);
+        return modified;
+    }
+
+    /**
+     * Remove a value from a non-functional property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to remove
+     * @return Whether the underlying model was modified
+     */
+    protected boolean removeValue(IRI predicate, Class<?> type, Object value) {
+        return removeValue(predicate, type, value, null);
+    }
+
+    /**
+     * Remove a value from a non-functional property.
+     *
+     * @param predicate The predicate of the property
+     * @param type      The range type of the property
+     * @param value     The value to remove
+     * @param converter The {@link ValueConverter} to use, or null to look one up in the registry
+     * @return Whether the underlying model was modified
+     */
+    protected boolean removeValue(@NonNull IRI predicate, @NonNull Class<?> type, Object value,
+                                  ValueConverter<?> converter) {
+        if (value == null) {
+            throw new OrmException("Null value cannot be removed from a non-functional property");
+        }
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final boolean modified = isObjectProperty(type)
+                ? removeProperty(value instanceof Thing thing ? thing.getResource() : (Resource) value, predicate)
+                : removeProperty(convert(type, value, converter), predicate);
+        event.complete(typeIri, predicate, PropertyOperation.REMOVE, 1);
+        return modified;
+    }
+
+    /**
+     * Remove every value of a property.
+     *
+     * @param predicate The predicate of the property
+     * @return Whether the underlying model was modified
+     */
+    protected boolean clearValues(@NonNull IRI predicate) {
+        final OrmPropertyAccess event = OrmPropertyAccess.start(metrics());
+        final boolean modified = clearProperty(predicate);
+        event.complete(typeIri, predicate, PropertyOperation.CLEAR, 0);
+        return modified;
+    }
+
+    /**
+     * Map an object property value to the {@link Resource} it points to, pulling the statements of any {@link Thing}
+     * into our model along the way.
+     */
+    private Resource toResource(Object value, IRI predicate) {
+        if (value instanceof Resource valueResource) {
+            return valueResource;
+        } else if (value instanceof Thing thing) {
+            return link(thing, predicate);
+        } else {
+            throw new OrmException(String.format("Cannot set an object property value on '%s' to a " +
+                    "type (%s): %s", this, value.getClass().getName(), value));
+        }
+    }
+
+    /**
+     * Bring the statements about a {@link Thing} we're about to point to into our model, and return its resource.
+     * Things sharing our model (the usual case) need nothing copied; otherwise only the thing's own statements are,
+     * rather than its whole model.
+     */
+    private Resource link(Thing thing, IRI predicate) {
+        final Model other = thing.getModel();
+        if (other != model) {
+            final OrmModelMerge event = OrmModelMerge.start();
+            final Model statements = other.filter(thing.getResource(), null, null);
+            model.addAll(statements);
+            event.complete(typeIri, predicate, statements.size());
+            final OrmMetrics metrics = metrics();
+            if (metrics != null) {
+                metrics.recordMerge(typeIri, predicate, statements.size());
+            }
+        }
+        return thing.getResource();
+    }
+
+    /**
+     * @return The metrics our factory reports to, or null if nobody is listening
+     */
+    private OrmMetrics metrics() {
+        return factory instanceof BaseThingFactory baseThingFactory ? baseThingFactory.enabledMetrics() : null;
+    }
+
+    /**
+     * Let an identity mapping factory know when types of our resource may be removed, as instances it handed out
+     * could no longer be valid.
+     */
+    private void typesChanged(IRI predicate) {
+        if (RDF.TYPE.equals(predicate) && factory instanceof BaseThingFactory baseThingFactory) {
+            baseThingFactory.invalidate(model, resource);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> getThing(Class<T> type, IRI iri) {
+        if (factory == null) {
+            throw new OrmException("No ThingFactory available to resolve object property values on: " + this);
+        }
+        return (Optional<T>) factory.get((Class<? extends Thing>) type, iri, model);
+    }
+
+    private <T> T requireThing(Class<T> type, IRI iri) {
+        return getThing(type, iri).orElseThrow(() ->
+                new OrmException("Couldn't get thing for IRI in underlying model: " + iri));
+    }
+
+    private <T> Value convert(Class<T> type, Object value, ValueConverter<?> converter) {
+        try {
+            return OrmConversion.convertType(converter(type, converter), type.cast(value));
+        } catch (ClassCastException e) {
+            throw new OrmException("Issue casting an object into a specific type for ValueConversion in ORM", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<Value> convertAll(Class<T> type, Collection<?> values, ValueConverter<?> converter) {
+        try {
+            for (Object value : values) {
+                type.cast(value);
+            }
+            final ValueConverter<T> valueConverter = converter(type, converter);
+            return OrmConversion.convertTypes(valueConverter, (Collection<T>) values);
+        } catch (ClassCastException e) {
+            throw new OrmException("Issue casting an object into a specific type for ValueConversion in ORM", e);
+        }
+    }
+
+    /**
+     * Convert the values of a non-functional property in one batch, into an array of primitives first if the converter
+     * converts them.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Set<T> convertToSet(ValueConverter<T> converter, Set<Value> values) {
+        final Set<Object> converted = new HashSet<>();
+        if (converter instanceof IntConverter ints) {
+            for (int value : OrmConversion.convertToInts(ints, values)) {
+                converted.add(value);
+            }
+        } else if (converter instanceof LongConverter longs) {
+            for (long value : OrmConversion.convertToLongs(longs, values)) {
+                converted.add(value);
+            }
+        } else if (converter instanceof DoubleConverter doubles) {
+            for (double value : OrmConversion.convertToDoubles(doubles, values)) {
+                converted.add(value);
+            }
+        } else if (converter instanceof FloatConverter floats) {
+            for (float value : OrmConversion.convertToFloats(floats, values)) {
+                converted.add(value);
+            }
+        } else if (converter instanceof BooleanConverter booleans) {
+            for (boolean value : OrmConversion.convertToBooleans(booleans, values)) {
+                converted.add(value);
+            }
+        } else {
+            return new HashSet<>(OrmConversion.convertValues(converter, values));
+        }
+        return (Set<T>) converted;
+    }
+
+    /**
+     * Stream the values of a property for one of the stream methods, recording its {@link OrmPropertyAccess} once the
+     * stream has been consumed, so the event covers the conversions and counts the values.
+     */
+    private Stream<Value> streamProperties(IRI predicate) {
+        return OrmPropertyAccess.start(metrics()).stream(typeIri, predicate, getProperties(predicate));
+    }
+
+    /**
+     * Get the bound {@link ValueConverter} if there is one, falling back to the registry otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ValueConverter<T> converter(Class<T> type, ValueConverter<?> bound) {
+        return bound != null ? (ValueConverter<T>) bound : valueConverterRegistry.getValueConverter(type)
+                .orElseThrow(() -> new IllegalArgumentException("Couldn't find Value Converter for type: "
+                        + type.getName()));
+    }
+
+    private ToIntFunction<Value> intReader(ValueConverter<?> bound) {
+        final ValueConverter<Integer> converter = converter(Integer.class, bound);
+        if (converter instanceof IntConverter ints) {
+            return value -> OrmConversion.convertToInt(ints, value);
+        }
+        return value -> OrmConversion.convertValue(converter, value);
+    }
+
+    private ToLongFunction<Value> longReader(ValueConverter<?> bound) {
+        final ValueConverter<Long> converter = converter(Long.class, bound);
+        if (converter instanceof LongConverter longs) {
+            return value -> OrmConversion.convertToLong(longs, value);
+        }
+        return value -> OrmConversion.convertValue(converter, value);
+    }
+
+    private ToDoubleFunction<Value> doubleReader(ValueConverter<?> bound) {
+        final ValueConverter<Double> converter = converter(Double.class, bound);
+        if (converter instanceof DoubleConverter doubles) {
+            return value -> OrmConversion.convertToDouble(doubles, value);
+        }
+        return value -> OrmConversion.convertValue(converter, value);
+    }
+
+    private ToDoubleFunction<Value> floatReader(ValueConverter<?> bound) {
+        final ValueConverter<Float> converter = converter(Float.class, bound);
+        if (converter instanceof FloatConverter floats) {
+            return value -> OrmConversion.convertToFloat(floats, value);
+        }
+        return value -> OrmConversion.convertValue(converter, value);
+    }
+
+    private Predicate<Value> booleanReader(ValueConverter<?> bound) {
+        final ValueConverter<Boolean> converter = converter(Boolean.class, bound);
+        if (converter instanceof BooleanConverter booleans) {
+            return value -> OrmConversion.convertToBoolean(booleans, value);
+        }
+        return value -> OrmConversion.convertValue(converter, value);
+    }
+
+    private static boolean isObjectProperty(Class<?> type) {
+        return Thing.class.isAssignableFrom(type);
+    }
 }
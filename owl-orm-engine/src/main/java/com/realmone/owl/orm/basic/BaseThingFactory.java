@@ -11,62 +11,212 @@ import com.realmone.owl.orm.OrmException;
 import com.realmone.owl.orm.Thing;
 import com.realmone.owl.orm.ThingFactory;
 import com.realmone.owl.orm.annotations.Type;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import com.realmone.owl.orm.types.ValueConverter;
 import com.realmone.owl.orm.types.ValueConverterRegistry;
 import lombok.*;
 import org.eclipse.rdf4j.model.*;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is the base implementation of the {@link ThingFactory} interface. This is the front door for working with OWL
- * ORM API interfaces in your code. It allows the creation of proxy instances of OWL ORM interfaces that will overlay
+ * ORM API interfaces in your code. It allows the creation of instances of OWL ORM interfaces that will overlay
  * RDF4j models.  Use the builder to create an instance of this class for your solution.
+ * <p>
+ * If the code generator emitted a concrete implementation class for an interface (named after the interface with an
+ * {@value #IMPLEMENTATION_SUFFIX} suffix, in the same package) it is instantiated directly. Otherwise the configured
+ * {@link ThingEngine} decides: either a {@link Proxy} is built around a {@link BaseThing} delegate, or a specialized
+ * hidden class is spun for the interface the first time it's requested.
+ * </p>
+ * <p>
+ * Every {@link Thing} handed out records an {@link OrmThingMaterialized} Flight Recorder event, and linking things
+ * across models an {@link OrmModelMerge} one.
+ * </p>
  */
-@Builder
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class BaseThingFactory implements ThingFactory {
 
-    @NonNull
+    /**
+     * The suffix the code generator appends to an interface name for its concrete implementation class.
+     */
+    public static final String IMPLEMENTATION_SUFFIX = "Impl";
+
+    /**
+     * The static method of a generated implementation class resolving the converters its accessors use from a
+     * registry, in the order its extended constructor takes them.
+     */
+    public static final String CONVERTERS_METHOD = "resolveConverters";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseThingFactory.class);
+
+    /**
+     * A class of the ASM library the {@link HiddenClassEngine} is written against, which is an optional dependency.
+     */
+    private static final String ASM_CLASS = "org.objectweb.asm.ClassWriter";
+
     private final ValueConverterRegistry valueConverterRegistry;
 
-    @NonNull
     @Getter
     private final ModelFactory modelFactory;
 
-    @NonNull
     @Getter
     private final ValueFactory valueFactory;
 
+    /**
+     * The per-interface method dispatch plans shared by every proxy this factory builds.
+     */
+    private final DispatchPlans dispatchPlans;
+
+    /**
+     * The engine used for interfaces without a generated implementation class. {@link ThingEngine#HIDDEN_CLASS}
+     * becomes {@link ThingEngine#PROXY} when ASM isn't available.
+     */
+    @Getter
+    private final ThingEngine engine;
+
+    /**
+     * The spinner for hidden class implementations, if that engine is selected.
+     */
+    private final HiddenClassEngine hiddenClassEngine;
+
+    /**
+     * The precomputed metadata of the interfaces of the ontologies this factory was built with, by interface.
+     */
+    private final Map<Class<?>, TypeMetadata> metadata;
+
+    /**
+     * The precomputed metadata of the interfaces of the ontologies this factory was built with, by type IRI.
+     */
+    private final Map<IRI, TypeMetadata> metadataByIri;
+
+    /**
+     * The type IRIs, parents and constructors of each interface this factory has been asked for.
+     */
+    private final ClassValue<TypeDescriptor> descriptors = new ClassValue<>() {
+        @Override
+        protected TypeDescriptor computeValue(Class<?> type) {
+            return describe(type);
+        }
+    };
+
+    /**
+     * The described interfaces extending each interface (including itself) that has been used as a bound for
+     * {@link #getMostSpecific(Class, Resource, Model)}, by type IRI.
+     */
+    private final ClassValue<Map<IRI, TypeMetadata>> subtypes = new ClassValue<>() {
+        @Override
+        protected Map<IRI, TypeMetadata> computeValue(Class<?> bound) {
+            final Map<IRI, TypeMetadata> index = new HashMap<>();
+            metadataByIri.forEach((typeIri, type) -> {
+                if (bound.isAssignableFrom(type.getType())) {
+                    index.put(typeIri, type);
+                }
+            });
+            return Map.copyOf(index);
+        }
+    };
+
+    /**
+     * The descriptors of the combinations of equally specific interfaces {@link #getMostSpecific(Class, Resource,
+     * Model)} has implemented together, by the interfaces combined.
+     */
+    private final ConcurrentMap<List<Class<?>>, TypeDescriptor> combinations = new ConcurrentHashMap<>();
+
+    /**
+     * The live instances handed out by this factory, if identity mapping is enabled.
+     */
+    private final IdentityMap identityMap;
+
+    /**
+     * The metrics this factory and its {@link Thing}s report their work to, or null if nobody is listening.
+     */
+    private final OrmMetrics metrics;
+
+    /**
+     * Build a factory.
+     *
+     * @param valueConverterRegistry The registry of converters between RDF values and Java types
+     * @param modelFactory           The {@link ModelFactory} used when no model is provided, defaults to a
+     *                               {@link ThingModelFactory}
+     * @param valueFactory           The {@link ValueFactory} used to build IRIs
+     * @param engine                 How to implement interfaces without a generated class, defaults to
+     *                               {@link ThingEngine#PROXY}, which {@link ThingEngine#HIDDEN_CLASS} also falls
+     *                               back to if ASM isn't on the classpath
+     * @param identityMap            Whether repeated lookups of the same resource, type and (identical) model should
+     *                               return the same instance. Instances are weakly held. Removing an
+     *                               {@code rdf:type} through a {@link Thing} invalidates the resource; changes made
+     *                               directly to the model need a call to {@link #invalidate(Model, Resource)}.
+     * @param metrics                The {@link OrmMetrics} to report creates, gets, property methods, conversions
+     *                               and merges to, defaults to {@link OrmMetrics#NOOP}
+     * @param ontologies             Precomputed metadata about interfaces (like the {@code OntologyRegistry}
+     *                               classes the code generator emits), used instead of reflecting over their
+     *                               annotations; interfaces not described are still reflected over
+     */
+    @Builder
+    private BaseThingFactory(@NonNull ValueConverterRegistry valueConverterRegistry,
+                             ModelFactory modelFactory, @NonNull ValueFactory valueFactory,
+                             ThingEngine engine, boolean identityMap, OrmMetrics metrics,
+                             @Singular List<OntologyMetadata> ontologies) {
+        this.metrics = metrics != null && metrics.isEnabled() ? metrics : null;
+        // Converters are only wrapped for timing when someone's listening.
+        this.valueConverterRegistry = this.metrics != null
+                ? new MeteredValueConverterRegistry(valueConverterRegistry, this.metrics) : valueConverterRegistry;
+        this.modelFactory = modelFactory != null ? modelFactory : new ThingModelFactory();
+        this.valueFactory = valueFactory;
+        final Map<Class<?>, TypeMetadata> described = new HashMap<>();
+        ontologies.forEach(ontology -> ontology.getTypes().forEach(type -> described.put(type.getType(), type)));
+        this.metadata = Map.copyOf(described);
+        final Map<IRI, TypeMetadata> byIri = new HashMap<>();
+        ontologies.forEach(ontology -> ontology.getTypesByIri().forEach((typeIri, type) -> {
+            if (metadata.containsKey(type)) {
+                byIri.putIfAbsent(typeIri, metadata.get(type));
+            }
+        }));
+        this.metadataByIri = Map.copyOf(byIri);
+        this.dispatchPlans = new DispatchPlans(this.valueConverterRegistry, this.metadata);
+        this.engine = engine == ThingEngine.HIDDEN_CLASS && !isAsmAvailable() ? ThingEngine.PROXY
+                : engine != null ? engine : ThingEngine.PROXY;
+        this.hiddenClassEngine = this.engine == ThingEngine.HIDDEN_CLASS
+                ? new HiddenClassEngine(this.dispatchPlans) : null;
+        this.identityMap = identityMap ? new IdentityMap() : null;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends Thing> T create(Class<T> type, Resource resource, Model model) throws OrmException {
-        Type annotation = getTypeAnnotation(type);
-        Set<IRI> parents = getAllExtendedOrImplementedTypesRecursively(type).stream()
-                .map(parentClazz -> getTypeAnnotation((Class<? extends Thing>) parentClazz))
-                .map(parentType -> valueFactory.createIRI(parentType.value()))
-                .collect(Collectors.toSet());
-        IRI typeIri = valueFactory.createIRI(annotation.value());
-        OwlOrmInvocationHandler handler = OwlOrmInvocationHandler.builder()
-                .useFactory(this)
-                .useValueConverterRegistry(valueConverterRegistry)
-                .useModel(model)
-                .useDelegate(BaseThing.builder()
-                        .useModel(model)
-                        .useResource(resource)
-                        .useTypeIri(typeIri)
-                        .useParents(parents)
-                        .useRegistry(valueConverterRegistry)
-                        .useCreate(true)
-                        .build())
-                .build();
-        return (T) Proxy.newProxyInstance(OwlOrmInvocationHandler.class.getClassLoader(),
-                new Class[]{type}, handler);
+        final TypeDescriptor descriptor = descriptors.get(type);
+        if (metrics == null) {
+            return createThing(type, descriptor, resource, model);
+        }
+        final long start = System.nanoTime();
+        final T thing = createThing(type, descriptor, resource, model);
+        metrics.recordCreate(descriptor.getTypeIri(), System.nanoTime() - start);
+        return thing;
     }
 
     @Override
@@ -85,29 +235,54 @@ public class BaseThingFactory implements ThingFactory {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    public <T extends Thing> List<T> createAll(@NonNull Class<T> type,
+                                               @NonNull Collection<? extends Resource> resources,
+                                               @NonNull Model model) throws OrmException {
+        TypeDescriptor descriptor = descriptors.get(type);
+        Set<Resource> unique = new LinkedHashSet<>(resources);
+        if (unique.size() != resources.size()) {
+            throw new OrmException("Cannot create multiple instances of '" + descriptor.getTypeIri()
+                    + "' with the same resource");
+        }
+        // Check for existing instances in one go before touching the model, so we either create all or none.
+        Set<Resource> existing = new LinkedHashSet<>(unique);
+        existing.retainAll(instances(model, descriptor.getTypeIri()));
+        if (!existing.isEmpty()) {
+            throw new OrmException("Cannot create instances of '" + descriptor.getTypeIri() + "' with resources "
+                    + existing + " as they already exist in our underlying model");
+        }
+        // Write every type statement in a single batch.
+        List<Statement> statements = new ArrayList<>(unique.size() * (1 + descriptor.getParents().size()));
+        for (Resource resource : unique) {
+            statements.add(valueFactory.createStatement(resource, RDF.TYPE, descriptor.getTypeIri()));
+            for (IRI parent : descriptor.getParents()) {
+                statements.add(valueFactory.createStatement(resource, RDF.TYPE, parent));
+            }
+        }
+        model.addAll(statements);
+        List<T> things = new ArrayList<>(unique.size());
+        for (Resource resource : unique) {
+            OrmThingMaterialized event = OrmThingMaterialized.start();
+            T thing = type.cast(wrap(descriptor, newThing(descriptor, resource, model, false)));
+            if (identityMap != null) {
+                identityMap.put(model, resource, type, thing);
+            }
+            event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.CREATE);
+            things.add(thing);
+        }
+        return things;
+    }
+
+    @Override
     public <T extends Thing> Optional<T> get(Class<T> type, Resource resource, Model model) throws OrmException {
-        Type annotation = getTypeAnnotation(type);
-        IRI typeIri = valueFactory.createIRI(annotation.value());
-        BaseThing delegate = BaseThing.builder()
-                .useModel(model)
-                .useResource(resource)
-                .useTypeIri(typeIri)
-                .useRegistry(valueConverterRegistry)
-                .useCreate(false)
-                .build();
-        if (delegate.isDetached()) {
-            return Optional.empty();
-        } else {
-            OwlOrmInvocationHandler handler = OwlOrmInvocationHandler.builder()
-                    .useFactory(this)
-                    .useValueConverterRegistry(valueConverterRegistry)
-                    .useModel(model)
-                    .useDelegate(delegate)
-                    .build();
-            return Optional.of((T) Proxy.newProxyInstance(OwlOrmInvocationHandler.class.getClassLoader(),
-                    new Class[]{type}, handler));
+        final TypeDescriptor descriptor = descriptors.get(type);
+        if (metrics == null) {
+            return getThing(type, descriptor, resource, model);
         }
+        final long start = System.nanoTime();
+        final Optional<T> thing = getThing(type, descriptor, resource, model);
+        metrics.recordGet(descriptor.getTypeIri(), thing.isPresent(), System.nanoTime() - start);
+        return thing;
     }
 
     @Override
@@ -115,6 +290,380 @@ public class BaseThingFactory implements ThingFactory {
         return get(type, valueFactory.createIRI(resource), model);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The interfaces considered are the ones described by the ontologies this factory was built with. When several
+     * unrelated ones are equally specific, the {@link Thing} implements all of them, through the configured
+     * {@link ThingEngine} (generated implementation classes only implement one interface, so aren't used), and is
+     * kept in the identity map like any other. Resources typed with a described subtype but not the bound itself are
+     * still gotten as that subtype; ones without a described subtype of the bound are gotten as the bound itself.
+     * </p>
+     */
+    @Override
+    public <T extends Thing> Optional<T> getMostSpecific(@NonNull Class<T> bound, @NonNull Resource resource,
+                                                         @NonNull Model model) throws OrmException {
+        if (metrics == null) {
+            return getMostSpecificThing(bound, null, resource, model);
+        }
+        final TypeDescriptor descriptor = descriptors.get(bound);
+        final long start = System.nanoTime();
+        final Optional<T> thing = getMostSpecificThing(bound, descriptor, resource, model);
+        metrics.recordGet(descriptor.getTypeIri(), thing.isPresent(), System.nanoTime() - start);
+        return thing;
+    }
+
+    @Override
+    public <T extends Thing> List<T> getAll(Class<T> type, Model model) throws OrmException {
+        return streamAll(type, model).collect(Collectors.toList());
+    }
+
+    @Override
+    public <T extends Thing> Stream<T> streamAll(@NonNull Class<T> type, @NonNull Model model) throws OrmException {
+        TypeDescriptor descriptor = descriptors.get(type);
+        // Walk the type index once. Every subject is known to be typed, so there's no need to check each one again,
+        // and snapshotting them into an array gives us a sized stream that splits evenly.
+        Resource[] subjects = instances(model, descriptor.getTypeIri()).toArray(new Resource[0]);
+        return Arrays.stream(subjects).map(resource -> existing(type, descriptor, resource, model));
+    }
+
+    /**
+     * Start a {@link UnitOfWork} over a model. {@link Thing}s gotten or created through it record their changes
+     * instead of applying them to the model, until the unit of work is flushed.
+     *
+     * @param model The {@link Model} to track changes to
+     * @return The new {@link UnitOfWork}
+     */
+    public UnitOfWork beginUnitOfWork(@NonNull Model model) {
+        return new UnitOfWork(this, model);
+    }
+
+    /**
+     * Forget the instances handed out for a resource in a given model, so the next lookup builds (and checks the
+     * existence of) a new one. Only needed when the types of a resource are changed directly on the model rather
+     * than through a {@link Thing}. Does nothing unless identity mapping is enabled.
+     *
+     * @param model    The {@link Model} the instances overlay
+     * @param resource The {@link Resource} of the instances
+     */
+    public void invalidate(@NonNull Model model, @NonNull Resource resource) {
+        if (identityMap != null) {
+            identityMap.invalidate(model, resource);
+        }
+    }
+
+    /**
+     * Forget every instance handed out for a given model. Does nothing unless identity mapping is enabled.
+     *
+     * @param model The {@link Model} the instances overlay
+     */
+    public void invalidate(@NonNull Model model) {
+        if (identityMap != null) {
+            identityMap.invalidate(model);
+        }
+    }
+
+    /**
+     * @return The {@link OrmMetrics} this factory reports to
+     */
+    public OrmMetrics getMetrics() {
+        return metrics != null ? metrics : OrmMetrics.NOOP;
+    }
+
+    /**
+     * @return The number of live instances in the identity map, or zero if it isn't enabled
+     */
+    int identityMapSize() {
+        return identityMap != null ? identityMap.size() : 0;
+    }
+
+    /**
+     * @return The metrics our {@link Thing}s report to, or null if nobody is listening
+     */
+    OrmMetrics enabledMetrics() {
+        return metrics;
+    }
+
+    private <T extends Thing> T createThing(Class<T> type, TypeDescriptor descriptor, Resource resource,
+                                            Model model) {
+        OrmThingMaterialized event = OrmThingMaterialized.start();
+        T thing = type.cast(wrap(descriptor, newThing(descriptor, resource, model, true)));
+        if (identityMap != null) {
+            identityMap.put(model, resource, type, thing);
+        }
+        event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.CREATE);
+        return thing;
+    }
+
+    private <T extends Thing> Optional<T> getThing(Class<T> type, TypeDescriptor descriptor, Resource resource,
+                                                   Model model) {
+        OrmThingMaterialized event = OrmThingMaterialized.start();
+        if (identityMap != null) {
+            T live = identityMap.get(model, resource, type);
+            if (live != null) {
+                event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.GET);
+                return Optional.of(live);
+            }
+        }
+        BaseThing thing = newThing(descriptor, resource, model, false);
+        if (thing.isDetached()) {
+            return Optional.empty();
+        }
+        T result = register(type, descriptor, thing);
+        event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.GET);
+        return Optional.of(result);
+    }
+
+    /**
+     * Get the most specific {@link Thing} for a resource. The descriptor of the bound is only needed when no described
+     * subtype matches, so it may be left null for this to look up then.
+     */
+    private <T extends Thing> Optional<T> getMostSpecificThing(Class<T> bound, TypeDescriptor boundDescriptor,
+                                                               Resource resource, Model model) {
+        // Read the types of the resource once, and keep the described subtypes of the bound among them.
+        final Map<IRI, TypeMetadata> candidates = subtypes.get(bound);
+        final List<TypeMetadata> matches = new ArrayList<>();
+        for (org.eclipse.rdf4j.model.Value type : model.filter(resource, RDF.TYPE, null).objects()) {
+            final TypeMetadata match = candidates.get(type);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        // The most specific matches are the ones no other match descends from.
+        final List<TypeMetadata> mostSpecific = matches.stream()
+                .filter(match -> matches.stream().noneMatch(other -> other.getParents().contains(match.getTypeIri())))
+                .sorted(Comparator.comparing(match -> match.getTypeIri().stringValue()))
+                .toList();
+        if (mostSpecific.isEmpty()) {
+            return getThing(bound, boundDescriptor != null ? boundDescriptor : descriptors.get(bound), resource,
+                    model);
+        } else if (mostSpecific.size() == 1) {
+            final Class<? extends T> type = mostSpecific.get(0).getType().asSubclass(bound);
+            return Optional.of(existing(type, descriptors.get(type), resource, model));
+        }
+        final List<Class<?>> interfaces = mostSpecific.stream().<Class<?>>map(TypeMetadata::getType).toList();
+        final TypeDescriptor descriptor = combinations.computeIfAbsent(interfaces, this::describe);
+        OrmThingMaterialized event = OrmThingMaterialized.start();
+        T thing = identityMap != null ? identityMap.get(model, resource, interfaces, bound) : null;
+        if (thing == null) {
+            thing = bound.cast(wrap(descriptor, newThing(descriptor, resource, model, false)));
+            if (identityMap != null) {
+                thing = identityMap.putIfAbsent(model, resource, interfaces, bound, thing);
+            }
+        }
+        event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.GET);
+        return Optional.of(thing);
+    }
+
+    /**
+     * Get the {@link Thing} for a resource that is known to be typed with an interface's type.
+     */
+    private <T extends Thing> T existing(Class<T> type, TypeDescriptor descriptor, Resource resource, Model model) {
+        OrmThingMaterialized event = OrmThingMaterialized.start();
+        T thing = identityMap != null ? identityMap.get(model, resource, type) : null;
+        if (thing == null) {
+            thing = register(type, descriptor, newThing(descriptor, resource, model, false));
+        }
+        event.complete(descriptor.getTypeIri(), resource, OrmThingMaterialized.GET);
+        return thing;
+    }
+
+    /**
+     * Wrap a {@link BaseThing} that is known to exist and remember it if identity mapping is enabled.
+     */
+    private <T extends Thing> T register(Class<T> type, TypeDescriptor descriptor, BaseThing thing) {
+        T result = type.cast(wrap(descriptor, thing));
+        return identityMap != null
+                ? identityMap.putIfAbsent(thing.getModel(), thing.getResource(), type, result) : result;
+    }
+
+    /**
+     * Build the {@link BaseThing} for an instance: the concrete implementation if there is one, else the delegate of a
+     * proxy.
+     */
+    private BaseThing newThing(TypeDescriptor descriptor, Resource resource, Model model, boolean create) {
+        if (descriptor.isProxied()) {
+            return new BaseThing(resource, model, descriptor.getTypeIri(), descriptor.getParents(),
+                    valueConverterRegistry, create, this);
+        }
+        try {
+            return (BaseThing) descriptor.getConstructor().invokeExact(resource, model, descriptor.getTypeIri(),
+                    descriptor.getParents(), valueConverterRegistry, create, (ThingFactory) this);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OrmException("Issue instantiating implementation of " + descriptor.getType().getName(), e);
+        }
+    }
+
+    /**
+     * Wrap a {@link BaseThing} in a proxy if its interface doesn't have a concrete implementation.
+     */
+    private Object wrap(TypeDescriptor descriptor, BaseThing thing) {
+        if (!descriptor.isProxied()) {
+            return thing;
+        }
+        OwlOrmInvocationHandler handler = new OwlOrmInvocationHandler(thing, dispatchPlans);
+        if (descriptor.getProxyConstructor() == null) {
+            return Proxy.newProxyInstance(OwlOrmInvocationHandler.class.getClassLoader(),
+                    descriptor.getInterfaces().toArray(Class<?>[]::new), handler);
+        }
+        try {
+            return (Object) descriptor.getProxyConstructor().invokeExact((InvocationHandler) handler);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OrmException("Issue instantiating proxy of " + descriptor.getType().getName(), e);
+        }
+    }
+
+    /**
+     * Work out the {@link TypeDescriptor} for an OWL ORM interface.
+     *
+     * @param type The interface to describe
+     * @return The descriptor to cache for the interface
+     */
+    @SuppressWarnings("unchecked")
+    private TypeDescriptor describe(Class<?> type) {
+        Class<? extends Thing> thingType = (Class<? extends Thing>) type;
+        TypeMetadata typeMetadata = metadata.get(type);
+        IRI typeIri;
+        Set<IRI> parents;
+        if (typeMetadata != null) {
+            typeIri = typeMetadata.getTypeIri();
+            parents = typeMetadata.getParents();
+        } else {
+            typeIri = valueFactory.createIRI(getTypeAnnotation(thingType).value());
+            // Ancestors without a type annotation (like the generated ontology Thing interfaces) don't contribute
+            // types.
+            parents = getAllExtendedOrImplementedTypesRecursively(type).stream()
+                    .map(parentClazz -> parentClazz.getDeclaredAnnotation(Type.class))
+                    .filter(Objects::nonNull)
+                    .map(parentType -> valueFactory.createIRI(parentType.value()))
+                    .collect(Collectors.toSet());
+        }
+        Optional<MethodHandle> constructor = findImplementation(type);
+        if (constructor.isEmpty() && hiddenClassEngine != null) {
+            constructor = hiddenClassEngine.spin(type);
+        }
+        return new TypeDescriptor(thingType, typeIri, parents, constructor.orElse(null),
+                constructor.isPresent() ? null : findProxyConstructor(type));
+    }
+
+    /**
+     * Work out the {@link TypeDescriptor} for a combination of equally specific OWL ORM interfaces, implemented by the
+     * configured engine. Generated implementation classes each implement a single interface, so they can't be used.
+     *
+     * @param interfaces The interfaces to combine
+     * @return The descriptor to cache for the combination
+     */
+    private TypeDescriptor describe(List<Class<?>> interfaces) {
+        final List<TypeDescriptor> combined = interfaces.stream().map(descriptors::get).toList();
+        final Set<IRI> parents = new HashSet<>();
+        combined.forEach(descriptor -> {
+            parents.add(descriptor.getTypeIri());
+            parents.addAll(descriptor.getParents());
+        });
+        final TypeDescriptor first = combined.get(0);
+        parents.remove(first.getTypeIri());
+        Optional<MethodHandle> constructor = hiddenClassEngine != null ? hiddenClassEngine.spin(interfaces)
+                : Optional.empty();
+        return new TypeDescriptor(first.getType(), first.getTypeIri(), parents, interfaces, constructor.orElse(null),
+                constructor.isPresent() ? null : findProxyConstructor(interfaces.toArray(Class<?>[]::new)));
+    }
+
+    private static MethodHandle findProxyConstructor(Class<?>... types) {
+        Class<?> proxyClass = Proxy.newProxyInstance(OwlOrmInvocationHandler.class.getClassLoader(),
+                types, (proxy, method, args) -> null).getClass();
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(proxyClass, MethodType.methodType(void.class, InvocationHandler.class))
+                    .asType(MethodType.methodType(Object.class, InvocationHandler.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Proxies of non-public interfaces aren't accessible to us, so we'll go through Proxy for those.
+            return null;
+        }
+    }
+
+    /**
+     * The subjects typed with a type in a model, straight from the type index of a {@link ThingModel}.
+     */
+    private static Set<Resource> instances(Model model, IRI type) {
+        return model instanceof ThingModel thingModel ? thingModel.instances(type)
+                : model.filter(null, RDF.TYPE, type).subjects();
+    }
+
+    /**
+     * Check whether ASM can be loaded, without touching the {@link HiddenClassEngine} (whose initialization needs it).
+     */
+    private static boolean isAsmAvailable() {
+        try {
+            Class.forName(ASM_CLASS, false, BaseThingFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.warn("ASM isn't available, so the {} engine falls back to {}", ThingEngine.HIDDEN_CLASS,
+                    ThingEngine.PROXY);
+            return false;
+        }
+    }
+
+    /**
+     * Look for a generated implementation class for a given OWL ORM interface. The class must live alongside the
+     * interface, extend {@link BaseThing}, implement the interface and expose the generated constructor.
+     *
+     * @param type The interface to find an implementation for
+     * @return The constructor of the implementation class, if there is a usable one
+     */
+    private Optional<MethodHandle> findImplementation(Class<?> type) {
+        if (!type.isInterface()) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> implementation = Class.forName(type.getName() + IMPLEMENTATION_SUFFIX, true,
+                    type.getClassLoader());
+            if (type.isAssignableFrom(implementation) && BaseThing.class.isAssignableFrom(implementation)) {
+                return Optional.of(findImplementationConstructor(implementation)
+                        .asType(TypeDescriptor.CONSTRUCTOR_TYPE.changeReturnType(BaseThing.class)));
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            // No usable generated implementation, so the engine will handle the interface instead.
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Find the constructor of a generated implementation class. Classes with a {@value #CONVERTERS_METHOD} method
+     * take their converters as a trailing constructor argument, so they're resolved against our registry once here
+     * and bound into the handle instead of being looked up by every instance. Classes generated before that look
+     * their converters up themselves.
+     *
+     * @param implementation The generated implementation class
+     * @return A {@link MethodHandle} of type {@link TypeDescriptor#CONSTRUCTOR_TYPE}
+     */
+    private MethodHandle findImplementationConstructor(Class<?> implementation)
+            throws NoSuchMethodException, IllegalAccessException {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final MethodHandle resolve;
+        try {
+            resolve = lookup.findStatic(implementation, CONVERTERS_METHOD,
+                    MethodType.methodType(ValueConverter[].class, ValueConverterRegistry.class));
+        } catch (NoSuchMethodException e) {
+            return lookup.findConstructor(implementation, TypeDescriptor.CONSTRUCTOR_TYPE);
+        }
+        final MethodHandle constructor = lookup.findConstructor(implementation,
+                TypeDescriptor.CONSTRUCTOR_TYPE.appendParameterTypes(ValueConverter[].class));
+        final ValueConverter<?>[] converters;
+        try {
+            converters = (ValueConverter<?>[]) resolve.invokeExact(valueConverterRegistry);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OrmException("Issue resolving converters of " + implementation.getName(), e);
+        }
+        return MethodHandles.insertArguments(constructor, TypeDescriptor.CONSTRUCTOR_TYPE.parameterCount(),
+                (Object) converters);
+    }
+
     /**
      * Get the type annotation for a given {@link Class} representing a OWL ORM {@link Thing}.
      *
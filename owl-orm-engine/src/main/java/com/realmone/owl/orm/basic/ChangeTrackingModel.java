@@ -0,0 +1,208 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.AbstractModel;
+import org.eclipse.rdf4j.model.impl.FilteredModel;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link Model} overlaying a base model without modifying it. Writes are recorded as a change set of additions
+ * (statements not in the base model) and removals (statements of the base model), and reads see the base model with
+ * the change set applied. Adding a statement that was removed, or removing one that was added, cancels the earlier
+ * change out, so the change set never holds more than the net effect of the writes.
+ */
+final class ChangeTrackingModel extends AbstractModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Resource[] NO_CONTEXTS = new Resource[0];
+
+    private static final Resource[] DEFAULT_CONTEXT = new Resource[]{null};
+
+    private final Model base;
+    private final ThingModel additions = new ThingModel();
+    private final ThingModel removals = new ThingModel();
+
+    ChangeTrackingModel(Model base) {
+        this.base = base;
+    }
+
+    Model getBase() {
+        return base;
+    }
+
+    ThingModel getAdditions() {
+        return additions;
+    }
+
+    ThingModel getRemovals() {
+        return removals;
+    }
+
+    @Override
+    public Set<Namespace> getNamespaces() {
+        return base.getNamespaces();
+    }
+
+    @Override
+    public void setNamespace(Namespace namespace) {
+        base.setNamespace(namespace);
+    }
+
+    @Override
+    public Optional<Namespace> removeNamespace(String prefix) {
+        return base.removeNamespace(prefix);
+    }
+
+    @Override
+    public int size() {
+        return base.size() - removals.size() + additions.size();
+    }
+
+    @Override
+    public boolean add(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        Objects.requireNonNull(subj, "subject can not be null");
+        Objects.requireNonNull(pred, "predicate can not be null");
+        Objects.requireNonNull(obj, "object can not be null");
+        boolean changed = false;
+        for (Resource context : contexts == null || contexts.length == 0 ? DEFAULT_CONTEXT : contexts) {
+            final Resource[] single = new Resource[]{context};
+            if (removals.remove(subj, pred, obj, single)) {
+                // Re-adding a removed statement just cancels the removal.
+                changed = true;
+            } else if (!base.contains(subj, pred, obj, single)) {
+                changed |= additions.add(subj, pred, obj, single);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final Resource[] filter = contexts != null ? contexts : NO_CONTEXTS;
+        return additions.contains(subj, pred, obj, filter) || new Changes(subj, pred, obj, filter).hasNext();
+    }
+
+    @Override
+    public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final List<Statement> matches = new ArrayList<>();
+        new Changes(subj, pred, obj, contexts != null ? contexts : NO_CONTEXTS).forEachRemaining(matches::add);
+        matches.forEach(this::removeStatement);
+        return !matches.isEmpty();
+    }
+
+    @Override
+    public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final Resource[] filter = contexts != null ? contexts : NO_CONTEXTS;
+        return new FilteredModel(this, subj, pred, obj, filter) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Iterator<Statement> iterator() {
+                return new Changes(subj, pred, obj, filter);
+            }
+
+            @Override
+            protected void removeFilteredTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred,
+                                                       Value obj, Resource... contexts) {
+                ChangeTrackingModel.this.removeTermIteration(iterator, subj, pred, obj, contexts);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Statement> iterator() {
+        return new Changes(null, null, null, NO_CONTEXTS);
+    }
+
+    @Override
+    public void removeTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred, Value obj,
+                                    Resource... contexts) {
+        remove(subj, pred, obj, contexts);
+    }
+
+    /**
+     * Remove a statement known to be in this model, either by dropping its addition or recording its removal.
+     */
+    private void removeStatement(Statement statement) {
+        if (!additions.removeWhileIterating(statement)) {
+            removals.add(statement);
+        }
+    }
+
+    /**
+     * Iterates over the statements of the base model that haven't been removed, followed by the additions.
+     */
+    private final class Changes implements Iterator<Statement> {
+
+        private final Iterator<Statement> fromBase;
+        private final Iterator<Statement> fromAdditions;
+        private Statement next;
+        private Statement last;
+        private boolean lastFromBase;
+
+        private Changes(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+            this.fromBase = base.filter(subj, pred, obj, contexts).iterator();
+            this.fromAdditions = additions.filter(subj, pred, obj, contexts).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && fromBase.hasNext()) {
+                final Statement candidate = fromBase.next();
+                if (!removals.contains(candidate)) {
+                    next = candidate;
+                }
+            }
+            return next != null || fromAdditions.hasNext();
+        }
+
+        @Override
+        public Statement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next != null) {
+                last = next;
+                next = null;
+                lastFromBase = true;
+            } else {
+                last = fromAdditions.next();
+                lastFromBase = false;
+            }
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            } else if (lastFromBase) {
+                removals.add(last);
+            } else {
+                fromAdditions.remove();
+            }
+            last = null;
+        }
+    }
+}
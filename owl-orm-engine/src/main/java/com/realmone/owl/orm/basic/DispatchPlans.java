@@ -0,0 +1,106 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.metadata.PropertyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * A cache of {@link MethodPlan}s for every interface our proxies have been asked to handle. Plans are compiled once
+ * per declaring {@link Class} the first time one of its methods is invoked, and are bound to the
+ * {@link ValueConverterRegistry} of the owning factory. Methods of interfaces with {@link TypeMetadata} are compiled
+ * from it; any others from their annotations. Metadata is matched to a method by name, and only used if the method
+ * has the shape and parameter types its {@link PropertyMetadata#getKind() kind} and range call for, so a hand
+ * written overload sharing the name of a property method still goes by its own annotations.
+ */
+final class DispatchPlans {
+
+    private static final ValidatingValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private final ValueConverterRegistry registry;
+    private final ClassValue<Map<Method, MethodPlan>> plans;
+
+    DispatchPlans(@NonNull ValueConverterRegistry registry) {
+        this(registry, Map.of());
+    }
+
+    /**
+     * @param registry The {@link ValueConverterRegistry} to bind converters from
+     * @param metadata The precomputed {@link TypeMetadata} of the interfaces it has, by interface
+     */
+    DispatchPlans(@NonNull ValueConverterRegistry registry, @NonNull Map<Class<?>, TypeMetadata> metadata) {
+        this.registry = registry;
+        this.plans = new ClassValue<>() {
+            @Override
+            protected Map<Method, MethodPlan> computeValue(Class<?> type) {
+                final Map<String, PropertyMetadata> properties = new HashMap<>();
+                final TypeMetadata typeMetadata = metadata.get(type);
+                if (typeMetadata != null) {
+                    typeMetadata.getProperties().forEach(property ->
+                            properties.put(property.getMethodName(), property));
+                }
+                final Map<Method, MethodPlan> table = new HashMap<>();
+                for (Method method : type.getDeclaredMethods()) {
+                    final PropertyMetadata property = properties.get(method.getName());
+                    table.put(method, property != null && fits(method, property)
+                            ? MethodPlan.compile(method, property, registry)
+                            : MethodPlan.compile(method, registry, VALUE_FACTORY));
+                }
+                return Map.copyOf(table);
+            }
+        };
+    }
+
+    /**
+     * Look up the plan for a given {@link Method}.
+     *
+     * @param method The {@link Method} being invoked on a proxy
+     * @return The {@link MethodPlan} describing how to dispatch it
+     */
+    MethodPlan forMethod(Method method) {
+        final MethodPlan plan = plans.get(method.getDeclaringClass()).get(method);
+        // Shouldn't happen for methods handed to an invocation handler, but don't blow up if it does.
+        return plan != null ? plan : MethodPlan.compile(method, registry, VALUE_FACTORY);
+    }
+
+    /**
+     * Whether a method has the parameters and return type of the kind of property method some metadata describes.
+     */
+    private static boolean fits(Method method, PropertyMetadata property) {
+        final int parameters = method.getParameterCount();
+        final Class<?> returnType = method.getReturnType();
+        return switch (property.getKind()) {
+            case GET -> parameters == 0 && returnType != void.class;
+            case STREAM -> parameters == 0 && BaseStream.class.isAssignableFrom(returnType);
+            case SET -> parameters == 1 && (property.isFunctional()
+                    ? accepts(method.getParameterTypes()[0], property.getRange())
+                    : Collection.class.isAssignableFrom(method.getParameterTypes()[0]));
+            case ADD, REMOVE -> parameters == 1 && accepts(method.getParameterTypes()[0], property.getRange());
+            case CLEAR -> parameters == 0;
+        };
+    }
+
+    /**
+     * Whether a parameter takes values of a property's range, primitive parameters taking their boxed range.
+     */
+    private static boolean accepts(Class<?> parameter, Class<?> range) {
+        return parameter.isPrimitive()
+                ? MethodType.methodType(parameter).wrap().returnType().equals(range)
+                : parameter.isAssignableFrom(range);
+    }
+}
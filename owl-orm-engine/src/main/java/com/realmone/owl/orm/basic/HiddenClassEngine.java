@@ -0,0 +1,348 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.metadata.PrimitiveRange;
+import com.realmone.owl.orm.types.ValueConverter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Spins a specialized subclass of {@link BaseThing} for OWL ORM interfaces at runtime. Each
+ * {@link com.realmone.owl.orm.annotations.Property} annotated
+ * method is compiled into a {@link MethodPlan} and then into bytecode calling the matching {@link BaseThing}
+ * operation with the predicate, range type and {@link ValueConverter} loaded from static final fields; boxed primitive
+ * ranges go through the primitive operations. The class is
+ * defined as a hidden class in the package of the interface, so the JIT sees a monomorphic call straight into
+ * {@link BaseThing} instead of the reflective dispatch of a {@link java.lang.reflect.Proxy}.
+ */
+final class HiddenClassEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HiddenClassEngine.class);
+
+    private static final String BASE_THING = Type.getInternalName(BaseThing.class);
+    private static final String OBJECT_ARRAY = Type.getDescriptor(Object[].class);
+    private static final String IRI_DESC = Type.getDescriptor(IRI.class);
+    private static final String CLASS_DESC = Type.getDescriptor(Class.class);
+    private static final String CONVERTER_DESC = Type.getDescriptor(ValueConverter.class);
+    private static final String PROPERTY_ARGS = IRI_DESC + CLASS_DESC;
+
+    private final DispatchPlans plans;
+
+    /**
+     * @param plans The {@link DispatchPlans} to take the plans of the methods to implement from
+     */
+    HiddenClassEngine(@NonNull DispatchPlans plans) {
+        this.plans = plans;
+    }
+
+    /**
+     * Spin a class implementing a given interface. Callers are expected to cache the result.
+     *
+     * @param type The OWL ORM interface
+     * @return A {@link MethodHandle} of type {@link TypeDescriptor#CONSTRUCTOR_TYPE} returning {@link BaseThing}, or
+     * empty if the interface couldn't be implemented this way
+     */
+    Optional<MethodHandle> spin(Class<?> type) {
+        return spin(List.of(type));
+    }
+
+    /**
+     * Spin a class implementing several interfaces at once, defined alongside the first of them. Callers are expected
+     * to cache the result.
+     *
+     * @param types The OWL ORM interfaces
+     * @return A {@link MethodHandle} of type {@link TypeDescriptor#CONSTRUCTOR_TYPE} returning {@link BaseThing}, or
+     * empty if the interfaces couldn't be implemented this way
+     */
+    Optional<MethodHandle> spin(List<Class<?>> types) {
+        if (types.stream().anyMatch(type -> !type.isInterface() || !Thing.class.isAssignableFrom(type))) {
+            return Optional.empty();
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(types.get(0), MethodHandles.lookup());
+            final List<MethodPlan> plans = collectPlans(types);
+            final List<Object> classData = new ArrayList<>(plans.size() * 3);
+            final byte[] bytes = generate(types, plans, classData);
+            final MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(bytes, classData.toArray(),
+                    true);
+            final MethodHandle constructor = hidden.findConstructor(hidden.lookupClass(),
+                            TypeDescriptor.CONSTRUCTOR_TYPE)
+                    .asType(TypeDescriptor.CONSTRUCTOR_TYPE.changeReturnType(BaseThing.class));
+            LOGGER.debug("Spun hidden class {} for {}", hidden.lookupClass().getName(), names(types));
+            return Optional.of(constructor);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOGGER.warn("Couldn't spin a hidden class for {}, falling back to a proxy", names(types), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compile a plan for each abstract method the spun class must implement. {@link Thing} methods are already
+     * implemented by {@link BaseThing}.
+     */
+    private List<MethodPlan> collectPlans(List<Class<?>> types) {
+        final Map<String, Method> methods = new HashMap<>();
+        for (Method method : types.stream().flatMap(type -> Stream.of(type.getMethods())).toList()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || implementedByBaseThing(method)) {
+                continue;
+            }
+            final String descriptor = Type.getMethodDescriptor(method);
+            final String key = method.getName() + descriptor.substring(0, descriptor.indexOf(')') + 1);
+            final Method previous = methods.putIfAbsent(key, method);
+            // Covariant overrides would need bridge methods, leave those to the proxy.
+            if (previous != null && previous.getReturnType() != method.getReturnType()) {
+                throw new OrmException("Conflicting return types for method " + method.getName() + " on "
+                        + names(types));
+            }
+        }
+        return methods.values().stream().map(plans::forMethod).toList();
+    }
+
+    private byte[] generate(List<Class<?>> types, List<MethodPlan> plans, List<Object> classData) {
+        final String name = Type.getInternalName(types.get(0)) + "$$OrmThing";
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, name, null,
+                BASE_THING, types.stream().map(Type::getInternalName).toArray(String[]::new));
+        generateConstructor(writer);
+        final MethodVisitor clinit = writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        clinit.visitCode();
+        clinit.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(MethodHandles.class), "lookup",
+                Type.getMethodDescriptor(Type.getType(MethodHandles.Lookup.class)), false);
+        clinit.visitLdcInsn("_");
+        clinit.visitLdcInsn(Type.getType(Object[].class));
+        clinit.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(MethodHandles.class), "classData",
+                Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(MethodHandles.Lookup.class),
+                        Type.getType(String.class), Type.getType(Class.class)), false);
+        clinit.visitTypeInsn(Opcodes.CHECKCAST, OBJECT_ARRAY);
+        clinit.visitVarInsn(Opcodes.ASTORE, 0);
+        for (MethodPlan plan : plans) {
+            final String prefix = "plan" + classData.size() / 3;
+            final String[] fields = {prefix + "Predicate", prefix + "Type", prefix + "Converter"};
+            if (generateMethod(writer, name, plan, fields)) {
+                final Object[] values = {plan.getPredicate(), plan.getType(), plan.getConverter()};
+                final String[] descriptors = {IRI_DESC, CLASS_DESC, CONVERTER_DESC};
+                for (int i = 0; i < fields.length; i++) {
+                    writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, fields[i],
+                            descriptors[i], null, null).visitEnd();
+                    clinit.visitVarInsn(Opcodes.ALOAD, 0);
+                    clinit.visitLdcInsn(classData.size());
+                    clinit.visitInsn(Opcodes.AALOAD);
+                    clinit.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(descriptors[i]).getInternalName());
+                    clinit.visitFieldInsn(Opcodes.PUTSTATIC, name, fields[i], descriptors[i]);
+                    classData.add(values[i]);
+                }
+            }
+        }
+        clinit.visitInsn(Opcodes.RETURN);
+        clinit.visitMaxs(0, 0);
+        clinit.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void generateConstructor(ClassWriter writer) {
+        final String descriptor = TypeDescriptor.CONSTRUCTOR_TYPE.toMethodDescriptorString();
+        final MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", descriptor, null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        int slot = 1;
+        for (Type argument : Type.getArgumentTypes(descriptor)) {
+            constructor.visitVarInsn(argument.getOpcode(Opcodes.ILOAD), slot);
+            slot += argument.getSize();
+        }
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_THING, "<init>", descriptor, false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    /**
+     * Generate the implementation of a single method.
+     *
+     * @return Whether the method reads the static fields holding the plan's predicate, type and converter
+     */
+    private static boolean generateMethod(ClassWriter writer, String owner, MethodPlan plan, String[] fields) {
+        final Method method = plan.getMethod();
+        final MethodVisitor mv = writer.visitMethod(Opcodes.ACC_PUBLIC, method.getName(),
+                Type.getMethodDescriptor(method), null, null);
+        mv.visitCode();
+        final Class<?> returnType = method.getReturnType();
+        final Class<?>[] params = method.getParameterTypes();
+        final boolean oneReference = params.length == 1 && !params[0].isPrimitive();
+        final boolean booleanResult = returnType == boolean.class || returnType == void.class;
+        final PrimitiveRange primitive = plan.getPrimitive();
+        boolean usesFields = true;
+        switch (plan.getAccessor()) {
+            case GET -> {
+                final Class<?> result = plan.isFunctional() ? Optional.class : Set.class;
+                if (params.length != 0 || !returnType.isAssignableFrom(result)) {
+                    usesFields = unsupported(mv, plan);
+                    break;
+                } else if (primitive != null) {
+                    loadPredicate(mv, owner, fields);
+                    loadConverter(mv, owner, fields);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING, primitive.getGetter(),
+                            "(" + IRI_DESC + CONVERTER_DESC + ")" + Type.getDescriptor(Optional.class), false);
+                    mv.visitInsn(Opcodes.ARETURN);
+                    break;
+                }
+                loadProperty(mv, owner, fields);
+                loadConverter(mv, owner, fields);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING,
+                        plan.isFunctional() ? "getFunctionalValue" : "getNonFunctionalValues",
+                        "(" + PROPERTY_ARGS + CONVERTER_DESC + ")" + Type.getDescriptor(result), false);
+                mv.visitInsn(Opcodes.ARETURN);
+            }
+            case STREAM -> {
+                if (params.length != 0 || !returnType.isAssignableFrom(Stream.class)) {
+                    usesFields = unsupported(mv, plan);
+                    break;
+                } else if (primitive != null) {
+                    loadPredicate(mv, owner, fields);
+                    loadConverter(mv, owner, fields);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING, primitive.getStreamer(),
+                            "(" + IRI_DESC + CONVERTER_DESC + ")" + Type.getDescriptor(Stream.class), false);
+                    mv.visitInsn(Opcodes.ARETURN);
+                    break;
+                }
+                loadProperty(mv, owner, fields);
+                loadConverter(mv, owner, fields);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING, "streamValues",
+                        "(" + PROPERTY_ARGS + CONVERTER_DESC + ")" + Type.getDescriptor(Stream.class), false);
+                mv.visitInsn(Opcodes.ARETURN);
+            }
+            case SET -> {
+                if (!oneReference || returnType != void.class
+                        || (!plan.isFunctional() && !Set.class.isAssignableFrom(params[0]))) {
+                    usesFields = unsupported(mv, plan);
+                    break;
+                } else if (primitive != null && params[0] == primitive.getType()) {
+                    loadPredicate(mv, owner, fields);
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    loadConverter(mv, owner, fields);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING, primitive.getSetter(),
+                            "(" + IRI_DESC + Type.getDescriptor(params[0]) + CONVERTER_DESC + ")V", false);
+                    mv.visitInsn(Opcodes.RETURN);
+                    break;
+                }
+                loadProperty(mv, owner, fields);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                loadConverter(mv, owner, fields);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING,
+                        plan.isFunctional() ? "setFunctionalValue" : "setNonFunctionalValues",
+                        "(" + PROPERTY_ARGS + (plan.isFunctional() ? "Ljava/lang/Object;" : "Ljava/util/Set;")
+                                + CONVERTER_DESC + ")V", false);
+                mv.visitInsn(Opcodes.RETURN);
+            }
+            case ADD, REMOVE -> {
+                if (!oneReference || !booleanResult) {
+                    usesFields = unsupported(mv, plan);
+                    break;
+                } else if (plan.isFunctional()) {
+                    usesFields = fail(mv, "Cannot overlay an add/remove method on a functional property\n\t"
+                            + method.getName());
+                    break;
+                }
+                loadProperty(mv, owner, fields);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                loadConverter(mv, owner, fields);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING,
+                        plan.getAccessor() == MethodPlan.Accessor.ADD ? "addValue" : "removeValue",
+                        "(" + PROPERTY_ARGS + "Ljava/lang/Object;" + CONVERTER_DESC + ")Z", false);
+                returnBoolean(mv, returnType);
+            }
+            case CLEAR -> {
+                if (params.length != 0 || !booleanResult) {
+                    usesFields = unsupported(mv, plan);
+                    break;
+                }
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETSTATIC, owner, fields[0], IRI_DESC);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BASE_THING, "clearValues", "(" + IRI_DESC + ")Z", false);
+                returnBoolean(mv, returnType);
+            }
+            default -> usesFields = unsupported(mv, plan);
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        return usesFields;
+    }
+
+    private static void loadProperty(MethodVisitor mv, String owner, String[] fields) {
+        loadPredicate(mv, owner, fields);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, owner, fields[1], CLASS_DESC);
+    }
+
+    private static void loadPredicate(MethodVisitor mv, String owner, String[] fields) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, owner, fields[0], IRI_DESC);
+    }
+
+    private static void loadConverter(MethodVisitor mv, String owner, String[] fields) {
+        mv.visitFieldInsn(Opcodes.GETSTATIC, owner, fields[2], CONVERTER_DESC);
+    }
+
+    private static void returnBoolean(MethodVisitor mv, Class<?> returnType) {
+        if (returnType == void.class) {
+            mv.visitInsn(Opcodes.POP);
+            mv.visitInsn(Opcodes.RETURN);
+        } else {
+            mv.visitInsn(Opcodes.IRETURN);
+        }
+    }
+
+    private static boolean unsupported(MethodVisitor mv, MethodPlan plan) {
+        return fail(mv, "Issue dispatching unexpected method call: " + plan.getMethod().getName()
+                + "\n\tOn type: " + plan.getMethod().getDeclaringClass().getName());
+    }
+
+    private static boolean fail(MethodVisitor mv, String message) {
+        final String exception = Type.getInternalName(OrmException.class);
+        mv.visitTypeInsn(Opcodes.NEW, exception);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitLdcInsn(message);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, exception, "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitInsn(Opcodes.ATHROW);
+        return false;
+    }
+
+    private static boolean implementedByBaseThing(Method method) {
+        try {
+            BaseThing.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String names(List<Class<?>> types) {
+        return types.stream().map(Class::getName).collect(Collectors.joining(", "));
+    }
+}
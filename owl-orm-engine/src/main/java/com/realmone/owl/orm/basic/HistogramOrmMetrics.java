@@ -0,0 +1,198 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import lombok.Value;
+import org.eclipse.rdf4j.model.IRI;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An {@link OrmMetrics} keeping everything in process, as {@link Histogram}s of latencies in nanoseconds per type,
+ * property and converted class, so you can see which of them dominate without attaching a profiler. Histograms are
+ * created as they're first needed and kept until {@link #reset()}; each takes about 15KB.
+ */
+public class HistogramOrmMetrics implements OrmMetrics {
+
+    private static final PropertyOperation[] OPERATIONS = PropertyOperation.values();
+
+    private final Map<IRI, Histogram> creates = new ConcurrentHashMap<>();
+    private final Map<IRI, Histogram> lookups = new ConcurrentHashMap<>();
+    private final Map<IRI, LongAdder> misses = new ConcurrentHashMap<>();
+    private final Map<IRI, Map<IRI, AtomicReferenceArray<Histogram>>> properties = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Histogram> conversions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> failures = new ConcurrentHashMap<>();
+    private final Map<IRI, Map<IRI, Histogram>> merges = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordCreate(IRI type, long nanos) {
+        lookup(creates, type, key -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordGet(IRI type, boolean found, long nanos) {
+        lookup(lookups, type, key -> new Histogram()).record(nanos);
+        if (!found) {
+            lookup(misses, type, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPropertyAccess(IRI type, IRI predicate, PropertyOperation operation, long nanos) {
+        final AtomicReferenceArray<Histogram> byOperation = lookup(lookup(properties, type,
+                key -> new ConcurrentHashMap<>()), predicate, key -> new AtomicReferenceArray<>(OPERATIONS.length));
+        Histogram histogram = byOperation.get(operation.ordinal());
+        if (histogram == null) {
+            byOperation.compareAndSet(operation.ordinal(), null, new Histogram());
+            histogram = byOperation.get(operation.ordinal());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversion(Class<?> type, int values, long nanos) {
+        lookup(conversions, type, key -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversionFailure(Class<?> type, RuntimeException cause) {
+        lookup(failures, type, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordMerge(IRI type, IRI predicate, int statements) {
+        lookup(lookup(merges, type, key -> new ConcurrentHashMap<>()), predicate, key -> new Histogram())
+                .record(statements);
+    }
+
+    /**
+     * @return The latencies of creating {@link com.realmone.owl.orm.Thing}s, by type IRI
+     */
+    public Map<IRI, Histogram> getCreateLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(creates));
+    }
+
+    /**
+     * @return The latencies of getting {@link com.realmone.owl.orm.Thing}s, found or not, by type IRI
+     */
+    public Map<IRI, Histogram> getLookupLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(lookups));
+    }
+
+    /**
+     * @return The number of lookups that didn't find a {@link com.realmone.owl.orm.Thing}, by type IRI
+     */
+    public Map<IRI, Long> getLookupMisses() {
+        return sums(misses);
+    }
+
+    /**
+     * @return The latencies of property methods, by type IRI and predicate and then by operation
+     */
+    public Map<PropertyKey, Map<PropertyOperation, Histogram>> getPropertyLatencies() {
+        final Map<PropertyKey, Map<PropertyOperation, Histogram>> snapshot = new HashMap<>();
+        properties.forEach((type, predicates) -> predicates.forEach((predicate, byOperation) -> {
+            final Map<PropertyOperation, Histogram> histograms = new EnumMap<>(PropertyOperation.class);
+            for (PropertyOperation operation : OPERATIONS) {
+                final Histogram histogram = byOperation.get(operation.ordinal());
+                if (histogram != null) {
+                    histograms.put(operation, histogram);
+                }
+            }
+            snapshot.put(new PropertyKey(type, predicate), Collections.unmodifiableMap(histograms));
+        }));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return The latencies of converter calls, by the type the converter works with
+     */
+    public Map<Class<?>, Histogram> getConversionLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(conversions));
+    }
+
+    /**
+     * @return The number of failed converter calls, by the type the converter works with
+     */
+    public Map<Class<?>, Long> getConversionFailures() {
+        return sums(failures);
+    }
+
+    /**
+     * @return The number of statements copied between models when linking {@link com.realmone.owl.orm.Thing}s, by
+     * the type IRI of the linking {@link com.realmone.owl.orm.Thing} and the predicate it was linked through
+     */
+    public Map<PropertyKey, Histogram> getMergeSizes() {
+        final Map<PropertyKey, Histogram> snapshot = new HashMap<>();
+        merges.forEach((type, predicates) -> predicates.forEach((predicate, histogram) ->
+                snapshot.put(new PropertyKey(type, predicate), histogram)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Forget everything recorded so far.
+     */
+    public void reset() {
+        creates.clear();
+        lookups.clear();
+        misses.clear();
+        properties.clear();
+        conversions.clear();
+        failures.clear();
+        merges.clear();
+    }
+
+    /**
+     * Get a value from a concurrent map, only going through the (locking) computation when it's missing.
+     */
+    private static <K, V> V lookup(Map<K, V> map, K key, Function<? super K, ? extends V> create) {
+        final V value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, create);
+    }
+
+    private static <K> Map<K, Long> sums(Map<K, LongAdder> adders) {
+        final Map<K, Long> snapshot = new HashMap<>();
+        adders.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * A property of a type of {@link com.realmone.owl.orm.Thing}.
+     */
+    @Value
+    public static class PropertyKey {
+        IRI type;
+        IRI predicate;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the live instance handed out for each (model, resource, type) so repeated lookups return the same object.
+ * The type is usually an interface, but can be any key standing for what the instance implements, like a combination
+ * of interfaces. Models are compared by identity. Instances are only weakly referenced, so they're collected like any
+ * other object once the application lets go of them; their entries are purged as the map is used.
+ * <p>
+ * Instances are grouped by (model, resource), so invalidating a resource only touches the types it was looked up as.
+ * Each group is an immutable map replaced whole under the lock of its slot, as resources are rarely gotten as more
+ * than a handful of types.
+ * </p>
+ */
+final class IdentityMap {
+
+    private final ConcurrentMap<Key, Map<Object, Entry>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Look up the live instance for a resource.
+     *
+     * @return The instance, or null if there isn't a live one
+     */
+    <T> T get(Model model, Resource resource, Class<T> type) {
+        return get(model, resource, type, type);
+    }
+
+    /**
+     * Look up the live instance remembered for a resource under some other key than its class.
+     *
+     * @return The instance, or null if there isn't a live one
+     */
+    <T> T get(Model model, Resource resource, Object type, Class<T> as) {
+        purge();
+        final Map<Object, Entry> types = entries.get(new Key(model, resource));
+        final Entry entry = types != null ? types.get(type) : null;
+        return entry != null ? as.cast(entry.get()) : null;
+    }
+
+    /**
+     * Remember an instance unless another live one was remembered for the same key in the meantime.
+     *
+     * @return The instance callers should use
+     */
+    <T> T putIfAbsent(Model model, Resource resource, Class<T> type, T thing) {
+        return putIfAbsent(model, resource, type, type, thing);
+    }
+
+    /**
+     * Remember an instance under some other key than its class, unless another live one was remembered for the same
+     * key in the meantime.
+     *
+     * @return The instance callers should use
+     */
+    <T> T putIfAbsent(Model model, Resource resource, Object type, Class<T> as, T thing) {
+        purge();
+        final Key key = new Key(model, resource);
+        final Object[] result = new Object[1];
+        entries.compute(key, (ignored, types) -> {
+            final Entry existing = types != null ? types.get(type) : null;
+            final Object live = existing != null ? existing.get() : null;
+            if (live != null) {
+                result[0] = live;
+                return types;
+            }
+            result[0] = thing;
+            return with(types, type, new Entry(key, type, thing, queue));
+        });
+        return as.cast(result[0]);
+    }
+
+    /**
+     * Remember an instance, replacing whatever was remembered for the same key.
+     */
+    void put(Model model, Resource resource, Object type, Object thing) {
+        purge();
+        final Key key = new Key(model, resource);
+        entries.compute(key, (ignored, types) -> with(types, type, new Entry(key, type, thing, queue)));
+    }
+
+    /**
+     * Forget every instance remembered for a resource in a model, whatever its type.
+     */
+    void invalidate(Model model, Resource resource) {
+        entries.remove(new Key(model, resource));
+    }
+
+    /**
+     * Forget every instance remembered for a model.
+     */
+    void invalidate(Model model) {
+        entries.keySet().removeIf(key -> key.model == model);
+    }
+
+    int size() {
+        purge();
+        return entries.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void purge() {
+        Reference<?> collected;
+        while ((collected = queue.poll()) != null) {
+            final Entry entry = (Entry) collected;
+            entries.computeIfPresent(entry.key, (key, types) -> {
+                if (types.get(entry.type) != entry) {
+                    return types;
+                }
+                final Map<Object, Entry> remaining = new HashMap<>(types);
+                remaining.remove(entry.type);
+                return remaining.isEmpty() ? null : Map.copyOf(remaining);
+            });
+        }
+    }
+
+    private static Map<Object, Entry> with(Map<Object, Entry> types, Object type, Entry entry) {
+        if (types == null) {
+            return Map.of(type, entry);
+        }
+        final Map<Object, Entry> updated = new HashMap<>(types);
+        updated.put(type, entry);
+        return Map.copyOf(updated);
+    }
+
+    private static final class Entry extends WeakReference<Object> {
+        private final Key key;
+        private final Object type;
+
+        private Entry(Key key, Object type, Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.key = key;
+            this.type = type;
+        }
+    }
+
+    private static final class Key {
+        private final Model model;
+        private final Resource resource;
+        private final int hash;
+
+        private Key(Model model, Resource resource) {
+            this.model = model;
+            this.resource = resource;
+            this.hash = 31 * System.identityHashCode(model) + resource.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && model == other.model && resource.equals(other.resource);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
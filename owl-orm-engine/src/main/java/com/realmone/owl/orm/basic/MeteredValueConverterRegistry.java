@@ -0,0 +1,423 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.DoubleConverter;
+import com.realmone.owl.orm.types.FloatConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.LongConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ValueConverterRegistry} handing out converters that report every call to an {@link OrmMetrics}. Only used
+ * when a factory has metrics enabled. The wrappers implement the same primitive converter interface as the converter
+ * they wrap, if any, so metering doesn't box primitive property values.
+ */
+final class MeteredValueConverterRegistry implements ValueConverterRegistry {
+
+    private final ValueConverterRegistry delegate;
+    private final OrmMetrics metrics;
+
+    /**
+     * The wrapper last handed out for each type, replaced if the delegate starts answering with another converter.
+     */
+    private final Map<Class<?>, MeteredValueConverter<?>> metered = new ConcurrentHashMap<>();
+
+    MeteredValueConverterRegistry(@NonNull ValueConverterRegistry delegate, @NonNull OrmMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<ValueConverter<T>> getValueConverter(Class<T> type) {
+        return delegate.getValueConverter(type).map(converter -> {
+            final MeteredValueConverter<?> cached = metered.get(type);
+            if (cached != null && cached.delegate == converter) {
+                return (ValueConverter<T>) cached;
+            }
+            final MeteredValueConverter<T> wrapper = MeteredValueConverter.of(converter, metrics);
+            metered.put(type, wrapper);
+            return wrapper;
+        });
+    }
+
+    /**
+     * A {@link ValueConverter} timing the calls to another one.
+     */
+    private static class MeteredValueConverter<T> implements ValueConverter<T> {
+
+        private final ValueConverter<T> delegate;
+        private final OrmMetrics metrics;
+
+        private MeteredValueConverter(ValueConverter<T> delegate, OrmMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Time the calls to a converter, through the same primitive converter interface it implements, if any.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> MeteredValueConverter<T> of(ValueConverter<T> delegate, OrmMetrics metrics) {
+            final MeteredValueConverter<?> metered;
+            if (delegate instanceof IntConverter ints) {
+                metered = new Ints(ints, metrics);
+            } else if (delegate instanceof LongConverter longs) {
+                metered = new Longs(longs, metrics);
+            } else if (delegate instanceof DoubleConverter doubles) {
+                metered = new Doubles(doubles, metrics);
+            } else if (delegate instanceof FloatConverter floats) {
+                metered = new Floats(floats, metrics);
+            } else if (delegate instanceof BooleanConverter booleans) {
+                metered = new Booleans(booleans, metrics);
+            } else {
+                metered = new MeteredValueConverter<>(delegate, metrics);
+            }
+            return (MeteredValueConverter<T>) metered;
+        }
+
+        @Override
+        public T convertValue(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final T converted = delegate.convertValue(value);
+                metrics.recordConversion(delegate.getType(), 1, System.nanoTime() - start);
+                return converted;
+            } catch (RuntimeException e) {
+                metrics.recordConversionFailure(delegate.getType(), e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertType(@NonNull T type) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = delegate.convertType(type);
+                metrics.recordConversion(delegate.getType(), 1, System.nanoTime() - start);
+                return converted;
+            } catch (RuntimeException e) {
+                metrics.recordConversionFailure(delegate.getType(), e);
+                throw e;
+            }
+        }
+
+        @Override
+        public List<T> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final List<T> converted = delegate.convertValues(values);
+                metrics.recordConversion(delegate.getType(), converted.size(), System.nanoTime() - start);
+                return converted;
+            } catch (RuntimeException e) {
+                metrics.recordConversionFailure(delegate.getType(), e);
+                throw e;
+            }
+        }
+
+        @Override
+        public List<Value> convertTypes(@NonNull Collection<? extends T> types) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final List<Value> converted = delegate.convertTypes(types);
+                metrics.recordConversion(delegate.getType(), converted.size(), System.nanoTime() - start);
+                return converted;
+            } catch (RuntimeException e) {
+                metrics.recordConversionFailure(delegate.getType(), e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Class<T> getType() {
+            return delegate.getType();
+        }
+
+        @Override
+        public Set<CoreDatatype> getDatatypes() {
+            return delegate.getDatatypes();
+        }
+
+        void succeeded(long start) {
+            succeeded(start, 1);
+        }
+
+        void succeeded(long start, int count) {
+            metrics.recordConversion(delegate.getType(), count, System.nanoTime() - start);
+        }
+
+        void failed(RuntimeException e) {
+            metrics.recordConversionFailure(delegate.getType(), e);
+        }
+    }
+
+    private static final class Ints extends MeteredValueConverter<Integer> implements IntConverter {
+
+        private final IntConverter ints;
+
+        private Ints(IntConverter ints, OrmMetrics metrics) {
+            super(ints, metrics);
+            this.ints = ints;
+        }
+
+        @Override
+        public int convertToInt(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final int converted = ints.convertToInt(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertInt(int value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = ints.convertInt(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public int[] convertToInts(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final int[] converted = ints.convertToInts(values);
+                succeeded(start, converted.length);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Longs extends MeteredValueConverter<Long> implements LongConverter {
+
+        private final LongConverter longs;
+
+        private Longs(LongConverter longs, OrmMetrics metrics) {
+            super(longs, metrics);
+            this.longs = longs;
+        }
+
+        @Override
+        public long convertToLong(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final long converted = longs.convertToLong(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertLong(long value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = longs.convertLong(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public long[] convertToLongs(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final long[] converted = longs.convertToLongs(values);
+                succeeded(start, converted.length);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Doubles extends MeteredValueConverter<Double> implements DoubleConverter {
+
+        private final DoubleConverter doubles;
+
+        private Doubles(DoubleConverter doubles, OrmMetrics metrics) {
+            super(doubles, metrics);
+            this.doubles = doubles;
+        }
+
+        @Override
+        public double convertToDouble(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final double converted = doubles.convertToDouble(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertDouble(double value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = doubles.convertDouble(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public double[] convertToDoubles(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final double[] converted = doubles.convertToDoubles(values);
+                succeeded(start, converted.length);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Floats extends MeteredValueConverter<Float> implements FloatConverter {
+
+        private final FloatConverter floats;
+
+        private Floats(FloatConverter floats, OrmMetrics metrics) {
+            super(floats, metrics);
+            this.floats = floats;
+        }
+
+        @Override
+        public float convertToFloat(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final float converted = floats.convertToFloat(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertFloat(float value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = floats.convertFloat(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public float[] convertToFloats(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final float[] converted = floats.convertToFloats(values);
+                succeeded(start, converted.length);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Booleans extends MeteredValueConverter<Boolean> implements BooleanConverter {
+
+        private final BooleanConverter booleans;
+
+        private Booleans(BooleanConverter booleans, OrmMetrics metrics) {
+            super(booleans, metrics);
+            this.booleans = booleans;
+        }
+
+        @Override
+        public boolean convertToBoolean(@NonNull Value value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final boolean converted = booleans.convertToBoolean(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Value convertBoolean(boolean value) throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final Value converted = booleans.convertBoolean(value);
+                succeeded(start);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean[] convertToBooleans(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final long start = System.nanoTime();
+            try {
+                final boolean[] converted = booleans.convertToBooleans(values);
+                succeeded(start, converted.length);
+                return converted;
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+    }
+}
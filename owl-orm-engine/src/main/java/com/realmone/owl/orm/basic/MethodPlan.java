@@ -0,0 +1,204 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.metadata.PrimitiveRange;
+import com.realmone.owl.orm.metadata.PropertyMetadata;
+import com.realmone.owl.orm.metrics.OrmMetrics.PropertyOperation;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import lombok.Getter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+
+import java.lang.reflect.Method;
+
+/**
+ * The precompiled dispatch information for a single {@link Method} on an OWL ORM interface. Everything the
+ * {@link OwlOrmInvocationHandler} used to work out on each call (the {@link Property} annotation, the predicate
+ * {@link IRI}, the kind of accessor the method name implies and the {@link ValueConverter} to use) is resolved once
+ * here and reused for every subsequent invocation.
+ */
+@Getter
+final class MethodPlan {
+
+    // Method name prefixes for identifying common method types
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+    private static final String ADDTO_PREFIX = "addTo";
+    private static final String REMOVEFROM_PREFIX = "removeFrom";
+    private static final String CLEAROUT_PREFIX = "clearOut";
+    private static final String STREAM_PREFIX = "stream";
+
+    /**
+     * The kinds of operation a proxied method can map to.
+     */
+    enum Accessor {
+        // Methods declared on Object.
+        TO_STRING, EQUALS, HASH_CODE,
+        // Methods declared on Thing, handled directly by the BaseThing delegate.
+        GET_RESOURCE, GET_MODEL, GET_PARENTS, GET_TYPE_IRI, GET_PROPERTY, GET_PROPERTIES, SET_PROPERTY,
+        SET_PROPERTIES, ADD_PROPERTY, REMOVE_PROPERTY, CLEAR_PROPERTY,
+        // @Property annotated methods on OWL ORM interfaces.
+        GET, STREAM, SET, ADD, REMOVE, CLEAR,
+        // Anything we can't make sense of; raises an exception when invoked.
+        UNSUPPORTED
+    }
+
+    private final Method method;
+    private final Accessor accessor;
+    private final IRI predicate;
+    private final boolean functional;
+    private final Class<?> type;
+    private final boolean objectProperty;
+    /**
+     * The {@link PropertyOperation} calls to this method are reported as, or null if it isn't a property method.
+     */
+    private final PropertyOperation operation;
+    /**
+     * The bound {@link ValueConverter} for this method. For datatype properties this converts to the range type,
+     * for object properties it converts values into {@link IRI}s. May be null if no converter was registered when
+     * the plan was compiled, in which case the registry is consulted at invocation time.
+     */
+    private final ValueConverter<?> converter;
+    /**
+     * The {@link PrimitiveRange} operations a functional getter or setter, or a stream method, goes through, or null if
+     * it uses the generic ones.
+     */
+    private final PrimitiveRange primitive;
+
+    private MethodPlan(Method method, Accessor accessor, IRI predicate, boolean functional, Class<?> type,
+                       ValueConverter<?> converter) {
+        this.method = method;
+        this.accessor = accessor;
+        this.predicate = predicate;
+        this.functional = functional;
+        this.type = type;
+        this.objectProperty = type != null && Thing.class.isAssignableFrom(type);
+        this.converter = converter;
+        this.operation = switch (accessor) {
+            case GET -> PropertyOperation.GET;
+            case STREAM -> PropertyOperation.STREAM;
+            case SET -> PropertyOperation.SET;
+            case ADD -> PropertyOperation.ADD;
+            case REMOVE -> PropertyOperation.REMOVE;
+            case CLEAR -> PropertyOperation.CLEAR;
+            default -> null;
+        };
+        this.primitive = accessor == Accessor.STREAM || (functional && (accessor == Accessor.GET
+                || accessor == Accessor.SET)) ? PrimitiveRange.of(type) : null;
+    }
+
+    /**
+     * Compile the plan for a given {@link Method}.
+     *
+     * @param method       The {@link Method} to build a plan for
+     * @param registry     The {@link ValueConverterRegistry} to bind converters from
+     * @param valueFactory The {@link ValidatingValueFactory} used to parse predicate IRIs
+     * @return The {@link MethodPlan} describing how to dispatch calls to the method
+     */
+    static MethodPlan compile(Method method, ValueConverterRegistry registry, ValidatingValueFactory valueFactory) {
+        final Class<?> declaring = method.getDeclaringClass();
+        if (declaring.equals(Object.class)) {
+            return simple(method, objectAccessor(method));
+        } else if (declaring.equals(Thing.class)) {
+            return simple(method, thingAccessor(method));
+        }
+        final Property propertyAnn = method.getDeclaredAnnotation(Property.class);
+        if (propertyAnn == null) {
+            return simple(method, Accessor.UNSUPPORTED);
+        }
+        final Class<?> type = propertyAnn.type();
+        return new MethodPlan(method, propertyAccessor(method), valueFactory.createIRI(propertyAnn.value()),
+                propertyAnn.functional(), type, bind(type, registry));
+    }
+
+    /**
+     * Compile the plan for a property {@link Method} from precomputed {@link PropertyMetadata}, without looking at
+     * its annotations or name.
+     *
+     * @param method   The {@link Method} to build a plan for
+     * @param metadata The {@link PropertyMetadata} describing the method
+     * @param registry The {@link ValueConverterRegistry} to bind converters from
+     * @return The {@link MethodPlan} describing how to dispatch calls to the method
+     */
+    static MethodPlan compile(Method method, PropertyMetadata metadata, ValueConverterRegistry registry) {
+        final Accessor accessor = switch (metadata.getKind()) {
+            case GET -> Accessor.GET;
+            case STREAM -> Accessor.STREAM;
+            case SET -> Accessor.SET;
+            case ADD -> Accessor.ADD;
+            case REMOVE -> Accessor.REMOVE;
+            case CLEAR -> Accessor.CLEAR;
+        };
+        return new MethodPlan(method, accessor, metadata.getPredicate(), metadata.isFunctional(),
+                metadata.getRange(), bind(metadata.getRange(), registry));
+    }
+
+    /**
+     * Find the converter for a property's range; object properties convert their values into {@link IRI}s.
+     */
+    private static ValueConverter<?> bind(Class<?> type, ValueConverterRegistry registry) {
+        final Class<?> converterType = Thing.class.isAssignableFrom(type) ? IRI.class : type;
+        return registry.getValueConverter(converterType).orElse(null);
+    }
+
+    private static MethodPlan simple(Method method, Accessor accessor) {
+        return new MethodPlan(method, accessor, null, false, null, null);
+    }
+
+    private static Accessor objectAccessor(Method method) {
+        return switch (method.getName()) {
+            case "toString" -> Accessor.TO_STRING;
+            case "equals" -> Accessor.EQUALS;
+            case "hashCode" -> Accessor.HASH_CODE;
+            default -> Accessor.UNSUPPORTED;
+        };
+    }
+
+    private static Accessor thingAccessor(Method method) {
+        return switch (method.getName()) {
+            case "getResource" -> Accessor.GET_RESOURCE;
+            case "getModel" -> Accessor.GET_MODEL;
+            case "getParents" -> Accessor.GET_PARENTS;
+            case "getTypeIri" -> Accessor.GET_TYPE_IRI;
+            case "getProperty" -> Accessor.GET_PROPERTY;
+            case "getProperties" -> Accessor.GET_PROPERTIES;
+            case "setProperty" -> Accessor.SET_PROPERTY;
+            case "setProperties" -> Accessor.SET_PROPERTIES;
+            case "addProperty" -> Accessor.ADD_PROPERTY;
+            case "removeProperty" -> Accessor.REMOVE_PROPERTY;
+            case "clearProperty" -> Accessor.CLEAR_PROPERTY;
+            default -> Accessor.UNSUPPORTED;
+        };
+    }
+
+    private static Accessor propertyAccessor(Method method) {
+        //TODO - validate assumptions...
+        final String name = method.getName();
+        final boolean noArgs = method.getParameterCount() == 0;
+        if ((name.startsWith(GET_PREFIX) || name.startsWith(IS_PREFIX)) && noArgs) {
+            return Accessor.GET;
+        } else if (name.startsWith(STREAM_PREFIX) && noArgs) {
+            return Accessor.STREAM;
+        } else if (name.startsWith(SET_PREFIX) && !noArgs) {
+            return Accessor.SET;
+        } else if (name.startsWith(ADDTO_PREFIX) && !noArgs) {
+            return Accessor.ADD;
+        } else if (name.startsWith(REMOVEFROM_PREFIX) && !noArgs) {
+            return Accessor.REMOVE;
+        } else if (name.startsWith(CLEAROUT_PREFIX) && noArgs) {
+            return Accessor.CLEAR;
+        } else {
+            return Accessor.UNSUPPORTED;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A lazy, read-only {@link java.util.Set} view over the values of a non-functional object property. Nothing is
+ * copied up front; {@link #size()}, {@link #isEmpty()} and {@link #contains(Object)} are answered straight from the
+ * live set of RDF objects of the property, and {@link Thing} instances are only resolved for the elements that are
+ * actually iterated.
+ * <p>
+ * Being a view, it reflects later changes to the property, and modifying the property while iterating it is subject
+ * to the same rules as iterating the backing model itself.
+ *
+ * @param <T> The range type of the property
+ */
+final class ObjectPropertySet<T> extends AbstractSet<T> {
+
+    private final Set<Value> objects;
+    private final Class<T> type;
+    private final Function<Value, T> resolver;
+
+    /**
+     * Construct a new view.
+     *
+     * @param objects  The live {@link Set} of RDF objects of the property
+     * @param type     The range type of the property
+     * @param resolver Resolves each object of the property into an instance of the range type
+     */
+    ObjectPropertySet(Set<Value> objects, Class<T> type, Function<Value, T> resolver) {
+        this.objects = objects;
+        this.type = type;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<Value> values = objects.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return resolver.apply(values.next());
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return objects.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return objects.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return type.isInstance(o) && o instanceof Thing thing && objects.contains(thing.getResource());
+    }
+}
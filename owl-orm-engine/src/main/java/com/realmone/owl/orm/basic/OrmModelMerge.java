@@ -0,0 +1,51 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * A Flight Recorder event for the statements of a {@link com.realmone.owl.orm.Thing} copied into another model when
+ * it's linked to from there. These are rare enough to be recorded whenever a recording has them enabled.
+ */
+@Name(OrmModelMerge.NAME)
+@Label("Model Merge")
+@Category({"OWL ORM"})
+@Description("Statements copied between models when linking Things")
+final class OrmModelMerge extends jdk.jfr.Event {
+
+    static final String NAME = "com.realmone.owl.orm.ModelMerge";
+
+    @Label("Type")
+    String type;
+
+    @Label("Predicate")
+    String predicate;
+
+    @Label("Statement Count")
+    int statementCount;
+
+    static OrmModelMerge start() {
+        final OrmModelMerge event = new OrmModelMerge();
+        event.begin();
+        return event;
+    }
+
+    void complete(IRI type, IRI predicate, int statementCount) {
+        if (shouldCommit()) {
+            this.type = type.stringValue();
+            this.predicate = predicate.stringValue();
+            this.statementCount = statementCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import com.realmone.owl.orm.metrics.OrmMetrics.PropertyOperation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.eclipse.rdf4j.model.IRI;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A Flight Recorder event for a call to a typed property method of a {@link BaseThing}, whichever engine backs it.
+ * By default only the calls taking longer than a millisecond are recorded. The call is also reported to the
+ * {@link OrmMetrics} it was started with, if any, whether or not the event is.
+ * <p>
+ * Stream methods convert their values as they're pulled, so their events are completed once the stream has been
+ * consumed (see {@link #stream(IRI, IRI, Collection)}) and cover the conversions.
+ * </p>
+ */
+@Name(OrmPropertyAccess.NAME)
+@Label("Property Access")
+@Category({"OWL ORM"})
+@Description("A call to a property method of a Thing")
+@Threshold("1 ms")
+final class OrmPropertyAccess extends jdk.jfr.Event {
+
+    static final String NAME = "com.realmone.owl.orm.PropertyAccess";
+
+    @Label("Type")
+    String type;
+
+    @Label("Predicate")
+    String predicate;
+
+    @Label("Kind")
+    @Description("The operation performed on the property")
+    String kind;
+
+    @Label("Value Count")
+    @Description("How many values were read or written; for streams, how many were pulled")
+    int valueCount;
+
+    /**
+     * The metrics the call is reported to, or null; transient, so it isn't part of the event.
+     */
+    private transient OrmMetrics metrics;
+
+    private transient long startNanos;
+
+    static OrmPropertyAccess start(OrmMetrics metrics) {
+        final OrmPropertyAccess event = new OrmPropertyAccess();
+        event.begin();
+        if (metrics != null) {
+            event.metrics = metrics;
+            event.startNanos = System.nanoTime();
+        }
+        return event;
+    }
+
+    void complete(IRI type, IRI predicate, PropertyOperation kind, int valueCount) {
+        if (metrics != null) {
+            metrics.recordPropertyAccess(type, predicate, kind, System.nanoTime() - startNanos);
+        }
+        if (shouldCommit()) {
+            this.type = type.stringValue();
+            this.predicate = predicate.stringValue();
+            this.kind = kind.name();
+            this.valueCount = valueCount;
+            commit();
+        }
+    }
+
+    /**
+     * Like {@link #complete(IRI, IRI, PropertyOperation, int)}, only sizing the values if the event is committed.
+     */
+    void complete(IRI type, IRI predicate, PropertyOperation kind, Collection<?> values) {
+        complete(type, predicate, kind, values != null && shouldCommit() ? values.size() : 0);
+    }
+
+    /**
+     * Stream the values of a {@link PropertyOperation#STREAM} call, completing this event once they've been consumed:
+     * when the stream runs out, or when it's closed before that. Anything done downstream as each value is pulled
+     * (like converting it) is part of the event, which counts the values pulled. A stream abandoned part way without
+     * being closed doesn't complete it.
+     *
+     * @param type      The type IRI of the thing
+     * @param predicate The predicate of the property
+     * @param values    The values of the property
+     * @param <T>       The type of the values
+     * @return A sequential {@link Stream} over the values
+     */
+    <T> Stream<T> stream(IRI type, IRI predicate, Collection<T> values) {
+        final Counting<T> counting = new Counting<>(values.spliterator(), type, predicate);
+        return StreamSupport.stream(counting, false).onClose(counting::complete);
+    }
+
+    /**
+     * Counts the values pulled through it, and completes the event when it runs out or is closed, whichever is first.
+     */
+    private final class Counting<T> implements Spliterator<T> {
+
+        private final Spliterator<T> delegate;
+        private final IRI type;
+        private final IRI predicate;
+        private int count;
+        private boolean completed;
+
+        private Counting(Spliterator<T> delegate, IRI type, IRI predicate) {
+            this.delegate = delegate;
+            this.type = type;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (delegate.tryAdvance(action)) {
+                count++;
+                return true;
+            }
+            complete();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            delegate.forEachRemaining(value -> {
+                count++;
+                action.accept(value);
+            });
+            complete();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        private void complete() {
+            if (!completed) {
+                completed = true;
+                OrmPropertyAccess.this.complete(type, predicate, PropertyOperation.STREAM, count);
+            }
+        }
+    }
+}
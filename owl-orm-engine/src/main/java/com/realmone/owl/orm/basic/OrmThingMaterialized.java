@@ -0,0 +1,59 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+
+/**
+ * A Flight Recorder event for a {@link com.realmone.owl.orm.Thing} handed out by a {@link BaseThingFactory}, either
+ * freshly created or gotten from a model. By default only the ones taking longer than a millisecond are recorded.
+ */
+@Name(OrmThingMaterialized.NAME)
+@Label("Thing Materialized")
+@Category({"OWL ORM"})
+@Description("A Thing created or gotten through a ThingFactory")
+@Threshold("1 ms")
+final class OrmThingMaterialized extends jdk.jfr.Event {
+
+    static final String NAME = "com.realmone.owl.orm.ThingMaterialized";
+
+    static final String CREATE = "create";
+
+    static final String GET = "get";
+
+    @Label("Type")
+    String type;
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Origin")
+    @Description("Whether the Thing came from a create or a get")
+    String origin;
+
+    static OrmThingMaterialized start() {
+        final OrmThingMaterialized event = new OrmThingMaterialized();
+        event.begin();
+        return event;
+    }
+
+    void complete(IRI type, Resource resource, String origin) {
+        if (shouldCommit()) {
+            this.type = type.stringValue();
+            this.resource = resource.stringValue();
+            this.origin = origin;
+            commit();
+        }
+    }
+}
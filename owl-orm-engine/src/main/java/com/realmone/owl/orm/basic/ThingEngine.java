@@ -0,0 +1,26 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+/**
+ * The ways a {@link BaseThingFactory} can implement OWL ORM interfaces that don't have a generated implementation
+ * class on the classpath.
+ */
+public enum ThingEngine {
+
+    /**
+     * Build a {@link java.lang.reflect.Proxy} backed by an {@link OwlOrmInvocationHandler} for each instance.
+     */
+    PROXY,
+
+    /**
+     * Spin a specialized subclass of {@link BaseThing} for each interface at runtime, defined as a hidden class
+     * alongside the interface. Falls back to {@link #PROXY} for interfaces it can't handle.
+     */
+    HIDDEN_CLASS
+}
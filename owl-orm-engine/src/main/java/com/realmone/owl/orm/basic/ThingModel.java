@@ -0,0 +1,610 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.AbstractModel;
+import org.eclipse.rdf4j.model.impl.FilteredModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link Model} tuned for the way OWL ORM entities use their backing model. Statements are indexed by subject, then
+ * predicate, then object, so the reads and writes a {@link BaseThing} makes (always for a given subject and predicate)
+ * are hash lookups that don't build a filtered view of the model. {@link #objects(Resource, IRI)} exposes those
+ * lookups directly.
+ * <p>
+ * Subjects are also indexed by their {@code rdf:type}s, so finding the instances of a type (the pattern
+ * {@code (null, rdf:type, type)}) only visits subjects with that type, and {@link #instances(Value)} exposes them
+ * directly. Every other access pattern is supported, but
+ * patterns without a subject scan the subject index. Models that are mostly queried by object or context are better
+ * served by the models RDF4j ships. Iteration follows insertion order.
+ * </p>
+ */
+public class ThingModel extends AbstractModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ValueFactory VALUE_FACTORY = SimpleValueFactory.getInstance();
+
+    private static final Resource[] NO_CONTEXTS = new Resource[0];
+
+    private static final Resource[] DEFAULT_CONTEXT = new Resource[]{null};
+
+    /**
+     * The shared context set of objects that are only stated in the default context, by far the most common case.
+     */
+    private static final Set<Resource> IN_DEFAULT_CONTEXT = Collections.singleton(null);
+
+    private final Map<String, Namespace> namespaces = new LinkedHashMap<>();
+
+    /**
+     * Subject to predicate to the objects (and their contexts) of the statements in this model. Predicate maps left
+     * empty by removals made while iterating are pruned as they're encountered; {@link Values} are never empty.
+     */
+    private final Map<Resource, Map<IRI, Values>> index = new LinkedHashMap<>();
+
+    /**
+     * Type to the subjects stated to have it, in any context. Kept in step with the {@code rdf:type} entries of the
+     * subject index; sets left empty are dropped.
+     */
+    private final Map<Value, Set<Resource>> typeIndex = new LinkedHashMap<>();
+
+    private int size;
+
+    /**
+     * Construct an empty model.
+     */
+    public ThingModel() {
+    }
+
+    /**
+     * Construct a model holding a given collection of statements.
+     *
+     * @param statements The statements to add to the new model
+     */
+    public ThingModel(Collection<? extends Statement> statements) {
+        addAll(statements);
+    }
+
+    /**
+     * Get a live, read-only view of the objects stated for a subject and predicate, in any context. Unlike
+     * {@code filter(subj, pred, null).objects()}, this doesn't build a filtered model, and its {@code size()},
+     * {@code isEmpty()} and {@code contains()} are hash lookups.
+     *
+     * @param subj The subject of the statements
+     * @param pred The predicate of the statements
+     * @return The {@link Set} of objects for the subject and predicate
+     */
+    public Set<Value> objects(Resource subj, IRI pred) {
+        return new ObjectsView(Objects.requireNonNull(subj), Objects.requireNonNull(pred));
+    }
+
+    /**
+     * Get a live, read-only view of the subjects stated to have a type, in any context. Unlike
+     * {@code filter(null, RDF.TYPE, type).subjects()}, this doesn't build a filtered model or the statements it
+     * matches, and its {@code size()}, {@code isEmpty()} and {@code contains()} are hash lookups.
+     *
+     * @param type The type of the subjects
+     * @return The {@link Set} of subjects with the type
+     */
+    public Set<Resource> instances(Value type) {
+        return new InstancesView(Objects.requireNonNull(type));
+    }
+
+    @Override
+    public Set<Namespace> getNamespaces() {
+        return new LinkedHashSet<>(namespaces.values());
+    }
+
+    @Override
+    public void setNamespace(Namespace namespace) {
+        namespaces.put(namespace.getPrefix(), namespace);
+    }
+
+    @Override
+    public Optional<Namespace> removeNamespace(String prefix) {
+        return Optional.ofNullable(namespaces.remove(prefix));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        Objects.requireNonNull(subj, "subject can not be null");
+        Objects.requireNonNull(pred, "predicate can not be null");
+        Objects.requireNonNull(obj, "object can not be null");
+        final Values values = index.computeIfAbsent(subj, key -> new LinkedHashMap<>(4))
+                .computeIfAbsent(pred, key -> new Values());
+        boolean changed = false;
+        for (Resource context : contexts == null || contexts.length == 0 ? DEFAULT_CONTEXT : contexts) {
+            if (values.add(obj, context)) {
+                size++;
+                changed = true;
+            }
+        }
+        if (changed && RDF.TYPE.equals(pred)) {
+            typeIndex.computeIfAbsent(obj, key -> new LinkedHashSet<>()).add(subj);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final Resource[] filter = contexts != null ? contexts : NO_CONTEXTS;
+        if (subj != null && pred != null && obj != null) {
+            final Set<Resource> present = lookup(subj, pred, obj);
+            return present != null && inContexts(present, filter);
+        } else if (subj != null && filter.length == 0) {
+            final Map<IRI, Values> predicates = index.get(subj);
+            if (predicates == null) {
+                return false;
+            } else if (pred != null) {
+                return predicates.containsKey(pred);
+            } else if (obj == null) {
+                return !predicates.isEmpty();
+            }
+        }
+        return new Match(subj, pred, obj, filter).hasNext();
+    }
+
+    @Override
+    public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        return removeMatching(subj, pred, obj, contexts != null ? contexts : NO_CONTEXTS, true) > 0;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        typeIndex.clear();
+        size = 0;
+    }
+
+    @Override
+    public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final Resource[] filter = contexts != null ? contexts : NO_CONTEXTS;
+        return new FilteredModel(this, subj, pred, obj, filter) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Iterator<Statement> iterator() {
+                return new Match(subj, pred, obj, filter);
+            }
+
+            @Override
+            protected void removeFilteredTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred,
+                                                       Value obj, Resource... contexts) {
+                ThingModel.this.removeTermIteration(iterator, subj, pred, obj, contexts);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Statement> iterator() {
+        return new Match(null, null, null, NO_CONTEXTS);
+    }
+
+    @Override
+    public void removeTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred, Value obj,
+                                    Resource... contexts) {
+        // The iterator may be walking our subject index, so leave emptied subjects for it to prune.
+        removeMatching(subj, pred, obj, contexts != null ? contexts : NO_CONTEXTS, false);
+    }
+
+    /**
+     * Remove a single statement without dropping its subject from the index, which makes it safe to call while this
+     * model is being iterated.
+     *
+     * @param statement The statement to remove
+     * @return Whether the statement was present
+     */
+    boolean removeWhileIterating(Statement statement) {
+        return removeValues(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+                new Resource[]{statement.getContext()}, false) > 0;
+    }
+
+    /**
+     * Remove every statement matching a pattern.
+     *
+     * @param pruneSubjects Whether subjects left without statements can be dropped from the index straight away,
+     *                      which is only safe if nothing is iterating it
+     * @return The number of statements removed
+     */
+    private int removeMatching(Resource subj, IRI pred, Value obj, Resource[] contexts, boolean pruneSubjects) {
+        if (subj != null && pred != null) {
+            return removeValues(subj, pred, obj, contexts, pruneSubjects);
+        }
+        final List<Statement> matches = new ArrayList<>();
+        new Match(subj, pred, obj, contexts).forEachRemaining(matches::add);
+        for (Statement statement : matches) {
+            removeValues(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+                    new Resource[]{statement.getContext()}, pruneSubjects);
+        }
+        return matches.size();
+    }
+
+    /**
+     * Remove the statements of a subject and predicate matching an object and contexts, dropping index entries left
+     * empty.
+     *
+     * @return The number of statements removed
+     */
+    private int removeValues(Resource subj, IRI pred, Value obj, Resource[] contexts, boolean pruneSubject) {
+        final Map<IRI, Values> predicates = index.get(subj);
+        final Values values = predicates != null ? predicates.get(pred) : null;
+        if (values == null) {
+            return 0;
+        }
+        final boolean typed = RDF.TYPE.equals(pred);
+        final int removed;
+        if (obj != null) {
+            removed = values.remove(obj, contexts);
+            if (typed) {
+                untype(subj, obj, values);
+            }
+        } else if (contexts.length == 0) {
+            removed = values.statements;
+            if (typed) {
+                values.keySet().forEach(type -> untype(subj, type, null));
+            }
+            values.clear();
+            values.statements = 0;
+        } else {
+            int count = 0;
+            for (Value value : new ArrayList<>(values.keySet())) {
+                count += values.remove(value, contexts);
+                if (typed) {
+                    untype(subj, value, values);
+                }
+            }
+            removed = count;
+        }
+        if (values.isEmpty()) {
+            predicates.remove(pred);
+            if (pruneSubject && predicates.isEmpty()) {
+                index.remove(subj);
+            }
+        }
+        size -= removed;
+        return removed;
+    }
+
+    /**
+     * Drop a subject from the type index, unless it is still stated to have the type in some context.
+     */
+    private void untype(Resource subj, Value type, Values types) {
+        if (types != null && types.containsKey(type)) {
+            return;
+        }
+        final Set<Resource> subjects = typeIndex.get(type);
+        if (subjects != null && subjects.remove(subj) && subjects.isEmpty()) {
+            typeIndex.remove(type);
+        }
+    }
+
+    private Set<Resource> lookup(Resource subj, IRI pred, Value obj) {
+        final Map<IRI, Values> predicates = index.get(subj);
+        final Values values = predicates != null ? predicates.get(pred) : null;
+        return values != null ? values.get(obj) : null;
+    }
+
+    private static boolean inContexts(Set<Resource> present, Resource[] contexts) {
+        if (contexts.length == 0) {
+            return true;
+        }
+        for (Resource context : contexts) {
+            if (present.contains(context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Statement statement(Resource subj, IRI pred, Value obj, Resource context) {
+        return context == null ? VALUE_FACTORY.createStatement(subj, pred, obj)
+                : VALUE_FACTORY.createStatement(subj, pred, obj, context);
+    }
+
+    /**
+     * The objects stated for a subject and predicate, each with the contexts it is stated in.
+     */
+    private static final class Values extends LinkedHashMap<Value, Set<Resource>> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The number of statements, which can exceed the number of objects when objects are stated in several
+         * contexts.
+         */
+        private int statements;
+
+        private Values() {
+            super(2);
+        }
+
+        boolean add(Value obj, Resource context) {
+            final Set<Resource> contexts = get(obj);
+            if (contexts == null) {
+                put(obj, context == null ? IN_DEFAULT_CONTEXT : Collections.singleton(context));
+            } else if (contexts.contains(context)) {
+                return false;
+            } else if (contexts instanceof LinkedHashSet<Resource> grown) {
+                grown.add(context);
+            } else {
+                // Upgrade the immutable singleton now the object is stated in a second context.
+                final Set<Resource> grown = new LinkedHashSet<>(contexts);
+                grown.add(context);
+                put(obj, grown);
+            }
+            statements++;
+            return true;
+        }
+
+        int remove(Value obj, Resource[] contexts) {
+            final Set<Resource> present = get(obj);
+            if (present == null) {
+                return 0;
+            } else if (contexts.length == 0) {
+                remove(obj);
+                statements -= present.size();
+                return present.size();
+            }
+            int removed = 0;
+            for (Resource context : contexts) {
+                if (present.contains(context)) {
+                    removed++;
+                    if (present.size() == 1) {
+                        remove(obj);
+                        break;
+                    }
+                    // More than one context means it's been upgraded to a mutable set.
+                    present.remove(context);
+                }
+            }
+            statements -= removed;
+            return removed;
+        }
+    }
+
+    /**
+     * Iterates over the statements matching a pattern. Matches are collected a subject at a time, so removing
+     * statements while iterating (whether through the iterator or not) is safe, as long as no new subjects are added.
+     * Patterns for the instances of a type walk a copy of the subjects with that type instead of the subject index.
+     */
+    private final class Match implements Iterator<Statement> {
+
+        private final Resource subj;
+        private final IRI pred;
+        private final Value obj;
+        private final Resource[] contexts;
+        /**
+         * The subject index being walked, or null if the subject is fixed or found through the type index.
+         */
+        private final Iterator<Map.Entry<Resource, Map<IRI, Values>>> subjects;
+        /**
+         * The subjects with the type being matched, or null if the pattern isn't for the instances of a type.
+         */
+        private final Iterator<Resource> typed;
+        private Iterator<Statement> chunk = Collections.emptyIterator();
+        private Statement next;
+        private Statement last;
+
+        private Match(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+            this.subj = subj;
+            this.pred = pred;
+            this.obj = obj;
+            this.contexts = contexts;
+            if (subj != null) {
+                this.subjects = null;
+                this.typed = null;
+                final Map<IRI, Values> predicates = index.get(subj);
+                if (predicates != null) {
+                    chunk = collect(subj, predicates).iterator();
+                }
+            } else if (obj != null && RDF.TYPE.equals(pred)) {
+                this.subjects = null;
+                final Set<Resource> instances = typeIndex.get(obj);
+                this.typed = instances != null ? new ArrayList<>(instances).iterator() : Collections.emptyIterator();
+            } else {
+                this.subjects = index.entrySet().iterator();
+                this.typed = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (chunk.hasNext()) {
+                    final Statement candidate = chunk.next();
+                    // Skip statements removed since their subject was collected.
+                    final Set<Resource> present = lookup(candidate.getSubject(), candidate.getPredicate(),
+                            candidate.getObject());
+                    if (present != null && present.contains(candidate.getContext())) {
+                        next = candidate;
+                    }
+                } else if (typed != null && typed.hasNext()) {
+                    final Resource subject = typed.next();
+                    final Map<IRI, Values> predicates = index.get(subject);
+                    if (predicates != null) {
+                        chunk = collect(subject, predicates).iterator();
+                    }
+                } else if (subjects != null && subjects.hasNext()) {
+                    final Map.Entry<Resource, Map<IRI, Values>> entry = subjects.next();
+                    if (entry.getValue().isEmpty()) {
+                        subjects.remove();
+                    } else {
+                        chunk = collect(entry.getKey(), entry.getValue()).iterator();
+                    }
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Statement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            removeValues(last.getSubject(), last.getPredicate(), last.getObject(),
+                    new Resource[]{last.getContext()}, subjects == null);
+            last = null;
+        }
+
+        private List<Statement> collect(Resource subject, Map<IRI, Values> predicates) {
+            final List<Statement> statements = new ArrayList<>();
+            if (pred != null) {
+                final Values values = predicates.get(pred);
+                if (values != null) {
+                    collect(statements, subject, pred, values);
+                }
+            } else {
+                predicates.forEach((predicate, values) -> collect(statements, subject, predicate, values));
+            }
+            return statements;
+        }
+
+        private void collect(List<Statement> statements, Resource subject, IRI predicate, Values values) {
+            if (obj != null) {
+                final Set<Resource> present = values.get(obj);
+                if (present != null) {
+                    collect(statements, subject, predicate, obj, present);
+                }
+            } else {
+                values.forEach((value, present) -> collect(statements, subject, predicate, value, present));
+            }
+        }
+
+        private void collect(List<Statement> statements, Resource subject, IRI predicate, Value value,
+                             Set<Resource> present) {
+            if (contexts.length == 0) {
+                present.forEach(context -> statements.add(statement(subject, predicate, value, context)));
+            } else {
+                for (Resource context : contexts) {
+                    if (present.contains(context)) {
+                        statements.add(statement(subject, predicate, value, context));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The live view behind {@link #objects(Resource, IRI)}. It looks its subject and predicate up on every call, so it
+     * keeps working as they're removed and re-added.
+     */
+    private final class ObjectsView extends AbstractSet<Value> {
+
+        private final Resource subj;
+        private final IRI pred;
+
+        private ObjectsView(Resource subj, IRI pred) {
+            this.subj = subj;
+            this.pred = pred;
+        }
+
+        private Values values() {
+            final Map<IRI, Values> predicates = index.get(subj);
+            return predicates != null ? predicates.get(pred) : null;
+        }
+
+        @Override
+        public Iterator<Value> iterator() {
+            final Values values = values();
+            return values != null ? Collections.unmodifiableSet(values.keySet()).iterator()
+                    : Collections.emptyIterator();
+        }
+
+        @Override
+        public int size() {
+            final Values values = values();
+            return values != null ? values.size() : 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values() == null;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            final Values values = values();
+            return values != null && values.containsKey(o);
+        }
+    }
+
+    /**
+     * The live view behind {@link #instances(Value)}, looking its type up on every call like {@link ObjectsView}.
+     */
+    private final class InstancesView extends AbstractSet<Resource> {
+
+        private final Value type;
+
+        private InstancesView(Value type) {
+            this.type = type;
+        }
+
+        @Override
+        public Iterator<Resource> iterator() {
+            final Set<Resource> subjects = typeIndex.get(type);
+            return subjects != null ? Collections.unmodifiableSet(subjects).iterator() : Collections.emptyIterator();
+        }
+
+        @Override
+        public int size() {
+            final Set<Resource> subjects = typeIndex.get(type);
+            return subjects != null ? subjects.size() : 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !typeIndex.containsKey(type);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            final Set<Resource> subjects = typeIndex.get(type);
+            return subjects != null && subjects.contains(o);
+        }
+    }
+}
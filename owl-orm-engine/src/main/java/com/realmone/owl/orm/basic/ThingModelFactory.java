@@ -0,0 +1,21 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import org.eclipse.rdf4j.model.ModelFactory;
+
+/**
+ * A {@link ModelFactory} creating {@link ThingModel}s, the default for a {@link BaseThingFactory} built without one.
+ */
+public class ThingModelFactory implements ModelFactory {
+
+    @Override
+    public ThingModel createEmptyModel() {
+        return new ThingModel();
+    }
+}
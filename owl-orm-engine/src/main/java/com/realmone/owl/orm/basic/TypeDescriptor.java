@@ -0,0 +1,94 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything a {@link BaseThingFactory} needs to know to create or fetch instances of an OWL ORM interface, worked out
+ * once per {@link Class} and then shared by every call. Instances are immutable.
+ */
+@Getter
+final class TypeDescriptor {
+
+    /**
+     * The constructor generated implementation classes and classes spun by the {@link HiddenClassEngine} expose. It
+     * lives here rather than on the engine so finding a generated implementation doesn't need ASM.
+     */
+    static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, Resource.class, Model.class,
+            IRI.class, Set.class, ValueConverterRegistry.class, boolean.class, ThingFactory.class);
+
+    /**
+     * The OWL ORM interface described, or the first of a combination of them.
+     */
+    private final Class<? extends Thing> type;
+
+    /**
+     * The IRI from the {@link com.realmone.owl.orm.annotations.Type} annotation of the interface.
+     */
+    private final IRI typeIri;
+
+    /**
+     * The type IRIs of every annotated interface the described interface extends (and for a combination, of the
+     * other interfaces combined). Unmodifiable and shared by every instance created.
+     */
+    private final Set<IRI> parents;
+
+    /**
+     * The interfaces instances implement: the one described, or each of a combination of equally specific interfaces
+     * gotten together by {@link BaseThingFactory#getMostSpecific}. Unmodifiable.
+     */
+    private final List<Class<?>> interfaces;
+
+    /**
+     * The constructor of the concrete class implementing the interface (generated or spun at runtime), of type
+     * {@link #CONSTRUCTOR_TYPE} returning {@link BaseThing}. Null if the interface is proxied.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The constructor of the {@link java.lang.reflect.Proxy} class for the interfaces, taking an
+     * {@link java.lang.reflect.InvocationHandler} and returning {@link Object}. Null if the interface has a concrete
+     * implementation, or its proxy class isn't publicly accessible.
+     */
+    private final MethodHandle proxyConstructor;
+
+    TypeDescriptor(@NonNull Class<? extends Thing> type, @NonNull IRI typeIri, @NonNull Set<IRI> parents,
+                   MethodHandle constructor, MethodHandle proxyConstructor) {
+        this(type, typeIri, parents, List.of(type), constructor, proxyConstructor);
+    }
+
+    TypeDescriptor(@NonNull Class<? extends Thing> type, @NonNull IRI typeIri, @NonNull Set<IRI> parents,
+                   @NonNull List<Class<?>> interfaces, MethodHandle constructor, MethodHandle proxyConstructor) {
+        this.type = type;
+        this.typeIri = typeIri;
+        this.parents = Set.copyOf(parents);
+        this.interfaces = List.copyOf(interfaces);
+        this.constructor = constructor;
+        this.proxyConstructor = proxyConstructor;
+    }
+
+    /**
+     * @return Whether instances of the interface are proxies around a {@link BaseThing} delegate
+     */
+    boolean isProxied() {
+        return constructor == null;
+    }
+}
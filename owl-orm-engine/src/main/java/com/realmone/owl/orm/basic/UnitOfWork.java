@@ -0,0 +1,172 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.Thing;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A unit of work over a {@link Model}. {@link Thing}s gotten or created through it read the model as usual, but their
+ * writes are recorded as a change set instead of being applied straight away. The change set holds the net effect of
+ * the writes: adding and then removing a statement (or the other way around) leaves no trace in it. Calling
+ * {@link #flush()} applies the change set to the model in one batch, and {@link #flush(ChangeWriter)} hands it to
+ * another store (like an RDF4j repository connection) first.
+ * <p>
+ * Start one with {@link BaseThingFactory#beginUnitOfWork(Model)}. Like the models it wraps, a unit of work is not
+ * thread safe.
+ * </p>
+ */
+public class UnitOfWork {
+
+    /**
+     * Writes a change set to a store, ideally atomically. For example, to persist it in a single RDF4j transaction:
+     * <pre>{@code
+     * unitOfWork.flush((additions, removals) -> {
+     *     connection.begin();
+     *     connection.remove(removals);
+     *     connection.add(additions);
+     *     connection.commit();
+     * });
+     * }</pre>
+     * The {@code RepositoryChangeWriter} of the owl-orm-repository module does just that, rolling back on failure.
+     */
+    @FunctionalInterface
+    public interface ChangeWriter {
+
+        /**
+         * Write a change set.
+         *
+         * @param additions The statements to add, none of which are in the underlying model
+         * @param removals  The statements to remove, all of which are in the underlying model
+         * @throws Exception If the change set couldn't be written, in which case it is kept for another attempt
+         */
+        void write(Model additions, Model removals) throws Exception;
+    }
+
+    private final BaseThingFactory factory;
+    private final ChangeTrackingModel model;
+
+    UnitOfWork(BaseThingFactory factory, Model base) {
+        this.factory = factory;
+        this.model = new ChangeTrackingModel(base);
+    }
+
+    /**
+     * @return The {@link Model} to build {@link Thing}s of this unit of work on, which reads the underlying model with
+     * the pending changes applied
+     */
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * @return The read-only statements pending addition to the underlying model
+     */
+    public Model getAdditions() {
+        return model.getAdditions().unmodifiable();
+    }
+
+    /**
+     * @return The read-only statements pending removal from the underlying model
+     */
+    public Model getRemovals() {
+        return model.getRemovals().unmodifiable();
+    }
+
+    /**
+     * @return Whether there are any pending changes
+     */
+    public boolean hasChanges() {
+        return !model.getAdditions().isEmpty() || !model.getRemovals().isEmpty();
+    }
+
+    /**
+     * Get a {@link Thing} in this unit of work.
+     *
+     * @param type     The interface class that extends {@link Thing} that you want to work with
+     * @param resource The {@link Resource} that uniquely identifies your instance of the {@link Thing}
+     * @param <T>      The type of {@link Thing} you want to work with
+     * @return The instance of your {@link Thing} or an empty {@link Optional} if it doesn't exist
+     */
+    public <T extends Thing> Optional<T> get(Class<T> type, Resource resource) {
+        return factory.get(type, resource, model);
+    }
+
+    /**
+     * Create a new {@link Thing} in this unit of work.
+     *
+     * @param type     The interface class that extends {@link Thing} that you want to work with
+     * @param resource The {@link Resource} that uniquely identifies your instance of the {@link Thing}
+     * @param <T>      The type of {@link Thing} you want to work with
+     * @return The instance of your {@link Thing}
+     * @throws OrmException If a {@link Thing} already exists with the {@link Resource} you tried to create
+     */
+    public <T extends Thing> T create(Class<T> type, Resource resource) throws OrmException {
+        return factory.create(type, resource, model);
+    }
+
+    /**
+     * Create new {@link Thing}s in this unit of work.
+     *
+     * @param type      The interface class that extends {@link Thing} that you want to work with
+     * @param resources The {@link Resource}s that uniquely identify your new instances of the {@link Thing}
+     * @param <T>       The type of {@link Thing} you want to work with
+     * @return The instances of your {@link Thing}, in the same order as the resources
+     * @throws OrmException If a {@link Thing} already exists for any of the {@link Resource}s
+     */
+    public <T extends Thing> List<T> createAll(Class<T> type, Collection<? extends Resource> resources)
+            throws OrmException {
+        return factory.createAll(type, resources, model);
+    }
+
+    /**
+     * Apply the pending changes to the underlying model in one batch.
+     */
+    public void flush() {
+        apply();
+    }
+
+    /**
+     * Write the pending changes with a given {@link ChangeWriter}, and then apply them to the underlying model. If the
+     * writer fails, the underlying model is left alone and the changes stay pending.
+     *
+     * @param writer The {@link ChangeWriter} to persist the changes with
+     * @throws OrmException If the writer fails
+     */
+    public void flush(ChangeWriter writer) throws OrmException {
+        if (hasChanges()) {
+            try {
+                writer.write(getAdditions(), getRemovals());
+            } catch (Exception e) {
+                throw new OrmException("Issue writing the changes of a unit of work", e);
+            }
+        }
+        apply();
+    }
+
+    /**
+     * Throw away the pending changes.
+     */
+    public void discard() {
+        model.getAdditions().clear();
+        model.getRemovals().clear();
+    }
+
+    private void apply() {
+        final Model base = model.getBase();
+        base.removeAll(model.getRemovals());
+        base.addAll(model.getAdditions());
+        discard();
+    }
+}
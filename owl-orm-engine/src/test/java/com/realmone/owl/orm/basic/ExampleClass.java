@@ -14,6 +14,7 @@ import org.eclipse.rdf4j.model.Resource;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Type(ExampleClass.TYPE_IRI)
 public interface ExampleClass extends Thing {
@@ -39,6 +40,9 @@ public interface ExampleClass extends Thing {
     @Property(value = PREDICATE_LIST, type = String.class)
     Set<String> getList();
 
+    @Property(value = PREDICATE_LIST, type = String.class)
+    Stream<String> streamList();
+
     @Property(value = PREDICATE_LIST, type = String.class)
     void setList(Set<String> list);
 
@@ -72,6 +76,9 @@ public interface ExampleClass extends Thing {
     @Property(value = PREDICATE_MULTIPOINTSTO, type = ExampleClass.class)
     Set<ExampleClass> getMultiPointsTo();
 
+    @Property(value = PREDICATE_MULTIPOINTSTO, type = ExampleClass.class)
+    Stream<ExampleClass> streamMultiPointsTo();
+
     @Property(value = PREDICATE_MULTIPOINTSTO, type = ExampleClass.class)
     void setMultiPointsTo(Set<ExampleClass> data);
 
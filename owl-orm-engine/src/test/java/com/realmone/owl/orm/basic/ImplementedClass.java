@@ -0,0 +1,69 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.VocabularyIRIs;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+import org.eclipse.rdf4j.model.IRI;
+
+import java.util.Optional;
+import java.util.Set;
+
+/*
+    Shaped like the interfaces the code generator emits, and paired with the ImplementedClassImpl it would generate.
+ */
+@Type(ImplementedClass.TYPE_STR)
+public interface ImplementedClass extends Thing {
+
+    String TYPE_STR = "urn://example#ImplementedClass";
+    IRI TYPE = VocabularyIRIs.createIRI("urn://example#", "ImplementedClass");
+    IRI NAME = VocabularyIRIs.createIRI("urn://", "name");
+    IRI LIST = VocabularyIRIs.createIRI("urn://", "list");
+    IRI POINTSTO = VocabularyIRIs.createIRI("urn://", "points.to");
+
+    @Property(value = "urn://name", functional = true, type = String.class)
+    Optional<String> getName();
+
+    @Property(value = "urn://name", functional = true, type = String.class)
+    void setName(String value);
+
+    @Property(value = "urn://name", functional = true, type = String.class)
+    boolean clearOutName();
+
+    @Property(value = "urn://list", type = String.class)
+    Set<String> getList();
+
+    @Property(value = "urn://list", type = String.class)
+    void setList(Set<String> values);
+
+    @Property(value = "urn://list", type = String.class)
+    boolean addToList(String toAdd);
+
+    @Property(value = "urn://list", type = String.class)
+    boolean removeFromList(String toRemove);
+
+    @Property(value = "urn://list", type = String.class)
+    boolean clearOutList();
+
+    @Property(value = "urn://points.to", type = ImplementedClass.class)
+    Set<ImplementedClass> getPointsTo();
+
+    @Property(value = "urn://points.to", type = ImplementedClass.class)
+    void setPointsTo(Set<ImplementedClass> values);
+
+    @Property(value = "urn://points.to", type = ImplementedClass.class)
+    boolean addToPointsTo(ImplementedClass toAdd);
+
+    @Property(value = "urn://points.to", type = ImplementedClass.class)
+    boolean removeFromPointsTo(ImplementedClass toRemove);
+
+    @Property(value = "urn://points.to", type = ImplementedClass.class)
+    boolean clearOutPointsTo();
+}
@@ -0,0 +1,93 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+
+import java.util.Optional;
+import java.util.Set;
+
+/*
+    What the code generator emits for ImplementedClass when implementation generation is enabled.
+ */
+public class ImplementedClassImpl extends BaseThing implements ImplementedClass {
+
+    public ImplementedClassImpl(Resource resource, Model model, IRI typeIri, Set<IRI> parents,
+                                ValueConverterRegistry registry, boolean create, ThingFactory factory) {
+        super(resource, model, typeIri, parents, registry, create, factory);
+    }
+
+    @Override
+    public Optional<String> getName() {
+        return getFunctionalValue(NAME, String.class);
+    }
+
+    @Override
+    public void setName(String value) {
+        setFunctionalValue(NAME, String.class, value);
+    }
+
+    @Override
+    public boolean clearOutName() {
+        return clearValues(NAME);
+    }
+
+    @Override
+    public Set<String> getList() {
+        return getNonFunctionalValues(LIST, String.class);
+    }
+
+    @Override
+    public void setList(Set<String> values) {
+        setNonFunctionalValues(LIST, String.class, values);
+    }
+
+    @Override
+    public boolean addToList(String toAdd) {
+        return addValue(LIST, String.class, toAdd);
+    }
+
+    @Override
+    public boolean removeFromList(String toRemove) {
+        return removeValue(LIST, String.class, toRemove);
+    }
+
+    @Override
+    public boolean clearOutList() {
+        return clearValues(LIST);
+    }
+
+    @Override
+    public Set<ImplementedClass> getPointsTo() {
+        return getNonFunctionalValues(POINTSTO, ImplementedClass.class);
+    }
+
+    @Override
+    public void setPointsTo(Set<ImplementedClass> values) {
+        setNonFunctionalValues(POINTSTO, ImplementedClass.class, values);
+    }
+
+    @Override
+    public boolean addToPointsTo(ImplementedClass toAdd) {
+        return addValue(POINTSTO, ImplementedClass.class, toAdd);
+    }
+
+    @Override
+    public boolean removeFromPointsTo(ImplementedClass toRemove) {
+        return removeValue(POINTSTO, ImplementedClass.class, toRemove);
+    }
+
+    @Override
+    public boolean clearOutPointsTo() {
+        return clearValues(POINTSTO);
+    }
+}
@@ -7,7 +7,14 @@
  */
 package com.realmone.owl.orm.basic;
 
+import com.realmone.owl.orm.metadata.PrimitiveRange;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.impl.BooleanValueConverter;
 import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.DoubleValueConverter;
+import com.realmone.owl.orm.types.impl.FloatValueConverter;
+import com.realmone.owl.orm.types.impl.IntegerValueConverter;
+import com.realmone.owl.orm.types.impl.LongValueConverter;
 import org.eclipse.rdf4j.model.*;
 import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
 import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
@@ -18,7 +25,9 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestBaseThing {
 
@@ -29,7 +38,11 @@ public class TestBaseThing {
 
     @BeforeClass
     public static void initValueConverterRegistry() {
-        //TODO - populate registry?
+        VALUE_CONVERTER_REGISTRY.register(new IntegerValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new LongValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new DoubleValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new FloatValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new BooleanValueConverter());
     }
 
     @Test
@@ -115,6 +128,57 @@ public class TestBaseThing {
         Assert.assertEquals(4, model.size());
     }
 
+    @Test
+    public void testPrimitiveProperties() {
+        BaseThing thing = BaseThing.builder()
+                .useModel(MODEL_FACTORY.createEmptyModel())
+                .useResource(VALUE_FACTORY.createIRI("urn://basic.thing"))
+                .useRegistry(VALUE_CONVERTER_REGISTRY)
+                .useTypeIri(TYPE_IRI)
+                .useCreate(true)
+                .build();
+        IRI count = VALUE_FACTORY.createIRI("urn://count");
+        IRI total = VALUE_FACTORY.createIRI("urn://total");
+        IRI score = VALUE_FACTORY.createIRI("urn://score");
+        IRI ratio = VALUE_FACTORY.createIRI("urn://ratio");
+        IRI valid = VALUE_FACTORY.createIRI("urn://valid");
+        Assert.assertTrue(thing.getIntValue(count).isEmpty());
+        Assert.assertTrue(thing.getBooleanValue(valid).isEmpty());
+        thing.setIntValue(count, 3);
+        thing.setLongValue(total, 1L << 40);
+        thing.setDoubleValue(score, 0.5);
+        thing.setFloatValue(ratio, 0.25f);
+        thing.setBooleanValue(valid, true);
+        Assert.assertEquals(3, thing.getIntValue(count).orElseThrow());
+        Assert.assertEquals(1L << 40, thing.getLongValue(total).orElseThrow());
+        Assert.assertEquals(0.5, thing.getDoubleValue(score).orElseThrow(), 0);
+        Assert.assertEquals(0.25, thing.getFloatValue(ratio).orElseThrow(), 0);
+        Assert.assertEquals(Boolean.TRUE, thing.getBooleanValue(valid).orElseThrow());
+        Assert.assertTrue(thing.getModel().contains(thing.getResource(), ratio, VALUE_FACTORY.createLiteral(0.25f)));
+        thing.addProperty(VALUE_FACTORY.createLiteral(4), count);
+        thing.addProperty(VALUE_FACTORY.createLiteral(false), valid);
+        Assert.assertEquals(7, thing.streamIntValues(count).sum());
+        Assert.assertEquals(1L << 40, thing.streamLongValues(total).sum());
+        Assert.assertEquals(0.5, thing.streamDoubleValues(score).sum(), 0);
+        Assert.assertEquals(0.25, thing.streamFloatValues(ratio).sum(), 0);
+        Assert.assertEquals(2, thing.streamBooleanValues(valid).distinct().count());
+    }
+
+    @Test
+    public void testPrimitiveRangeOperations() throws NoSuchMethodException {
+        // Generated implementations call these by name, so they have to stay in step with BaseThing.
+        for (PrimitiveRange range : PrimitiveRange.values()) {
+            Assert.assertEquals(Optional.class, BaseThing.class.getDeclaredMethod(range.getGetter(), IRI.class,
+                    ValueConverter.class).getReturnType());
+            Assert.assertEquals(Stream.class, BaseThing.class.getDeclaredMethod(range.getStreamer(), IRI.class,
+                    ValueConverter.class).getReturnType());
+            Assert.assertEquals(void.class, BaseThing.class.getDeclaredMethod(range.getSetter(), IRI.class,
+                    range.getType(), ValueConverter.class).getReturnType());
+        }
+        Assert.assertEquals(PrimitiveRange.INT, PrimitiveRange.of(Integer.class));
+        Assert.assertNull(PrimitiveRange.of(String.class));
+    }
+
     @Test(expected = NullPointerException.class)
     public void badInitialize() {
         BaseThing.builder()
@@ -11,6 +11,7 @@ package com.realmone.owl.orm.basic;
 import com.realmone.owl.orm.OrmException;
 import com.realmone.owl.orm.Thing;
 import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.annotations.Type;
 import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
 import com.realmone.owl.orm.types.impl.IRIValueConverter;
 import com.realmone.owl.orm.types.impl.ResourceValueConverter;
@@ -18,6 +19,7 @@ import com.realmone.owl.orm.types.impl.StringValueConverter;
 import org.eclipse.rdf4j.model.*;
 import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
 import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.Rio;
 import org.junit.Assert;
@@ -29,7 +31,9 @@ import java.io.FileReader;
 import java.io.Reader;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 public class TestFactoryAndProxy {
@@ -163,6 +167,44 @@ public class TestFactoryAndProxy {
                 .forEach(resource -> Assert.assertTrue(iris.contains(resource)));
     }
 
+    @Test
+    public void testStreamProperties() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, VALUE_FACTORY.createIRI("urn://one"),
+                model).orElseThrow();
+        Assert.assertEquals(Set.of("One", "Two", "Three"), myThing.streamList().collect(Collectors.toSet()));
+        Assert.assertEquals(1, myThing.streamList().limit(1).count());
+        Assert.assertEquals(myThing.getMultiPointsTo().stream().map(Thing::getResource).collect(Collectors.toSet()),
+                myThing.streamMultiPointsTo().map(Thing::getResource).collect(Collectors.toSet()));
+        Assert.assertTrue(myThing.streamMultiPointsTo()
+                .allMatch(other -> other.getName().orElseThrow().startsWith("object prop")));
+        myThing.clearOutList();
+        Assert.assertEquals(0, myThing.streamList().count());
+    }
+
+    @Test
+    public void testNonFunctionalObjectView() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, VALUE_FACTORY.createIRI("urn://one"),
+                model).orElseThrow();
+        ExampleClass other = THING_FACTORY.get(ExampleClass.class, "urn://two", model).orElseThrow();
+        Set<ExampleClass> remoteThings = myThing.getMultiPointsTo();
+        Assert.assertEquals(2, remoteThings.size());
+        Assert.assertFalse(remoteThings.isEmpty());
+        Assert.assertFalse(remoteThings.contains(other));
+        Assert.assertFalse(remoteThings.contains(other.getResource()));
+        Assert.assertTrue(remoteThings.contains(THING_FACTORY.get(ExampleClass.class, "urn://object.property/1",
+                model).orElseThrow()));
+        // The view is read-only...
+        Assert.assertThrows(UnsupportedOperationException.class, () -> remoteThings.add(other));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> remoteThings.clear());
+        // ...but follows changes made through the thing.
+        myThing.addToMultiPointsTo(other);
+        Assert.assertEquals(3, remoteThings.size());
+        Assert.assertTrue(remoteThings.contains(other));
+        myThing.clearOutMultiPointsTo();
+        Assert.assertTrue(remoteThings.isEmpty());
+        Assert.assertFalse(remoteThings.iterator().hasNext());
+    }
+
     @Test
     public void testSetFunctionalDatatype() {
         final String newName = "New Name";
@@ -458,6 +500,128 @@ public class TestFactoryAndProxy {
         Assert.assertEquals(sizeBefore - originalIris.size(), model.size());
     }
 
+    @Test
+    public void testThingMethodsDelegated() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, VALUE_FACTORY.createIRI("urn://one"),
+                model).orElseThrow();
+        Assert.assertEquals(iri("urn://one"), myThing.getResource());
+        Assert.assertSame(model, myThing.getModel());
+        Assert.assertEquals(iri(ExampleClass.TYPE_IRI), myThing.getTypeIri());
+        Assert.assertTrue(myThing.getParents().isEmpty());
+        Assert.assertTrue(myThing.addProperty(VALUE_FACTORY.createLiteral("Four"), iri("urn://list")));
+        Assert.assertEquals(4, myThing.getProperties(iri("urn://list")).size());
+        Assert.assertTrue(myThing.removeProperty(VALUE_FACTORY.createLiteral("Four"), iri("urn://list")));
+        Assert.assertTrue(myThing.clearProperty(iri("urn://list")));
+        Assert.assertTrue(myThing.getList().isEmpty());
+        Assert.assertEquals(myThing.hashCode(), myThing.hashCode());
+    }
+
+    @Test
+    public void testDispatchPlansCached() throws Exception {
+        DispatchPlans plans = new DispatchPlans(VALUE_CONVERTER_REGISTRY);
+        MethodPlan plan = plans.forMethod(ExampleClass.class.getMethod("getName"));
+        Assert.assertSame(plan, plans.forMethod(ExampleClass.class.getMethod("getName")));
+        Assert.assertEquals(MethodPlan.Accessor.GET, plan.getAccessor());
+        Assert.assertEquals(iri(ExampleClass.PREDICATE_NAME), plan.getPredicate());
+        Assert.assertTrue(plan.isFunctional());
+        Assert.assertNotNull(plan.getConverter());
+        MethodPlan objectPlan = plans.forMethod(ExampleClass.class.getMethod("addToMultiPointsTo",
+                ExampleClass.class));
+        Assert.assertEquals(MethodPlan.Accessor.ADD, objectPlan.getAccessor());
+        Assert.assertTrue(objectPlan.isObjectProperty());
+        Assert.assertEquals(MethodPlan.Accessor.GET_RESOURCE,
+                plans.forMethod(Thing.class.getMethod("getResource")).getAccessor());
+    }
+
+    @Test
+    public void testParentTypes() {
+        SubClass sub = THING_FACTORY.create(SubClass.class, "urn://sub", model);
+        Assert.assertEquals(Set.of(iri(ExampleClass.TYPE_IRI)), sub.getParents());
+        Assert.assertTrue(model.contains(sub.getResource(), RDF.TYPE, iri(ExampleClass.TYPE_IRI)));
+        Assert.assertTrue(model.contains(sub.getResource(), RDF.TYPE, iri("urn://example#SubClass")));
+        SubClass fetched = THING_FACTORY.get(SubClass.class, "urn://sub", model).orElseThrow();
+        Assert.assertEquals(sub.getParents(), fetched.getParents());
+        Assert.assertSame(sub.getClass(), fetched.getClass());
+        // The subclass can be viewed as its parent too.
+        Assert.assertTrue(THING_FACTORY.get(ExampleClass.class, "urn://sub", model).isPresent());
+    }
+
+    @Test
+    public void testGetAll() {
+        Set<Resource> subjects = Set.copyOf(model.filter(null, RDF.TYPE, iri(ExampleClass.TYPE_IRI)).subjects());
+        List<ExampleClass> all = THING_FACTORY.getAll(ExampleClass.class, model);
+        Assert.assertEquals(subjects.size(), all.size());
+        Assert.assertEquals(subjects, all.stream().map(Thing::getResource).collect(Collectors.toSet()));
+        Assert.assertTrue(all.stream().allMatch(thing -> thing.getName().isPresent()));
+        Spliterator<ExampleClass> spliterator = THING_FACTORY.streamAll(ExampleClass.class, model).spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(subjects.size(), spliterator.estimateSize());
+        Assert.assertEquals(subjects, THING_FACTORY.streamAll(ExampleClass.class, model).parallel()
+                .map(Thing::getResource).collect(Collectors.toSet()));
+        Assert.assertTrue(THING_FACTORY.getAll(SubClass.class, model).isEmpty());
+        SubClass sub = THING_FACTORY.create(SubClass.class, "urn://sub", model);
+        Assert.assertEquals(List.of(sub.getResource()), THING_FACTORY.streamAll(SubClass.class, model)
+                .map(Thing::getResource).collect(Collectors.toList()));
+        Assert.assertEquals(subjects.size() + 1, THING_FACTORY.getAll(ExampleClass.class, model).size());
+    }
+
+    @Test
+    public void testCreateAll() {
+        int sizeBefore = model.size();
+        List<Resource> resources = List.of(iri("urn://batch/3"), iri("urn://batch/1"), iri("urn://batch/2"));
+        List<SubClass> created = THING_FACTORY.createAll(SubClass.class, resources, model);
+        Assert.assertEquals(resources, created.stream().map(Thing::getResource).collect(Collectors.toList()));
+        Assert.assertEquals("Expected a type and parent type statement per resource", sizeBefore + 6, model.size());
+        created.forEach(thing -> Assert.assertTrue(model.contains(thing.getResource(), RDF.TYPE,
+                iri(ExampleClass.TYPE_IRI))));
+        created.get(0).setName("Batched");
+        Assert.assertEquals("Batched", THING_FACTORY.get(SubClass.class, "urn://batch/3", model).orElseThrow()
+                .getName().orElseThrow());
+    }
+
+    @Test
+    public void testCreateAllExisting() {
+        int sizeBefore = model.size();
+        try {
+            THING_FACTORY.createAll(ExampleClass.class, List.of(iri("urn://new"), iri("urn://one")), model);
+            Assert.fail("Expected creating an existing resource to fail");
+        } catch (OrmException e) {
+            Assert.assertTrue(e.getMessage().contains("urn://one"));
+        }
+        Assert.assertEquals("Nothing should be written if any resource exists", sizeBefore, model.size());
+        Assert.assertThrows(OrmException.class, () -> THING_FACTORY.createAll(ExampleClass.class,
+                List.of(iri("urn://new"), iri("urn://new")), model));
+        Assert.assertEquals(sizeBefore, model.size());
+    }
+
+    @Test
+    public void testLinkingThings() {
+        ExampleClass one = THING_FACTORY.get(ExampleClass.class, iri("urn://one"), model).orElseThrow();
+        ExampleClass two = THING_FACTORY.get(ExampleClass.class, iri("urn://two"), model).orElseThrow();
+        // Things sharing a model only gain the linking statement.
+        int sizeBefore = model.size();
+        Assert.assertTrue(two.addToMultiPointsTo(one));
+        Assert.assertEquals(sizeBefore + 1, model.size());
+        // A thing from another model brings its own statements along, but nothing else from its model.
+        Model other = MODEL_FACTORY.createEmptyModel();
+        ExampleClass elsewhere = THING_FACTORY.create(ExampleClass.class, iri("urn://elsewhere"), other);
+        elsewhere.setName("Elsewhere");
+        THING_FACTORY.create(ExampleClass.class, iri("urn://unrelated"), other).setName("Unrelated");
+        Assert.assertTrue(two.addToMultiPointsTo(elsewhere));
+        Assert.assertEquals(sizeBefore + 4, model.size());
+        Assert.assertFalse(model.contains(iri("urn://unrelated"), null, null));
+        one.setPointsTo(THING_FACTORY.get(ExampleClass.class, iri("urn://unrelated"), other).orElseThrow());
+        Assert.assertEquals("Unrelated", one.getPointsTo().flatMap(ExampleClass::getName).orElseThrow());
+        Assert.assertEquals(2, other.filter(iri("urn://unrelated"), null, null).size());
+    }
+
+    public interface Untyped extends Thing {
+    }
+
+    @Type("urn://example#SubClass")
+    public interface SubClass extends ExampleClass, Untyped {
+    }
+
     private static IRI iri(String value) {
         return VALUE_FACTORY.createIRI(value);
     }
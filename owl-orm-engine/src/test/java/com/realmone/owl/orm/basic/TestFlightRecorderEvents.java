@@ -0,0 +1,159 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.IntegerValueConverter;
+import com.realmone.owl.orm.types.impl.OrmConversion;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestFlightRecorderEvents {
+
+    private BaseThingFactory factory;
+
+    private Recording recording;
+
+    @Before
+    public void setUp() {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.register(new StringValueConverter());
+        registry.register(new IRIValueConverter());
+        registry.register(new ResourceValueConverter());
+        registry.register(new IntegerValueConverter());
+        factory = BaseThingFactory.builder()
+                .valueConverterRegistry(registry)
+                .valueFactory(new ValidatingValueFactory())
+                .build();
+        recording = new Recording();
+        for (String name : List.of(OrmThingMaterialized.NAME, OrmPropertyAccess.NAME, OrmConversion.NAME,
+                OrmModelMerge.NAME)) {
+            recording.enable(name).withoutThreshold();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        recording.start();
+        Model model = new LinkedHashModel();
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", model);
+        one.setName("One");
+        one.addToList("first");
+        one.addToList("second");
+        Assert.assertEquals(2, one.getList().size());
+        Assert.assertTrue(factory.get(ExampleClass.class, "urn://one", model).isPresent());
+        Assert.assertTrue(factory.get(ExampleClass.class, "urn://missing", model).isEmpty());
+        one.setPointsTo(factory.create(ExampleClass.class, "urn://elsewhere", new LinkedHashModel()));
+        recording.stop();
+        List<RecordedEvent> events = events();
+
+        List<RecordedEvent> materialized = named(events, OrmThingMaterialized.NAME);
+        Assert.assertEquals(List.of("create", "get", "create"), materialized.stream()
+                .map(event -> event.getString("origin")).collect(Collectors.toList()));
+        Assert.assertEquals(ExampleClass.TYPE_IRI, materialized.get(0).getString("type"));
+        Assert.assertEquals("urn://one", materialized.get(0).getString("resource"));
+
+        List<RecordedEvent> accesses = named(events, OrmPropertyAccess.NAME);
+        Assert.assertEquals(List.of("SET", "ADD", "ADD", "GET", "SET"), accesses.stream()
+                .map(event -> event.getString("kind")).collect(Collectors.toList()));
+        Assert.assertEquals(ExampleClass.PREDICATE_NAME, accesses.get(0).getString("predicate"));
+        Assert.assertEquals(2, accesses.get(3).getInt("valueCount"));
+
+        List<RecordedEvent> conversions = named(events, OrmConversion.NAME);
+        // The name, each added string, then both strings read back in one batch.
+        Assert.assertEquals(4, conversions.size());
+        Assert.assertEquals(String.class.getName(), conversions.get(0).getClass("javaType").getName());
+        Assert.assertTrue(conversions.get(0).getBoolean("toRdf"));
+        Assert.assertFalse(conversions.get(3).getBoolean("toRdf"));
+        Assert.assertEquals(2, conversions.get(3).getInt("valueCount"));
+        Assert.assertEquals("http://www.w3.org/2001/XMLSchema#string", conversions.get(3).getString("datatype"));
+
+        List<RecordedEvent> merges = named(events, OrmModelMerge.NAME);
+        Assert.assertEquals(1, merges.size());
+        Assert.assertEquals(ExampleClass.PREDICATE_POINTSTO, merges.get(0).getString("predicate"));
+        Assert.assertTrue(merges.get(0).getInt("statementCount") > 0);
+    }
+
+    @Test
+    public void testStreamEvents() throws Exception {
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", new LinkedHashModel());
+        one.addToList("first");
+        one.addToList("second");
+        recording.start();
+        Assert.assertEquals(2, one.streamList().collect(Collectors.toList()).size());
+        // Streams closed before they run out are completed with what was pulled from them.
+        try (Stream<String> list = one.streamList()) {
+            Assert.assertTrue(list.findFirst().isPresent());
+        }
+        recording.stop();
+
+        List<RecordedEvent> accesses = named(events(), OrmPropertyAccess.NAME);
+        Assert.assertEquals(List.of("STREAM", "STREAM"), accesses.stream()
+                .map(event -> event.getString("kind")).collect(Collectors.toList()));
+        Assert.assertEquals(2, accesses.get(0).getInt("valueCount"));
+        Assert.assertEquals(1, accesses.get(1).getInt("valueCount"));
+    }
+
+    @Test
+    public void testThresholds() throws Exception {
+        recording.close();
+        recording = new Recording();
+        // Left to their defaults, the hot events only record calls slower than a millisecond.
+        recording.enable(OrmPropertyAccess.NAME);
+        recording.enable(OrmModelMerge.NAME);
+        recording.start();
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", new LinkedHashModel());
+        one.setName("One");
+        one.setPointsTo(factory.create(ExampleClass.class, "urn://elsewhere", new LinkedHashModel()));
+        recording.stop();
+        List<RecordedEvent> events = events();
+        Assert.assertEquals(1, named(events, OrmModelMerge.NAME).size());
+        Assert.assertTrue(named(events, OrmPropertyAccess.NAME).stream()
+                .allMatch(event -> event.getDuration().toNanos() >= 1_000_000));
+    }
+
+    private List<RecordedEvent> events() throws IOException {
+        Path file = Files.createTempFile("owl-orm", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
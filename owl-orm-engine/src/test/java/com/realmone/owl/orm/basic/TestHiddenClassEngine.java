@@ -0,0 +1,211 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TestHiddenClassEngine {
+
+    private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final ThingFactory THING_FACTORY = BaseThingFactory.builder()
+            .modelFactory(MODEL_FACTORY)
+            .valueFactory(VALUE_FACTORY)
+            .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+            .engine(ThingEngine.HIDDEN_CLASS)
+            .build();
+
+    /*
+        An interface with a method shape the engine can't implement, and an add method on a functional property.
+     */
+    @Type("urn://example#OddClass")
+    public interface OddClass extends Thing {
+
+        @Property(value = "urn://name", functional = true, type = String.class)
+        Optional<String> getName();
+
+        @Property(value = "urn://name", functional = true, type = String.class)
+        boolean addToName(String value);
+
+        @Property(value = "urn://list", type = String.class)
+        String getList();
+
+        default String describe() {
+            return getName().orElse("nameless");
+        }
+    }
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new ResourceValueConverter());
+    }
+
+    private Model model;
+
+    @Before
+    public void initModel() throws Exception {
+        try (Reader reader = new FileReader("src/test/resources/testData.ttl")) {
+            this.model = Rio.parse(reader, RDFFormat.TURTLE);
+        }
+    }
+
+    @Test
+    public void testHiddenClassUsed() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, "urn://one", model).orElseThrow();
+        Assert.assertTrue(myThing.getClass().isHidden());
+        Assert.assertFalse(Proxy.isProxyClass(myThing.getClass()));
+        Assert.assertTrue(myThing instanceof BaseThing);
+        Assert.assertSame("Expected one spun class per interface", myThing.getClass(),
+                THING_FACTORY.create(ExampleClass.class, "urn://new", model).getClass());
+        Assert.assertTrue(THING_FACTORY.get(ExampleClass.class, "urn://missing", model).isEmpty());
+        // Generated implementations still take precedence.
+        Assert.assertTrue(THING_FACTORY.create(ImplementedClass.class, "urn://impl") instanceof ImplementedClassImpl);
+    }
+
+    @Test
+    public void testDatatypeProperties() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, "urn://one", model).orElseThrow();
+        Assert.assertEquals("Simple Property Value", myThing.getName().orElseThrow());
+        myThing.setName("New Name");
+        Assert.assertEquals("New Name", myThing.getName().orElseThrow());
+        myThing.setName(null);
+        Assert.assertTrue(myThing.getName().isEmpty());
+
+        Assert.assertEquals(Set.of("One", "Two", "Three"), myThing.getList());
+        Assert.assertEquals(myThing.getList(), myThing.streamList().collect(Collectors.toSet()));
+        Assert.assertEquals(2, myThing.streamMultiPointsTo().map(Thing::getResource).distinct().count());
+        Assert.assertTrue(myThing.addToList("Four"));
+        Assert.assertTrue(myThing.removeFromList("One"));
+        Assert.assertFalse(myThing.removeFromList("One"));
+        Assert.assertEquals(Set.of("Two", "Three", "Four"), myThing.getList());
+        myThing.setList(Set.of("Only"));
+        Assert.assertEquals(Set.of("Only"), myThing.getList());
+        Assert.assertTrue(myThing.clearOutList());
+        Assert.assertTrue(myThing.getList().isEmpty());
+    }
+
+    @Test(expected = OrmException.class)
+    public void testAddNull() {
+        THING_FACTORY.get(ExampleClass.class, "urn://one", model).orElseThrow().addToList(null);
+    }
+
+    @Test
+    public void testObjectProperties() {
+        ExampleClass myThing = THING_FACTORY.get(ExampleClass.class, "urn://one", model).orElseThrow();
+        Assert.assertEquals(VALUE_FACTORY.createIRI("urn://two"), myThing.getPointsTo().orElseThrow().getResource());
+        Assert.assertEquals(VALUE_FACTORY.createIRI("urn://two"), myThing.getPointsTo_Resource().orElseThrow());
+        Assert.assertEquals(Set.of("urn://object.property/1", "urn://object.property/2"),
+                myThing.getMultiPointsTo().stream().map(thing -> thing.getResource().stringValue())
+                        .collect(Collectors.toSet()));
+
+        ExampleClass other = THING_FACTORY.get(ExampleClass.class, "urn://random.other/1", model).orElseThrow();
+        myThing.setPointsTo(other);
+        Assert.assertEquals(other.getResource(), myThing.getPointsTo_Resource().orElseThrow());
+        Assert.assertTrue(myThing.addToMultiPointsTo(other));
+        Assert.assertEquals(3, myThing.getMultiPointsTo().size());
+        Assert.assertTrue(myThing.removeFromMultiPointsTo_Resource(other.getResource()));
+        myThing.setMultiPointsTo_Resource(Set.of((IRI) other.getResource()));
+        Assert.assertEquals(Set.of(other.getResource()), myThing.getProperties(
+                VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_MULTIPOINTSTO)));
+        Assert.assertTrue(myThing.clearOutMultiPointsTo());
+        Assert.assertTrue(myThing.getMultiPointsTo().isEmpty());
+    }
+
+    @Test
+    public void testUnsupportedMethods() {
+        OddClass odd = THING_FACTORY.create(OddClass.class, "urn://odd", model);
+        Assert.assertTrue(odd.getClass().isHidden());
+        Assert.assertEquals("nameless", odd.describe());
+        Assert.assertThrows(OrmException.class, () -> odd.addToName("name"));
+        Assert.assertThrows(OrmException.class, odd::getList);
+    }
+
+    @Test
+    public void testFallbackWithoutAsm() throws Exception {
+        // Load the engine again, this time without ASM on the classpath.
+        URL[] classpath = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> !entry.contains("asm"))
+                .map(entry -> {
+                    try {
+                        return new File(entry).toURI().toURL();
+                    } catch (MalformedURLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toArray(URL[]::new);
+        try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+            Assert.assertThrows(ClassNotFoundException.class, () -> loader.loadClass("org.objectweb.asm.Type"));
+            Object registry = loader.loadClass(DefaultValueConverterRegistry.class.getName()).getConstructor()
+                    .newInstance();
+            registry.getClass().getMethod("register", loader.loadClass(ValueConverter.class.getName()))
+                    .invoke(registry, loader.loadClass(StringValueConverter.class.getName()).getConstructor()
+                            .newInstance());
+            Class<?> engines = loader.loadClass(ThingEngine.class.getName());
+            Object builder = loader.loadClass(BaseThingFactory.class.getName()).getMethod("builder").invoke(null);
+            builder.getClass().getMethod("valueConverterRegistry",
+                    loader.loadClass(ValueConverterRegistry.class.getName())).invoke(builder, registry);
+            builder.getClass().getMethod("valueFactory", loader.loadClass(ValueFactory.class.getName()))
+                    .invoke(builder, loader.loadClass(ValidatingValueFactory.class.getName()).getConstructor()
+                            .newInstance());
+            builder.getClass().getMethod("engine", engines)
+                    .invoke(builder, engines.getField(ThingEngine.HIDDEN_CLASS.name()).get(null));
+            Object factory = builder.getClass().getMethod("build").invoke(builder);
+            Assert.assertEquals(ThingEngine.PROXY.name(), factory.getClass().getMethod("getEngine").invoke(factory)
+                    .toString());
+
+            Class<?> oddClass = loader.loadClass(OddClass.class.getName());
+            Object odd = factory.getClass().getMethod("create", Class.class, String.class,
+                            loader.loadClass(Model.class.getName()))
+                    .invoke(factory, oddClass, "urn://odd", loader.loadClass(LinkedHashModel.class.getName())
+                            .getConstructor().newInstance());
+            Assert.assertTrue(Proxy.isProxyClass(odd.getClass()));
+            Assert.assertEquals(Optional.empty(), oddClass.getMethod("getName").invoke(odd));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.metrics.OrmMetrics;
+import com.realmone.owl.orm.metrics.OrmMetrics.PropertyOperation;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.IntegerValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestHistogramOrmMetrics {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final IRI TYPE = VALUE_FACTORY.createIRI(ExampleClass.TYPE_IRI);
+
+    private final DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+
+    private HistogramOrmMetrics metrics;
+
+    private BaseThingFactory factory;
+
+    @Before
+    public void setUp() {
+        registry.register(new StringValueConverter());
+        registry.register(new IRIValueConverter());
+        registry.register(new ResourceValueConverter());
+        registry.register(new IntegerValueConverter());
+        metrics = new HistogramOrmMetrics();
+        factory = BaseThingFactory.builder()
+                .valueConverterRegistry(registry)
+                .valueFactory(VALUE_FACTORY)
+                .metrics(metrics)
+                .build();
+    }
+
+    @Test
+    public void testHistogram() {
+        Histogram histogram = new Histogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(500.5, histogram.getMean(), 0.001);
+        long median = histogram.getValueAtPercentile(50);
+        Assert.assertTrue("Median was " + median, median >= 500 && median <= 515);
+        long p99 = histogram.getValueAtPercentile(99);
+        Assert.assertTrue("99th percentile was " + p99, p99 >= 990 && p99 <= 1000);
+        Assert.assertEquals(1000, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            int index = Histogram.index(value);
+            long highest = Histogram.highestEquivalentValue(index);
+            Assert.assertTrue(highest >= value);
+            Assert.assertTrue("Bucket of " + value + " is too wide", highest - value <= value / 32);
+            Assert.assertEquals(index, Histogram.index(highest));
+        }
+        Assert.assertEquals(Long.MAX_VALUE, Histogram.highestEquivalentValue(Histogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testNoopByDefault() {
+        BaseThingFactory unmetered = BaseThingFactory.builder()
+                .valueConverterRegistry(registry)
+                .valueFactory(VALUE_FACTORY)
+                .build();
+        Assert.assertSame(OrmMetrics.NOOP, unmetered.getMetrics());
+        Assert.assertFalse(OrmMetrics.NOOP.isEnabled());
+        Assert.assertSame(metrics, factory.getMetrics());
+    }
+
+    @Test
+    public void testFactoryAndProperties() {
+        Model model = new LinkedHashModel();
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", model);
+        one.setName("One");
+        Assert.assertEquals("One", one.getName().orElseThrow());
+        one.addToList("first");
+        one.addToList("second");
+        Assert.assertEquals(2, one.getList().size());
+        Assert.assertTrue(factory.get(ExampleClass.class, "urn://one", model).isPresent());
+        Assert.assertTrue(factory.get(ExampleClass.class, "urn://missing", model).isEmpty());
+
+        Assert.assertEquals(1, metrics.getCreateLatencies().get(TYPE).getCount());
+        Assert.assertEquals(2, metrics.getLookupLatencies().get(TYPE).getCount());
+        Assert.assertEquals(Long.valueOf(1), metrics.getLookupMisses().get(TYPE));
+
+        Map<PropertyOperation, Histogram> name = metrics.getPropertyLatencies()
+                .get(new HistogramOrmMetrics.PropertyKey(TYPE, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_NAME)));
+        Assert.assertEquals(1, name.get(PropertyOperation.SET).getCount());
+        Assert.assertEquals(1, name.get(PropertyOperation.GET).getCount());
+        Assert.assertFalse(name.containsKey(PropertyOperation.ADD));
+        Map<PropertyOperation, Histogram> list = metrics.getPropertyLatencies()
+                .get(new HistogramOrmMetrics.PropertyKey(TYPE, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST)));
+        Assert.assertEquals(2, list.get(PropertyOperation.ADD).getCount());
+        Assert.assertEquals(1, list.get(PropertyOperation.GET).getCount());
+
+        // Setting and getting the name, adding two strings, then reading both back in one batch.
+        Assert.assertEquals(5, metrics.getConversionLatencies().get(String.class).getCount());
+
+        metrics.reset();
+        Assert.assertTrue(metrics.getCreateLatencies().isEmpty());
+        Assert.assertTrue(metrics.getPropertyLatencies().isEmpty());
+    }
+
+    @Test
+    public void testStreamRecordedOnceConsumed() {
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", new LinkedHashModel());
+        one.addToList("first");
+        HistogramOrmMetrics.PropertyKey list = new HistogramOrmMetrics.PropertyKey(TYPE,
+                VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST));
+        Stream<String> stream = one.streamList();
+        Assert.assertFalse(metrics.getPropertyLatencies().get(list).containsKey(PropertyOperation.STREAM));
+        Assert.assertEquals(List.of("first"), stream.collect(Collectors.toList()));
+        Assert.assertEquals(1, metrics.getPropertyLatencies().get(list).get(PropertyOperation.STREAM).getCount());
+    }
+
+    @Test
+    public void testEveryEngine() {
+        BaseThingFactory hidden = BaseThingFactory.builder()
+                .valueConverterRegistry(registry)
+                .valueFactory(VALUE_FACTORY)
+                .engine(ThingEngine.HIDDEN_CLASS)
+                .metrics(metrics)
+                .build();
+        ExampleClass proxied = factory.create(ExampleClass.class, "urn://proxied", new LinkedHashModel());
+        proxied.addToList("one");
+        proxied.getList();
+        proxied.clearOutList();
+        verifyListAccess(TYPE);
+
+        metrics.reset();
+        ExampleClass spun = hidden.create(ExampleClass.class, "urn://spun", new LinkedHashModel());
+        Assert.assertTrue(spun.getClass().isHidden());
+        spun.addToList("one");
+        spun.getList();
+        spun.clearOutList();
+        verifyListAccess(TYPE);
+
+        metrics.reset();
+        ImplementedClass implemented = factory.create(ImplementedClass.class, "urn://implemented",
+                new LinkedHashModel());
+        Assert.assertTrue(implemented instanceof ImplementedClassImpl);
+        implemented.addToList("one");
+        implemented.getList();
+        implemented.clearOutList();
+        verifyListAccess(ImplementedClass.TYPE);
+    }
+
+    @Test
+    public void testMerges() {
+        Model model = new LinkedHashModel();
+        Model other = new LinkedHashModel();
+        ExampleClass one = factory.create(ExampleClass.class, "urn://one", model);
+        ExampleClass two = factory.create(ExampleClass.class, "urn://two", model);
+        ExampleClass elsewhere = factory.create(ExampleClass.class, "urn://elsewhere", other);
+        elsewhere.setName("Elsewhere");
+        // Linking within a model doesn't merge anything.
+        one.addToMultiPointsTo(two);
+        Assert.assertTrue(metrics.getMergeSizes().isEmpty());
+        one.addToMultiPointsTo(elsewhere);
+        two.setPointsTo(elsewhere);
+        Histogram multi = metrics.getMergeSizes().get(new HistogramOrmMetrics.PropertyKey(TYPE,
+                VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_MULTIPOINTSTO)));
+        Assert.assertEquals(1, multi.getCount());
+        Assert.assertEquals(2, multi.getMax());
+        Histogram single = metrics.getMergeSizes().get(new HistogramOrmMetrics.PropertyKey(TYPE,
+                VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_POINTSTO)));
+        Assert.assertEquals(1, single.getCount());
+    }
+
+    @Test
+    public void testConversionFailures() {
+        ValueConverter<Integer> converter = new MeteredValueConverterRegistry(registry, metrics)
+                .getValueConverter(Integer.class).orElseThrow();
+        Assert.assertEquals(Integer.valueOf(3), converter.convertValue(VALUE_FACTORY.createLiteral(3)));
+        try {
+            converter.convertValue(VALUE_FACTORY.createLiteral("three"));
+            Assert.fail("Converting a non-numeric literal should fail");
+        } catch (ValueConversionException e) {
+            // Expected.
+        }
+        Assert.assertEquals(1, metrics.getConversionLatencies().get(Integer.class).getCount());
+        Assert.assertEquals(Long.valueOf(1), metrics.getConversionFailures().get(Integer.class));
+
+        // Primitive conversions stay unboxed, and are metered like the others.
+        Assert.assertTrue(converter instanceof IntConverter);
+        Assert.assertEquals(3, ((IntConverter) converter).convertToInt(VALUE_FACTORY.createLiteral(3)));
+        Assert.assertEquals(2, metrics.getConversionLatencies().get(Integer.class).getCount());
+    }
+
+    private void verifyListAccess(IRI type) {
+        Map<PropertyOperation, Histogram> list = metrics.getPropertyLatencies()
+                .get(new HistogramOrmMetrics.PropertyKey(type, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST)));
+        Assert.assertEquals(1, list.get(PropertyOperation.GET).getCount());
+        Assert.assertEquals(1, list.get(PropertyOperation.ADD).getCount());
+        Assert.assertEquals(1, list.get(PropertyOperation.CLEAR).getCount());
+    }
+}
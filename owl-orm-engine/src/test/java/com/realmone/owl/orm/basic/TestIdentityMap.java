@@ -0,0 +1,157 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.List;
+
+public class TestIdentityMap {
+
+    private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final IRI ONE = VALUE_FACTORY.createIRI("urn://one");
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+    }
+
+    private BaseThingFactory factory;
+
+    private Model model;
+
+    @Before
+    public void init() throws Exception {
+        factory = BaseThingFactory.builder()
+                .modelFactory(MODEL_FACTORY)
+                .valueFactory(VALUE_FACTORY)
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .identityMap(true)
+                .build();
+        try (Reader reader = new FileReader("src/test/resources/testData.ttl")) {
+            this.model = Rio.parse(reader, RDFFormat.TURTLE);
+        }
+    }
+
+    @Test
+    public void testSameInstance() {
+        ExampleClass one = factory.get(ExampleClass.class, ONE, model).orElseThrow();
+        Assert.assertSame(one, factory.get(ExampleClass.class, ONE, model).orElseThrow());
+        // Traversing object properties goes through the map too.
+        ExampleClass two = one.getPointsTo().orElseThrow();
+        Assert.assertSame(two, one.getPointsTo().orElseThrow());
+        Assert.assertSame(two, factory.get(ExampleClass.class, "urn://two", model).orElseThrow());
+        // Different (if equal) models get their own instances.
+        Model copy = MODEL_FACTORY.createEmptyModel();
+        copy.addAll(model);
+        Assert.assertNotSame(one, factory.get(ExampleClass.class, ONE, copy).orElseThrow());
+        // Created instances are remembered too.
+        ExampleClass created = factory.create(ExampleClass.class, "urn://created", model);
+        Assert.assertSame(created, factory.get(ExampleClass.class, "urn://created", model).orElseThrow());
+    }
+
+    @Test
+    public void testGetAllShared() {
+        ExampleClass one = factory.get(ExampleClass.class, ONE, model).orElseThrow();
+        List<ExampleClass> all = factory.getAll(ExampleClass.class, model);
+        Assert.assertTrue(all.stream().anyMatch(thing -> thing == one));
+        Assert.assertTrue(all.stream().allMatch(thing ->
+                thing == factory.get(ExampleClass.class, thing.getResource(), model).orElseThrow()));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        BaseThingFactory plain = BaseThingFactory.builder()
+                .modelFactory(MODEL_FACTORY)
+                .valueFactory(VALUE_FACTORY)
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .build();
+        Assert.assertNotSame(plain.get(ExampleClass.class, ONE, model).orElseThrow(),
+                plain.get(ExampleClass.class, ONE, model).orElseThrow());
+        Assert.assertEquals(0, plain.identityMapSize());
+    }
+
+    @Test
+    public void testTypeRemovalInvalidates() {
+        ExampleClass one = factory.get(ExampleClass.class, ONE, model).orElseThrow();
+        Assert.assertTrue(one.removeProperty(one.getTypeIri(), RDF.TYPE));
+        Assert.assertTrue(factory.get(ExampleClass.class, ONE, model).isEmpty());
+    }
+
+    @Test
+    public void testExplicitInvalidation() {
+        ExampleClass one = factory.get(ExampleClass.class, ONE, model).orElseThrow();
+        model.remove(ONE, RDF.TYPE, null);
+        // Direct model changes aren't seen until the resource is invalidated.
+        Assert.assertSame(one, factory.get(ExampleClass.class, ONE, model).orElseThrow());
+        factory.invalidate(model, ONE);
+        Assert.assertTrue(factory.get(ExampleClass.class, ONE, model).isEmpty());
+
+        factory.get(ExampleClass.class, "urn://two", model).orElseThrow();
+        Assert.assertTrue(factory.identityMapSize() > 0);
+        factory.invalidate(model);
+        Assert.assertEquals(0, factory.identityMapSize());
+    }
+
+    @Test
+    public void testInvalidationByResource() {
+        IdentityMap map = new IdentityMap();
+        IRI two = VALUE_FACTORY.createIRI("urn://two");
+        String asString = "one";
+        List<?> asList = List.of("one");
+        Object other = "two";
+        map.put(model, ONE, String.class, asString);
+        Assert.assertSame(asList, map.putIfAbsent(model, ONE, Object.class, asList));
+        Assert.assertSame(asString, map.putIfAbsent(model, ONE, String.class, "another"));
+        map.put(model, two, String.class, other);
+        Assert.assertEquals(3, map.size());
+
+        map.invalidate(model, ONE);
+        Assert.assertNull(map.get(model, ONE, String.class));
+        Assert.assertNull(map.get(model, ONE, Object.class));
+        Assert.assertSame(other, map.get(model, two, String.class));
+        Assert.assertNull(map.get(MODEL_FACTORY.createEmptyModel(), two, String.class));
+        Assert.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testWeaklyHeld() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            factory.get(ExampleClass.class, ONE, MODEL_FACTORY.createEmptyModel());
+            factory.create(ExampleClass.class, "urn://garbage/" + i, MODEL_FACTORY.createEmptyModel());
+        }
+        for (int attempt = 0; attempt < 50 && factory.identityMapSize() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, factory.identityMapSize());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+public class TestImplementationClasses {
+
+    private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final ThingFactory THING_FACTORY = BaseThingFactory.builder()
+            .modelFactory(MODEL_FACTORY)
+            .valueFactory(VALUE_FACTORY)
+            .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+            .build();
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+    }
+
+    @Test
+    public void testImplementationUsed() {
+        ImplementedClass created = THING_FACTORY.create(ImplementedClass.class, "urn://impl");
+        Assert.assertTrue(created instanceof ImplementedClassImpl);
+        Assert.assertFalse(Proxy.isProxyClass(created.getClass()));
+        Assert.assertTrue(created.getModel().contains(created.getResource(), RDF.TYPE, ImplementedClass.TYPE));
+        Assert.assertEquals("ImplementedClassImpl {resource=urn://impl type=urn://example#ImplementedClass}",
+                created.toString());
+        ImplementedClass fetched = THING_FACTORY.get(ImplementedClass.class, "urn://impl", created.getModel())
+                .orElseThrow();
+        Assert.assertTrue(fetched instanceof ImplementedClassImpl);
+        Assert.assertTrue(THING_FACTORY.get(ImplementedClass.class, "urn://missing", created.getModel())
+                .isEmpty());
+        // Proxies are still used for interfaces without a generated implementation.
+        Assert.assertTrue(Proxy.isProxyClass(THING_FACTORY.create(ExampleClass.class, "urn://proxied")
+                .getClass()));
+    }
+
+    @Test(expected = OrmException.class)
+    public void testCreateExisting() {
+        ImplementedClass created = THING_FACTORY.create(ImplementedClass.class, "urn://impl");
+        THING_FACTORY.create(ImplementedClass.class, "urn://impl", created.getModel());
+    }
+
+    @Test
+    public void testDatatypeProperties() {
+        ImplementedClass thing = THING_FACTORY.create(ImplementedClass.class, "urn://impl");
+        Assert.assertTrue(thing.getName().isEmpty());
+        thing.setName("first");
+        thing.setName("second");
+        Assert.assertEquals("second", thing.getName().orElseThrow());
+        Assert.assertTrue(thing.clearOutName());
+        Assert.assertTrue(thing.getName().isEmpty());
+
+        thing.setList(Set.of("a", "b"));
+        Assert.assertTrue(thing.addToList("c"));
+        Assert.assertFalse(thing.addToList("c"));
+        Assert.assertTrue(thing.removeFromList("a"));
+        Assert.assertEquals(Set.of("b", "c"), thing.getList());
+        Assert.assertTrue(thing.clearOutList());
+        Assert.assertTrue(thing.getList().isEmpty());
+    }
+
+    @Test
+    public void testObjectProperties() {
+        Model model = MODEL_FACTORY.createEmptyModel();
+        ImplementedClass one = THING_FACTORY.create(ImplementedClass.class, "urn://one", model);
+        ImplementedClass two = THING_FACTORY.create(ImplementedClass.class, "urn://two");
+        two.setName("two");
+        Assert.assertTrue(one.addToPointsTo(two));
+        // The statements about the referenced thing come along with it.
+        ImplementedClass pointedTo = one.getPointsTo().iterator().next();
+        Assert.assertEquals(two.getResource(), pointedTo.getResource());
+        Assert.assertEquals("two", pointedTo.getName().orElseThrow());
+        Assert.assertTrue(one.removeFromPointsTo(two));
+        Assert.assertTrue(one.getPointsTo().isEmpty());
+        one.setPointsTo(Set.of(one));
+        IRI oneIri = (IRI) one.getResource();
+        Assert.assertEquals(Set.of(oneIri), one.getProperties(ImplementedClass.POINTSTO));
+        Assert.assertTrue(one.clearOutPointsTo());
+    }
+}
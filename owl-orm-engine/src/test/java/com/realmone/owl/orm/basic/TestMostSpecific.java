@@ -0,0 +1,187 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class TestMostSpecific {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final IRI ANIMAL = VALUE_FACTORY.createIRI(Animal.TYPE_IRI);
+    private static final IRI DOG = VALUE_FACTORY.createIRI(Dog.TYPE_IRI);
+    private static final IRI PUPPY = VALUE_FACTORY.createIRI(Puppy.TYPE_IRI);
+    private static final IRI PET = VALUE_FACTORY.createIRI(Pet.TYPE_IRI);
+
+    private static final OntologyMetadata ONTOLOGY = () -> List.of(
+            new TypeMetadata(Animal.class, ANIMAL, Set.of(), List.of()),
+            new TypeMetadata(Dog.class, DOG, Set.of(ANIMAL), List.of()),
+            new TypeMetadata(Puppy.class, PUPPY, Set.of(DOG, ANIMAL), List.of()),
+            new TypeMetadata(Pet.class, PET, Set.of(ANIMAL), List.of()));
+
+    @Type(Animal.TYPE_IRI)
+    public interface Animal extends Thing {
+        String TYPE_IRI = "urn://example#Animal";
+
+        @Property(value = "urn://name", functional = true, type = String.class)
+        Optional<String> getName();
+
+        @Property(value = "urn://name", functional = true, type = String.class)
+        void setName(String name);
+    }
+
+    @Type(Dog.TYPE_IRI)
+    public interface Dog extends Animal {
+        String TYPE_IRI = "urn://example#Dog";
+
+        @Property(value = "urn://breed", functional = true, type = String.class)
+        Optional<String> getBreed();
+
+        @Property(value = "urn://breed", functional = true, type = String.class)
+        void setBreed(String breed);
+    }
+
+    @Type(Puppy.TYPE_IRI)
+    public interface Puppy extends Dog {
+        String TYPE_IRI = "urn://example#Puppy";
+    }
+
+    @Type(Pet.TYPE_IRI)
+    public interface Pet extends Animal {
+        String TYPE_IRI = "urn://example#Pet";
+
+        @Property(value = "urn://owner", functional = true, type = String.class)
+        Optional<String> getOwner();
+
+        @Property(value = "urn://owner", functional = true, type = String.class)
+        void setOwner(String owner);
+    }
+
+    @BeforeClass
+    public static void beforeClass() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new ResourceValueConverter());
+    }
+
+    @Test
+    public void testProxyEngine() {
+        Assert.assertTrue(Proxy.isProxyClass(verify(ThingEngine.PROXY).getClass()));
+    }
+
+    @Test
+    public void testHiddenClassEngine() {
+        Assert.assertTrue(verify(ThingEngine.HIDDEN_CLASS).getClass().isHidden());
+    }
+
+    @Test
+    public void testIdentityMap() {
+        ThingFactory factory = factory(ThingEngine.PROXY, true);
+        Model model = new LinkedHashModel();
+        factory.create(Dog.class, "urn://rex", model);
+        Animal rex = factory.getMostSpecific(Animal.class, VALUE_FACTORY.createIRI("urn://rex"), model).orElseThrow();
+        Assert.assertSame(rex, factory.get(Dog.class, "urn://rex", model).orElseThrow());
+
+        // So are things implementing several equally specific interfaces.
+        factory.create(Dog.class, "urn://fido", model);
+        model.add(resource("urn://fido"), RDF.TYPE, PET);
+        Animal fido = factory.getMostSpecific(Animal.class, resource("urn://fido"), model).orElseThrow();
+        Assert.assertTrue(fido instanceof Pet);
+        Assert.assertSame(fido, factory.getMostSpecific(Animal.class, resource("urn://fido"), model).orElseThrow());
+    }
+
+    /**
+     * @return A thing implementing several equally specific interfaces
+     */
+    private Animal verify(ThingEngine engine) {
+        ThingFactory factory = factory(engine, false);
+        Model model = new LinkedHashModel();
+        factory.create(Animal.class, "urn://generic", model);
+        factory.create(Dog.class, "urn://rex", model).setBreed("Collie");
+        factory.create(Puppy.class, "urn://bit", model);
+        Dog fido = factory.create(Dog.class, "urn://fido", model);
+        model.add(fido.getResource(), RDF.TYPE, PET);
+
+        Animal generic = factory.getMostSpecific(Animal.class, resource("urn://generic"), model).orElseThrow();
+        Assert.assertFalse(generic instanceof Dog);
+
+        Animal rex = factory.getMostSpecific(Animal.class, resource("urn://rex"), model).orElseThrow();
+        Assert.assertTrue(rex instanceof Dog);
+        Assert.assertFalse(rex instanceof Puppy);
+        Assert.assertEquals("Collie", ((Dog) rex).getBreed().orElseThrow());
+
+        Assert.assertTrue(factory.getMostSpecific(Animal.class, resource("urn://bit"), model).orElseThrow()
+                instanceof Puppy);
+        Assert.assertTrue(factory.getMostSpecific(Dog.class, resource("urn://bit"), model).orElseThrow()
+                instanceof Puppy);
+
+        // Equally specific interfaces are all implemented.
+        Animal both = factory.getMostSpecific(Animal.class, resource("urn://fido"), model).orElseThrow();
+        Assert.assertTrue(both instanceof Dog);
+        Assert.assertTrue(both instanceof Pet);
+        ((Pet) both).setOwner("Jon");
+        ((Dog) both).setBreed("Beagle");
+        both.setName("Fido");
+        Assert.assertEquals("Jon", factory.get(Pet.class, "urn://fido", model).orElseThrow()
+                .getOwner().orElseThrow());
+        Assert.assertEquals("Beagle", fido.getBreed().orElseThrow());
+        Assert.assertEquals("Fido", fido.getName().orElseThrow());
+        Assert.assertEquals(fido.getResource(), both.getResource());
+
+        // Resources typed with a subtype but not the bound itself are still found.
+        model.add(resource("urn://lassie"), RDF.TYPE, DOG);
+        Assert.assertTrue(factory.getMostSpecific(Animal.class, resource("urn://lassie"), model).orElseThrow()
+                instanceof Dog);
+
+        // The bound must still match.
+        Assert.assertTrue(factory.getMostSpecific(Dog.class, resource("urn://generic"), model).isEmpty());
+        Assert.assertTrue(factory.getMostSpecific(Animal.class, resource("urn://missing"), model).isEmpty());
+        // Interfaces nobody described are gotten as themselves.
+        Assert.assertTrue(factory.getMostSpecific(ExampleClass.class, resource("urn://rex"), model).isEmpty());
+        return both;
+    }
+
+    private static ThingFactory factory(ThingEngine engine, boolean identityMap) {
+        return BaseThingFactory.builder()
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .valueFactory(VALUE_FACTORY)
+                .engine(engine)
+                .identityMap(identityMap)
+                .ontology(ONTOLOGY)
+                .build();
+    }
+
+    private static IRI resource(String iri) {
+        return VALUE_FACTORY.createIRI(iri);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.metadata.AccessorKind;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.metadata.PropertyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TestOntologyMetadata {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    /*
+        Metadata deliberately disagreeing with the annotations on ExampleClass, so we can tell which one was used. The
+        list entries don't fit the shape or parameter type of the methods sharing their names, so aren't used.
+     */
+    private static final IRI TYPE = VALUE_FACTORY.createIRI("urn://described#ExampleClass");
+    private static final IRI PARENT = VALUE_FACTORY.createIRI("urn://described#Parent");
+    private static final IRI NAME = VALUE_FACTORY.createIRI("urn://described.name");
+
+    private static final OntologyMetadata ONTOLOGY = () -> List.of(new TypeMetadata(ExampleClass.class, TYPE,
+            Set.of(PARENT), List.of(
+            new PropertyMetadata("getName", NAME, true, String.class, AccessorKind.GET, 0),
+            new PropertyMetadata("setName", NAME, true, String.class, AccessorKind.SET, 1),
+            new PropertyMetadata("getList", NAME, false, String.class, AccessorKind.STREAM, 2),
+            new PropertyMetadata("addToList", NAME, false, Integer.class, AccessorKind.ADD, 3))));
+
+    @BeforeClass
+    public static void beforeClass() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new ResourceValueConverter());
+    }
+
+    @Test
+    public void testProxyEngine() {
+        verify(ThingEngine.PROXY);
+    }
+
+    @Test
+    public void testHiddenClassEngine() {
+        verify(ThingEngine.HIDDEN_CLASS);
+    }
+
+    @Test
+    public void testTypesByIri() {
+        Assert.assertEquals(Map.of(TYPE, ExampleClass.class), ONTOLOGY.getTypesByIri());
+    }
+
+    private void verify(ThingEngine engine) {
+        ThingFactory factory = BaseThingFactory.builder()
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .valueFactory(VALUE_FACTORY)
+                .engine(engine)
+                .ontology(ONTOLOGY)
+                .build();
+        Model model = new LinkedHashModel();
+        ExampleClass example = factory.create(ExampleClass.class, "urn://one", model);
+        IRI one = VALUE_FACTORY.createIRI("urn://one");
+        Assert.assertTrue(model.contains(one, RDF.TYPE, TYPE));
+        Assert.assertTrue(model.contains(one, RDF.TYPE, PARENT));
+        Assert.assertFalse(model.contains(one, RDF.TYPE, VALUE_FACTORY.createIRI(ExampleClass.TYPE_IRI)));
+
+        example.setName("One");
+        Assert.assertEquals("One", example.getName().orElseThrow());
+        Assert.assertTrue(model.contains(one, NAME, VALUE_FACTORY.createLiteral("One")));
+        Assert.assertTrue(model.filter(one, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_NAME), null).isEmpty());
+
+        // Methods the metadata doesn't describe still work off their annotations.
+        example.addToList("first");
+        Assert.assertEquals(Set.of("first"), example.getList());
+        Assert.assertTrue(model.contains(one, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST),
+                VALUE_FACTORY.createLiteral("first")));
+
+        Assert.assertTrue(factory.get(ExampleClass.class, "urn://one", model).isPresent());
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.VocabularyIRIs;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.BooleanValueConverter;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.DoubleValueConverter;
+import com.realmone.owl.orm.types.impl.FloatValueConverter;
+import com.realmone.owl.orm.types.impl.IntegerValueConverter;
+import com.realmone.owl.orm.types.impl.LongValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Properties with boxed primitive ranges go through the primitive converter operations on every engine, and
+ * non-functional ones through the primitive batch conversions. The registered converters fail on their boxed
+ * conversions, so any call falling back to them shows up.
+ */
+public class TestPrimitiveProperties {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    @Type(Measurement.TYPE_STR)
+    public interface Measurement extends Thing {
+        String TYPE_STR = "urn://example#Measurement";
+        IRI COUNT = VocabularyIRIs.createIRI("urn://", "count");
+        IRI TOTAL = VocabularyIRIs.createIRI("urn://", "total");
+        IRI SCORE = VocabularyIRIs.createIRI("urn://", "score");
+        IRI RATIO = VocabularyIRIs.createIRI("urn://", "ratio");
+        IRI VALID = VocabularyIRIs.createIRI("urn://", "valid");
+        IRI SAMPLE = VocabularyIRIs.createIRI("urn://", "sample");
+
+        @Property(value = "urn://count", functional = true, type = Integer.class)
+        Optional<Integer> getCount();
+
+        @Property(value = "urn://count", functional = true, type = Integer.class)
+        void setCount(Integer value);
+
+        @Property(value = "urn://total", functional = true, type = Long.class)
+        Optional<Long> getTotal();
+
+        @Property(value = "urn://total", functional = true, type = Long.class)
+        void setTotal(Long value);
+
+        @Property(value = "urn://score", functional = true, type = Double.class)
+        Optional<Double> getScore();
+
+        @Property(value = "urn://score", functional = true, type = Double.class)
+        void setScore(Double value);
+
+        @Property(value = "urn://ratio", functional = true, type = Float.class)
+        Optional<Float> getRatio();
+
+        @Property(value = "urn://ratio", functional = true, type = Float.class)
+        void setRatio(Float value);
+
+        @Property(value = "urn://valid", functional = true, type = Boolean.class)
+        Optional<Boolean> isValid();
+
+        @Property(value = "urn://valid", functional = true, type = Boolean.class)
+        void setValid(Boolean value);
+
+        @Property(value = "urn://sample", type = Integer.class)
+        Stream<Integer> streamSample();
+
+        @Property(value = "urn://sample", type = Integer.class)
+        Set<Integer> getSample();
+    }
+
+    @Type(ImplementedMeasurement.TYPE_STR)
+    public interface ImplementedMeasurement extends Measurement {
+        String TYPE_STR = "urn://example#ImplementedMeasurement";
+    }
+
+    /**
+     * What the code generator emits for the measurement properties.
+     */
+    public static class ImplementedMeasurementImpl extends BaseThing implements ImplementedMeasurement {
+
+        private final ValueConverter<Integer> countConverter = valueConverter(Integer.class);
+        private final ValueConverter<Long> totalConverter = valueConverter(Long.class);
+        private final ValueConverter<Double> scoreConverter = valueConverter(Double.class);
+        private final ValueConverter<Float> ratioConverter = valueConverter(Float.class);
+        private final ValueConverter<Boolean> validConverter = valueConverter(Boolean.class);
+
+        public ImplementedMeasurementImpl(Resource resource, Model model, IRI typeIri, Set<IRI> parents,
+                                          ValueConverterRegistry registry, boolean create, ThingFactory factory) {
+            super(resource, model, typeIri, parents, registry, create, factory);
+        }
+
+        @Override
+        public Optional<Integer> getCount() {
+            return getBoxedIntValue(COUNT, countConverter);
+        }
+
+        @Override
+        public void setCount(Integer value) {
+            setBoxedIntValue(COUNT, value, countConverter);
+        }
+
+        @Override
+        public Optional<Long> getTotal() {
+            return getBoxedLongValue(TOTAL, totalConverter);
+        }
+
+        @Override
+        public void setTotal(Long value) {
+            setBoxedLongValue(TOTAL, value, totalConverter);
+        }
+
+        @Override
+        public Optional<Double> getScore() {
+            return getBoxedDoubleValue(SCORE, scoreConverter);
+        }
+
+        @Override
+        public void setScore(Double value) {
+            setBoxedDoubleValue(SCORE, value, scoreConverter);
+        }
+
+        @Override
+        public Optional<Float> getRatio() {
+            return getBoxedFloatValue(RATIO, ratioConverter);
+        }
+
+        @Override
+        public void setRatio(Float value) {
+            setBoxedFloatValue(RATIO, value, ratioConverter);
+        }
+
+        @Override
+        public Optional<Boolean> isValid() {
+            return getBooleanValue(VALID, validConverter);
+        }
+
+        @Override
+        public void setValid(Boolean value) {
+            setBoxedBooleanValue(VALID, value, validConverter);
+        }
+
+        @Override
+        public Stream<Integer> streamSample() {
+            return streamBoxedIntValues(SAMPLE, countConverter);
+        }
+
+        @Override
+        public Set<Integer> getSample() {
+            return getNonFunctionalValues(SAMPLE, Integer.class, countConverter);
+        }
+
+        private <T> ValueConverter<T> valueConverter(Class<T> type) {
+            return valueConverterRegistry.getValueConverter(type).orElse(null);
+        }
+    }
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new IntegerValueConverter() {
+            @Override
+            public Integer convertValue(Value value) {
+                throw new AssertionError("Boxed int conversion used");
+            }
+
+            @Override
+            public Value convertType(Integer type) {
+                throw new AssertionError("Boxed int conversion used");
+            }
+
+            @Override
+            public List<Integer> convertValues(Collection<? extends Value> values) {
+                throw new AssertionError("Boxed int batch conversion used");
+            }
+        });
+        VALUE_CONVERTER_REGISTRY.register(new LongValueConverter() {
+            @Override
+            public Long convertValue(Value value) {
+                throw new AssertionError("Boxed long conversion used");
+            }
+
+            @Override
+            public Value convertType(Long type) {
+                throw new AssertionError("Boxed long conversion used");
+            }
+        });
+        VALUE_CONVERTER_REGISTRY.register(new DoubleValueConverter() {
+            @Override
+            public Double convertValue(Value value) {
+                throw new AssertionError("Boxed double conversion used");
+            }
+
+            @Override
+            public Value convertType(Double type) {
+                throw new AssertionError("Boxed double conversion used");
+            }
+        });
+        VALUE_CONVERTER_REGISTRY.register(new FloatValueConverter() {
+            @Override
+            public Float convertValue(Value value) {
+                throw new AssertionError("Boxed float conversion used");
+            }
+
+            @Override
+            public Value convertType(Float type) {
+                throw new AssertionError("Boxed float conversion used");
+            }
+        });
+        VALUE_CONVERTER_REGISTRY.register(new BooleanValueConverter() {
+            @Override
+            public Boolean convertValue(Value value) {
+                throw new AssertionError("Boxed boolean conversion used");
+            }
+
+            @Override
+            public Value convertType(Boolean type) {
+                throw new AssertionError("Boxed boolean conversion used");
+            }
+        });
+    }
+
+    @Test
+    public void testProxyEngine() {
+        Measurement measurement = verify(factory(ThingEngine.PROXY), Measurement.class);
+        Assert.assertTrue(Proxy.isProxyClass(measurement.getClass()));
+    }
+
+    @Test
+    public void testHiddenClassEngine() {
+        Measurement measurement = verify(factory(ThingEngine.HIDDEN_CLASS), Measurement.class);
+        Assert.assertTrue(measurement.getClass().isHidden());
+    }
+
+    @Test
+    public void testImplementationClass() {
+        Measurement measurement = verify(factory(ThingEngine.PROXY), ImplementedMeasurement.class);
+        Assert.assertTrue(measurement instanceof ImplementedMeasurementImpl);
+    }
+
+    private static <T extends Measurement> T verify(ThingFactory factory, Class<T> type) {
+        Model model = new LinkedHashModel();
+        T measurement = factory.create(type, "urn://measurement", model);
+        Assert.assertTrue(measurement.getCount().isEmpty());
+        Assert.assertTrue(measurement.isValid().isEmpty());
+
+        measurement.setCount(3);
+        measurement.setTotal(1L << 40);
+        measurement.setScore(0.5);
+        measurement.setRatio(0.25f);
+        measurement.setValid(true);
+        Assert.assertEquals(Integer.valueOf(3), measurement.getCount().orElseThrow());
+        Assert.assertEquals(Long.valueOf(1L << 40), measurement.getTotal().orElseThrow());
+        Assert.assertEquals(Double.valueOf(0.5), measurement.getScore().orElseThrow());
+        Assert.assertEquals(Float.valueOf(0.25f), measurement.getRatio().orElseThrow());
+        Assert.assertEquals(Boolean.TRUE, measurement.isValid().orElseThrow());
+        Assert.assertTrue(model.contains(measurement.getResource(), Measurement.COUNT,
+                VALUE_FACTORY.createLiteral(3)));
+
+        // Null still clears a functional property.
+        measurement.setCount(null);
+        measurement.setValid(null);
+        Assert.assertTrue(measurement.getCount().isEmpty());
+        Assert.assertTrue(measurement.isValid().isEmpty());
+
+        model.add(measurement.getResource(), Measurement.SAMPLE, VALUE_FACTORY.createLiteral(4));
+        model.add(measurement.getResource(), Measurement.SAMPLE, VALUE_FACTORY.createLiteral(5));
+        Assert.assertEquals(Set.of(4, 5), measurement.streamSample().collect(Collectors.toSet()));
+        Assert.assertEquals(Set.of(4, 5), measurement.getSample());
+        return measurement;
+    }
+
+    private static ThingFactory factory(ThingEngine engine) {
+        return BaseThingFactory.builder()
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .valueFactory(VALUE_FACTORY)
+                .engine(engine)
+                .build();
+    }
+}
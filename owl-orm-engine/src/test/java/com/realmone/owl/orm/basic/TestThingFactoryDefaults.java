@@ -0,0 +1,153 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The default methods of {@link ThingFactory}, as a factory only implementing the single instance methods gets them.
+ */
+public class TestThingFactoryDefaults {
+
+    private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final ThingFactory DELEGATE = BaseThingFactory.builder()
+            .modelFactory(MODEL_FACTORY)
+            .valueFactory(VALUE_FACTORY)
+            .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+            .build();
+
+    /**
+     * A third party factory written before the bulk methods existed.
+     */
+    private static final ThingFactory MINIMAL = new ThingFactory() {
+        @Override
+        public <T extends Thing> T create(Class<T> type, Resource resource) {
+            return DELEGATE.create(type, resource);
+        }
+
+        @Override
+        public <T extends Thing> T create(Class<T> type, Resource resource, Model model) {
+            return DELEGATE.create(type, resource, model);
+        }
+
+        @Override
+        public <T extends Thing> T create(Class<T> type, String resource, Model model) {
+            return DELEGATE.create(type, resource, model);
+        }
+
+        @Override
+        public <T extends Thing> T create(Class<T> type, String resource) {
+            return DELEGATE.create(type, resource);
+        }
+
+        @Override
+        public <T extends Thing> Optional<T> get(Class<T> type, Resource resource, Model model) {
+            return DELEGATE.get(type, resource, model);
+        }
+
+        @Override
+        public <T extends Thing> Optional<T> get(Class<T> type, String resource, Model model) {
+            return DELEGATE.get(type, resource, model);
+        }
+
+        @Override
+        public ValueFactory getValueFactory() {
+            return VALUE_FACTORY;
+        }
+
+        @Override
+        public ModelFactory getModelFactory() {
+            return MODEL_FACTORY;
+        }
+    };
+
+    private Model model;
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+    }
+
+    @Before
+    public void init() throws Exception {
+        try (Reader reader = new FileReader("src/test/resources/testData.ttl")) {
+            this.model = Rio.parse(reader, RDFFormat.TURTLE);
+        }
+    }
+
+    @Test
+    public void testGetAndStreamAll() {
+        Set<Resource> expected = DELEGATE.streamAll(ExampleClass.class, model).map(Thing::getResource)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(7, expected.size());
+        Assert.assertEquals(expected, MINIMAL.streamAll(ExampleClass.class, model).map(Thing::getResource)
+                .collect(Collectors.toSet()));
+        Assert.assertEquals(expected, MINIMAL.getAll(ExampleClass.class, model).stream().map(Thing::getResource)
+                .collect(Collectors.toSet()));
+        Assert.assertEquals("Simple Property Value", MINIMAL.getAll(ExampleClass.class, model).stream()
+                .filter(example -> example.getResource().stringValue().equals("urn://one"))
+                .findFirst().orElseThrow().getName().orElseThrow());
+    }
+
+    @Test
+    public void testCreateAll() {
+        IRI three = VALUE_FACTORY.createIRI("urn://three");
+        IRI four = VALUE_FACTORY.createIRI("urn://four");
+        List<ExampleClass> created = MINIMAL.createAll(ExampleClass.class, List.of(three, four), model);
+        Assert.assertEquals(List.of(three, four), created.stream().map(Thing::getResource).toList());
+        Assert.assertEquals(9, MINIMAL.getAll(ExampleClass.class, model).size());
+
+        // Nothing is created if any of them exists already, or is repeated.
+        IRI five = VALUE_FACTORY.createIRI("urn://five");
+        Assert.assertThrows(OrmException.class, () -> MINIMAL.createAll(ExampleClass.class, List.of(five, three),
+                model));
+        Assert.assertThrows(OrmException.class, () -> MINIMAL.createAll(ExampleClass.class, List.of(five, five),
+                model));
+        Assert.assertTrue(MINIMAL.get(ExampleClass.class, five, model).isEmpty());
+    }
+
+    @Test
+    public void testGetMostSpecific() {
+        IRI one = VALUE_FACTORY.createIRI("urn://one");
+        Assert.assertEquals(one, MINIMAL.getMostSpecific(ExampleClass.class, one, model).orElseThrow()
+                .getResource());
+        Assert.assertTrue(MINIMAL.getMostSpecific(ExampleClass.class, VALUE_FACTORY.createIRI("urn://missing"),
+                model).isEmpty());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TestThingModel {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final IRI S1 = VALUE_FACTORY.createIRI("urn://s1");
+    private static final IRI S2 = VALUE_FACTORY.createIRI("urn://s2");
+    private static final IRI P1 = VALUE_FACTORY.createIRI("urn://p1");
+    private static final IRI P2 = VALUE_FACTORY.createIRI("urn://p2");
+    private static final IRI C1 = VALUE_FACTORY.createIRI("urn://c1");
+    private static final IRI C2 = VALUE_FACTORY.createIRI("urn://c2");
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+    }
+
+    private Model reference;
+
+    @Before
+    public void initModel() throws Exception {
+        try (Reader reader = new FileReader("src/test/resources/testData.ttl")) {
+            this.reference = Rio.parse(reader, RDFFormat.TURTLE);
+        }
+    }
+
+    @Test
+    public void testMatchesLinkedHashModel() {
+        ThingModel model = new ThingModel(reference);
+        Assert.assertEquals(reference.size(), model.size());
+        Assert.assertEquals(reference, model);
+        Assert.assertEquals(reference.subjects(), model.subjects());
+        Assert.assertEquals(reference.filter(null, RDF.TYPE, null), model.filter(null, RDF.TYPE, null));
+        Assert.assertEquals(reference.filter(null, null, VALUE_FACTORY.createLiteral("A")),
+                model.filter(null, null, VALUE_FACTORY.createLiteral("A")));
+        for (Resource subject : reference.subjects()) {
+            for (IRI predicate : reference.filter(subject, null, null).predicates()) {
+                Assert.assertEquals(reference.filter(subject, predicate, null).objects(),
+                        model.objects(subject, predicate));
+            }
+        }
+    }
+
+    @Test
+    public void testContexts() {
+        ThingModel model = new ThingModel();
+        Literal one = literal("one");
+        Assert.assertTrue(model.add(S1, P1, one));
+        Assert.assertTrue(model.add(S1, P1, one, C1, C2));
+        Assert.assertFalse(model.add(S1, P1, one, C1));
+        Assert.assertEquals(3, model.size());
+        Assert.assertEquals(Set.of(one), model.objects(S1, P1));
+        Assert.assertTrue(model.contains(S1, P1, one, C2));
+        Assert.assertTrue(model.contains(S1, P1, one, (Resource) null));
+        Assert.assertFalse(model.contains(S2, P1, one));
+        Assert.assertEquals(2, model.filter(null, null, null, C1, C2).size());
+        Assert.assertEquals(Set.of(C1, C2), model.contexts().stream().filter(c -> c != null)
+                .collect(Collectors.toSet()));
+
+        Assert.assertTrue(model.remove(S1, P1, one, C1));
+        Assert.assertFalse(model.remove(S1, P1, one, C1));
+        Assert.assertEquals(2, model.size());
+        Assert.assertTrue(model.clear(C2));
+        Assert.assertEquals(1, model.size());
+        Assert.assertTrue(model.contains(S1, P1, one, (Resource) null));
+        Assert.assertTrue(model.remove(S1, P1, null));
+        Assert.assertTrue(model.isEmpty());
+        Assert.assertFalse(model.contains(S1, null, null));
+        Assert.assertTrue(model.objects(S1, P1).isEmpty());
+    }
+
+    @Test
+    public void testRemovalWhileIterating() {
+        ThingModel model = new ThingModel(reference);
+        Set<Value> live = model.objects(VALUE_FACTORY.createIRI("urn://one"), VALUE_FACTORY.createIRI("urn://list"));
+        Assert.assertEquals(3, live.size());
+        // Remove every literal through an iterator over the whole model.
+        Iterator<Statement> iterator = model.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getObject().isLiteral()) {
+                iterator.remove();
+            }
+        }
+        reference.removeIf(statement -> statement.getObject().isLiteral());
+        Assert.assertEquals(reference, model);
+        Assert.assertTrue(live.isEmpty());
+        // Removing subjects through a term set prunes them entirely.
+        model.subjects().removeIf(subject -> subject.stringValue().startsWith("urn://random"));
+        reference.subjects().removeIf(subject -> subject.stringValue().startsWith("urn://random"));
+        Assert.assertEquals(reference, model);
+        Assert.assertEquals(reference.subjects(), model.subjects());
+        // Through a filtered view...
+        model.filter(null, RDF.TYPE, null).clear();
+        reference.filter(null, RDF.TYPE, null).clear();
+        Assert.assertEquals(reference, model);
+        // ...and the view of a subject's objects comes back to life when they're re-added.
+        Assert.assertTrue(model.add(VALUE_FACTORY.createIRI("urn://one"), VALUE_FACTORY.createIRI("urn://list"),
+                literal("Again")));
+        Assert.assertEquals(Set.of(literal("Again")), live);
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        List<Resource> subjects = List.of(S1, S2, VALUE_FACTORY.createBNode("b"));
+        List<IRI> predicates = List.of(P1, P2, RDF.TYPE);
+        List<Resource> contexts = Arrays.asList(null, C1, C2);
+        Model expected = new LinkedHashModel();
+        ThingModel model = new ThingModel();
+        for (int i = 0; i < 2000; i++) {
+            Resource subject = random.nextInt(5) == 0 ? null : subjects.get(random.nextInt(subjects.size()));
+            IRI predicate = random.nextInt(4) == 0 ? null : predicates.get(random.nextInt(predicates.size()));
+            Value object = random.nextInt(4) == 0 ? null : literal(String.valueOf(random.nextInt(5)));
+            Resource[] context = random.nextBoolean() ? new Resource[0]
+                    : new Resource[]{contexts.get(random.nextInt(contexts.size()))};
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    if (subject != null && predicate != null && object != null) {
+                        Assert.assertEquals(expected.add(subject, predicate, object, context),
+                                model.add(subject, predicate, object, context));
+                    }
+                }
+                case 2 -> Assert.assertEquals(expected.remove(subject, predicate, object, context),
+                        model.remove(subject, predicate, object, context));
+                default -> Assert.assertEquals(expected.contains(subject, predicate, object, context),
+                        model.contains(subject, predicate, object, context));
+            }
+            Assert.assertEquals(expected.size(), model.size());
+            // The instances of a type come from the type index, which has to keep up.
+            Value type = literal(String.valueOf(random.nextInt(5)));
+            Assert.assertEquals(expected.filter(null, RDF.TYPE, type).subjects(),
+                    model.filter(null, RDF.TYPE, type).subjects());
+        }
+        Assert.assertEquals(new HashSet<>(expected), new HashSet<>(model));
+    }
+
+    @Test
+    public void testTypeIndex() {
+        ThingModel model = new ThingModel(reference);
+        IRI example = VALUE_FACTORY.createIRI(ExampleClass.TYPE_IRI);
+        Assert.assertEquals(reference.filter(null, RDF.TYPE, example), model.filter(null, RDF.TYPE, example));
+        Assert.assertTrue(model.contains(null, RDF.TYPE, example));
+        Assert.assertFalse(model.contains(null, RDF.TYPE, P1));
+        Set<Resource> instances = model.instances(example);
+        Assert.assertEquals(reference.filter(null, RDF.TYPE, example).subjects(), instances);
+        Assert.assertTrue(model.instances(P1).isEmpty());
+
+        // A subject stays an instance as long as it has the type in any context.
+        Assert.assertTrue(model.add(S1, RDF.TYPE, P1, C1, C2));
+        Assert.assertTrue(model.remove(S1, RDF.TYPE, P1, C1));
+        Assert.assertEquals(Set.of(S1), model.filter(null, RDF.TYPE, P1).subjects());
+        Assert.assertTrue(model.remove(S1, RDF.TYPE, null, C2));
+        Assert.assertFalse(model.contains(null, RDF.TYPE, P1));
+
+        // Removing every type through the pattern itself, while it is being walked.
+        model.filter(null, RDF.TYPE, example).clear();
+        reference.filter(null, RDF.TYPE, example).clear();
+        Assert.assertEquals(reference, model);
+        Assert.assertTrue(model.filter(null, RDF.TYPE, example).isEmpty());
+        model.clear();
+        Assert.assertTrue(model.add(S2, RDF.TYPE, example));
+        Assert.assertEquals(Set.of(S2), model.filter(null, RDF.TYPE, example).subjects());
+        // The view is live.
+        Assert.assertEquals(Set.of(S2), instances);
+    }
+
+    @Test
+    public void testDefaultModelFactory() {
+        ThingFactory factory = BaseThingFactory.builder()
+                .valueFactory(VALUE_FACTORY)
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .build();
+        ExampleClass thing = factory.create(ExampleClass.class, "urn://new");
+        Assert.assertTrue(thing.getModel() instanceof ThingModel);
+        thing.setName("Name");
+        thing.setList(Set.of("A", "B"));
+        Assert.assertTrue(thing.addToList("C"));
+        Assert.assertEquals(Set.of("A", "B", "C"), thing.getList());
+        Assert.assertEquals("Name", thing.getName().orElseThrow());
+        ExampleClass other = factory.create(ExampleClass.class, "urn://other", thing.getModel());
+        Assert.assertTrue(thing.addToMultiPointsTo(other));
+        Assert.assertTrue(thing.getMultiPointsTo().contains(other));
+        Assert.assertTrue(thing.clearOutList());
+        Assert.assertTrue(thing.getList().isEmpty());
+    }
+
+    private static Literal literal(String value) {
+        return VALUE_FACTORY.createLiteral(value);
+    }
+}
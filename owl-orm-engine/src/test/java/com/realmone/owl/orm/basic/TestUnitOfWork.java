@@ -0,0 +1,144 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.basic;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.Set;
+
+public class TestUnitOfWork {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private static final BaseThingFactory THING_FACTORY = BaseThingFactory.builder()
+            .modelFactory(new DynamicModelFactory())
+            .valueFactory(VALUE_FACTORY)
+            .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+            .build();
+
+    private static final IRI ONE = VALUE_FACTORY.createIRI("urn://one");
+
+    private static final IRI NAME = VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_NAME);
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+    }
+
+    private Model model;
+
+    private Model original;
+
+    @Before
+    public void initModel() throws Exception {
+        try (Reader reader = new FileReader("src/test/resources/testData.ttl")) {
+            this.model = Rio.parse(reader, RDFFormat.TURTLE);
+        }
+        this.original = new LinkedHashModel(model);
+    }
+
+    @Test
+    public void testChangesAreTracked() {
+        UnitOfWork unitOfWork = THING_FACTORY.beginUnitOfWork(model);
+        ExampleClass one = unitOfWork.get(ExampleClass.class, ONE).orElseThrow();
+        one.setName("Changed");
+        Assert.assertEquals("Changed", one.getName().orElseThrow());
+        Assert.assertTrue(one.addToList("Four"));
+        Assert.assertTrue(one.removeFromList("One"));
+        Assert.assertEquals(Set.of("Two", "Three", "Four"), one.getList());
+        ExampleClass created = unitOfWork.create(ExampleClass.class, VALUE_FACTORY.createIRI("urn://created"));
+        created.setName("New");
+        // Nothing has touched the underlying model yet...
+        Assert.assertEquals(original, model);
+        Assert.assertTrue(unitOfWork.hasChanges());
+        Assert.assertEquals(4, unitOfWork.getAdditions().size());
+        Assert.assertEquals(2, unitOfWork.getRemovals().size());
+        Assert.assertTrue(unitOfWork.getRemovals().contains(ONE, NAME, VALUE_FACTORY.createLiteral(
+                "Simple Property Value")));
+        Assert.assertEquals(original.size() + 2, unitOfWork.getModel().size());
+        // ...until it's flushed.
+        Model expected = new LinkedHashModel(unitOfWork.getModel());
+        unitOfWork.flush();
+        Assert.assertFalse(unitOfWork.hasChanges());
+        Assert.assertEquals(expected, model);
+        Assert.assertEquals("Changed", THING_FACTORY.get(ExampleClass.class, ONE, model).orElseThrow()
+                .getName().orElseThrow());
+        // Things of the unit of work carry on working against the flushed model.
+        Assert.assertEquals(Set.of("Two", "Three", "Four"), one.getList());
+    }
+
+    @Test
+    public void testChangesCollapse() {
+        UnitOfWork unitOfWork = THING_FACTORY.beginUnitOfWork(model);
+        ExampleClass one = unitOfWork.get(ExampleClass.class, ONE).orElseThrow();
+        Assert.assertTrue(one.addToList("Four"));
+        Assert.assertTrue(one.removeFromList("Four"));
+        Assert.assertTrue(one.removeFromList("One"));
+        Assert.assertTrue(one.addToList("One"));
+        one.setName("Temporary");
+        one.setName("Simple Property Value");
+        ExampleClass created = unitOfWork.create(ExampleClass.class, VALUE_FACTORY.createIRI("urn://created"));
+        Assert.assertTrue(created.removeProperty(created.getTypeIri(), RDF.TYPE));
+        Assert.assertFalse(unitOfWork.hasChanges());
+        Assert.assertEquals(original, unitOfWork.getModel());
+    }
+
+    @Test
+    public void testFlushWithWriter() {
+        UnitOfWork unitOfWork = THING_FACTORY.beginUnitOfWork(model);
+        unitOfWork.get(ExampleClass.class, ONE).orElseThrow().clearOutList();
+        Model store = new LinkedHashModel(model);
+        try {
+            unitOfWork.flush((additions, removals) -> {
+                throw new IllegalStateException("Store unavailable");
+            });
+            Assert.fail("Expected the failed write to be reported");
+        } catch (OrmException e) {
+            Assert.assertEquals(3, unitOfWork.getRemovals().size());
+            Assert.assertEquals(original, model);
+        }
+        unitOfWork.flush((additions, removals) -> {
+            store.removeAll(removals);
+            store.addAll(additions);
+        });
+        Assert.assertEquals(store, model);
+        Assert.assertFalse(model.contains(ONE, VALUE_FACTORY.createIRI(ExampleClass.PREDICATE_LIST), null));
+    }
+
+    @Test
+    public void testDiscard() {
+        UnitOfWork unitOfWork = THING_FACTORY.beginUnitOfWork(model);
+        ExampleClass one = unitOfWork.get(ExampleClass.class, ONE).orElseThrow();
+        one.setName("Changed");
+        unitOfWork.discard();
+        Assert.assertEquals("Simple Property Value", one.getName().orElseThrow());
+        unitOfWork.flush();
+        Assert.assertEquals(original, model);
+    }
+}
@@ -28,15 +28,21 @@ public abstract class AbstractOntology implements ClosureIndex {
     protected static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
 
     protected final Map<Resource, JClass> classIndex = new HashMap<>();
-    protected final Model closureModel = MODEL_FACTORY.createEmptyModel();
+    protected final Model closureModel;
     protected final SourceGenerator sourceGenerator;
     protected final JCodeModel codeModel;
     protected final boolean enforceFullClosure;
 
     protected AbstractOntology(SourceGenerator sourceGenerator, JCodeModel codeModel, boolean enforceFullClosure) {
+        this(sourceGenerator, codeModel, enforceFullClosure, MODEL_FACTORY.createEmptyModel());
+    }
+
+    protected AbstractOntology(SourceGenerator sourceGenerator, JCodeModel codeModel, boolean enforceFullClosure,
+                               Model closureModel) {
         this.sourceGenerator = sourceGenerator;
         this.codeModel = codeModel;
         this.enforceFullClosure = enforceFullClosure;
+        this.closureModel = closureModel;
     }
 
     @Override
@@ -63,21 +63,41 @@ public class GeneratingOntology extends AbstractOntology {
     private final Map<Resource, DatatypeProperty> datatypeProperties = new HashMap<>();
     private final Map<Resource, ObjectProperty> objectProperties = new HashMap<>();
 
+    /**
+     * Build a generating ontology, generating its interfaces into the code model.
+     *
+     * @param codeModel          The shared {@link JCodeModel} to generate into
+     * @param ontologyModel      The RDF of the ontology
+     * @param referenceModel     The RDF of every reference ontology, which is merged with the ontology's for its
+     *                           closure
+     * @param ontologyName       The name of the ontology
+     * @param ontologyPackage    The package to generate into
+     * @param sourceGenerator    The {@link SourceGenerator} holding the reference ontologies
+     * @param enforceFullClosure Whether missing imports and parent classes fail the generation
+     * @param closure            The {@link OntologyClosure} already analyzed from the ontology and reference models,
+     *                           if any; otherwise it's analyzed here
+     * @throws OrmException If the ontology can't be generated
+     */
     @Builder(setterPrefix = "use")
     public GeneratingOntology(@NonNull JCodeModel codeModel, @NonNull Model ontologyModel,
                               @NonNull Model referenceModel, @NonNull String ontologyName,
                               @NonNull String ontologyPackage, @NonNull SourceGenerator sourceGenerator,
-                              boolean enforceFullClosure) throws OrmException {
-        super(sourceGenerator, codeModel, enforceFullClosure);
+                              boolean enforceFullClosure, OntologyClosure closure) throws OrmException {
+        this(codeModel, ontologyModel, ontologyName, ontologyPackage, sourceGenerator, enforceFullClosure,
+                closure != null ? closure : new OntologyClosure(ontologyModel, referenceModel, enforceFullClosure));
+    }
+
+    private GeneratingOntology(JCodeModel codeModel, Model ontologyModel, String ontologyName, String ontologyPackage,
+                               SourceGenerator sourceGenerator, boolean enforceFullClosure, OntologyClosure closure)
+            throws OrmException {
+        super(sourceGenerator, codeModel, enforceFullClosure, closure.getClosureModel());
 
         this.jPackage = codeModel._package(ontologyPackage);
         this.model = ontologyModel;
         this.ontologyName = ontologyName;
         this.ontologyResource = getOntologyResource(model);
-        closureModel.addAll(ontologyModel);
-        closureModel.addAll(referenceModel);
         this.ontologyThing = generateOntologyThing();
-        Set<Resource> missingOntologies = GraphUtils.missingOntologies(closureModel, ontologyResource);
+        Set<Resource> missingOntologies = closure.getMissingOntologies();
         if (!missingOntologies.isEmpty()) {
             if (enforceFullClosure) {
                 throw new OrmGenerationException(String.format("Ontology %s is missing import(s): %s",
@@ -88,7 +108,7 @@ public class GeneratingOntology extends AbstractOntology {
             }
         }
         // Warn about missing ontologies.
-        analyzeAndGenerate();
+        analyzeAndGenerate(closure);
     }
 
     private Resource getOntologyResource(Model model) {
@@ -110,7 +130,7 @@ public class GeneratingOntology extends AbstractOntology {
         }
     }
 
-    private void analyzeAndGenerate() throws OrmException {
+    private void analyzeAndGenerate(OntologyClosure closure) throws OrmException {
         // Find all the imports of this particular model.
         model.filter(ontologyResource, OWL.IMPORTS, null).objects().stream()
                 // Convert from Value to Resource and add to our set.
@@ -126,8 +146,7 @@ public class GeneratingOntology extends AbstractOntology {
         classIris.forEach(classResource -> {
             classIndex.put(classResource, generateInterface(classResource));
             // Add our class to the hierarchy
-            classHierarchy.put(classResource, GraphUtils.lookupParentClasses(closureModel, classResource,
-                    enforceFullClosure));
+            classHierarchy.put(classResource, closure.lookupParentClasses(classResource));
         });
         // Define the class hierarchy
         classHierarchy.forEach((classResource, parents) -> {
@@ -0,0 +1,189 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.generate;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.generate.properties.ConverterTable;
+import com.realmone.owl.orm.generate.properties.Property;
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JInvocation;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JVar;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.processing.Generated;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Generates a concrete implementation class for each interface generated for an ontology class, so the engine can
+ * instantiate it directly instead of building a {@link java.lang.reflect.Proxy}. The implementation extends the
+ * engine's BaseThing and implements every property method of the interface and its ancestors with a direct call to
+ * the matching BaseThing operation.
+ * <p>
+ * Implementations can only be generated when every ancestor of the interface is generated in the same run; classes
+ * extending interfaces from reference ontologies are skipped and will be proxied at runtime.
+ * </p>
+ */
+class ImplementationGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImplementationGenerator.class);
+
+    /**
+     * The engine class generated implementations extend.
+     */
+    static final String BASE_THING = "com.realmone.owl.orm.basic.BaseThing";
+
+    /**
+     * The suffix appended to an interface name for its implementation class; the engine looks for the same suffix.
+     */
+    static final String IMPLEMENTATION_SUFFIX = "Impl";
+
+    private final JCodeModel codeModel;
+    private final Collection<GeneratingOntology> ontologies;
+    private final Map<JDefinedClass, List<Property>> attachedProperties = new HashMap<>();
+
+    ImplementationGenerator(JCodeModel codeModel, Collection<GeneratingOntology> ontologies) {
+        this.codeModel = codeModel;
+        this.ontologies = ontologies;
+        ontologies.stream()
+                .flatMap(ontology -> Stream.concat(ontology.getDatatypeProperties().values().stream(),
+                        ontology.getObjectProperties().values().stream()))
+                .forEach(property -> property.getAttachments().keySet().forEach(owner ->
+                        attachedProperties.computeIfAbsent(owner, key -> new ArrayList<>()).add(property)));
+    }
+
+    /**
+     * Generate the implementation classes for every class interface of the ontologies.
+     */
+    void generate() {
+        ontologies.forEach(ontology -> ontology.getClassIris().forEach(classIri -> {
+            JClass jClass = ontology.getClassIndex().get(classIri);
+            if (jClass instanceof JDefinedClass interfaze) {
+                generate(classIri, interfaze);
+            }
+        }));
+    }
+
+    private void generate(Resource classIri, JDefinedClass interfaze) {
+        final Optional<Set<JDefinedClass>> closure = resolveClosure(interfaze);
+        if (closure.isEmpty()) {
+            LOGGER.warn("Not generating implementation of {} as it extends interfaces not generated in this run",
+                    interfaze.fullName());
+            return;
+        }
+        final boolean implementable = closure.get().stream()
+                .flatMap(owner -> attachedProperties.getOrDefault(owner, List.of()).stream())
+                .allMatch(Property::isImplementable);
+        if (!implementable) {
+            LOGGER.warn("Not generating implementation of {} as it has properties without IRIs",
+                    interfaze.fullName());
+            return;
+        }
+        try {
+            final JDefinedClass implementation = interfaze._package()._class(JMod.PUBLIC,
+                    interfaze.name() + IMPLEMENTATION_SUFFIX);
+            implementation._extends(codeModel.ref(BASE_THING));
+            implementation._implements(interfaze);
+            implementation.javadoc().add(String.format("<p>Implementation of {@link %s} generated for class '%s'"
+                    + "</p>%n", interfaze.name(), classIri.stringValue()));
+            implementation.annotate(Generated.class)
+                    .param("value", SourceGenerator.class.getName())
+                    .param("comments", String.format("Generated by OWL ORM Maven Plugin for ontology: %s",
+                            classIri.stringValue()));
+            final ConverterTable converters = new ConverterTable(codeModel, implementation);
+            generateConstructors(implementation);
+            closure.get().forEach(owner -> attachedProperties.getOrDefault(owner, List.of())
+                    .forEach(property -> property.implement(implementation, owner, converters)));
+        } catch (JClassAlreadyExistsException e) {
+            LOGGER.warn("Not generating implementation of {} as {} already exists", interfaze.fullName(),
+                    e.getExistingClass().fullName());
+        }
+    }
+
+    /**
+     * Generate the constructor the engine uses, taking the converters resolved once for the class, and one looking
+     * them up from the registry for everyone else.
+     */
+    private void generateConstructors(JDefinedClass implementation) {
+        final JMethod constructor = implementation.constructor(JMod.PUBLIC);
+        final JMethod resolving = implementation.constructor(JMod.PUBLIC);
+        final JInvocation superCall = constructor.body().invoke("super");
+        final JInvocation thisCall = resolving.body().invoke("this");
+        for (JVar param : List.of(
+                constructor.param(Resource.class, "resource"),
+                constructor.param(Model.class, "model"),
+                constructor.param(IRI.class, "typeIri"),
+                constructor.param(codeModel.ref(Set.class).narrow(IRI.class), "parents"),
+                constructor.param(ValueConverterRegistry.class, "registry"),
+                constructor.param(boolean.class, "create"),
+                constructor.param(ThingFactory.class, "factory"))) {
+            superCall.arg(param);
+            thisCall.arg(resolving.param(param.type(), param.name()));
+        }
+        final JVar converters = constructor.param(codeModel.ref(ValueConverter.class).narrow(codeModel.wildcard())
+                .array(), ConverterTable.FIELD);
+        constructor.body().assign(JExpr._this().ref(ConverterTable.FIELD), converters);
+        constructor.javadoc().add("Used by the ThingFactory to instantiate this class, with the converters it "
+                + "resolved once for the class.");
+        thisCall.arg(implementation.staticInvoke(ConverterTable.RESOLVE_METHOD).arg(resolving.params().get(4)));
+        resolving.javadoc().add("Instantiate this class, looking its converters up in the registry.");
+    }
+
+    /**
+     * Find the interface and all the interfaces it extends, nearest first.
+     *
+     * @param interfaze The interface to start from
+     * @return The interfaces, or empty if one of them isn't defined in our code model
+     */
+    private Optional<Set<JDefinedClass>> resolveClosure(JDefinedClass interfaze) {
+        final Set<JDefinedClass> closure = new LinkedHashSet<>();
+        final List<JDefinedClass> queue = new ArrayList<>(List.of(interfaze));
+        while (!queue.isEmpty()) {
+            final JDefinedClass current = queue.remove(0);
+            if (!closure.add(current)) {
+                continue;
+            }
+            final Iterator<JClass> parents = current._implements();
+            while (parents.hasNext()) {
+                final JClass parent = parents.next();
+                if (parent.fullName().equals(Thing.class.getName())) {
+                    continue;
+                }
+                // References to other generated ontologies are by name, so look the definition up.
+                final JDefinedClass definition = parent instanceof JDefinedClass defined ? defined
+                        : codeModel._getClass(parent.fullName());
+                if (definition == null) {
+                    return Optional.empty();
+                }
+                queue.add(definition);
+            }
+        }
+        return Optional.of(closure);
+    }
+}
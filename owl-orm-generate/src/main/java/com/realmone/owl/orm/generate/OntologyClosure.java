@@ -0,0 +1,77 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.generate;
+
+import com.realmone.owl.orm.generate.support.GraphUtils;
+import lombok.Getter;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
+import org.eclipse.rdf4j.model.vocabulary.OWL;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The analysis of an ontology to generate that only needs RDF: its closure with the reference ontologies, the imports
+ * missing from that closure and the parents of each of its classes. Unlike generating the interfaces it doesn't touch
+ * the shared {@link com.sun.codemodel.JCodeModel}, so the closures of several ontologies can be analyzed in parallel.
+ * The models it reads must not be modified while it runs.
+ */
+class OntologyClosure {
+
+    private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
+
+    @Getter
+    private final Model closureModel = MODEL_FACTORY.createEmptyModel();
+    @Getter
+    private final Set<Resource> missingOntologies;
+    private final Map<Resource, Set<Resource>> parents = new HashMap<>();
+    private final Map<Resource, RuntimeException> failures = new HashMap<>();
+
+    OntologyClosure(Model ontologyModel, Model referenceModel, boolean enforceFullClosure) {
+        closureModel.addAll(ontologyModel);
+        closureModel.addAll(referenceModel);
+        // An ontology without exactly one ontology resource is rejected before anything else is looked at.
+        final Set<Resource> ontologies = ontologyModel.filter(null, RDF.TYPE, OWL.ONTOLOGY).subjects();
+        this.missingOntologies = ontologies.size() == 1
+                ? GraphUtils.missingOntologies(closureModel, ontologies.iterator().next()) : Collections.emptySet();
+        ontologyModel.filter(null, RDF.TYPE, OWL.CLASS).subjects().stream()
+                .filter(Resource::isIRI)
+                .forEach(classResource -> {
+                    try {
+                        parents.put(classResource, GraphUtils.lookupParentClasses(closureModel, classResource,
+                                enforceFullClosure));
+                    } catch (RuntimeException e) {
+                        // Kept until the class is generated, so failures surface in the same order as they would
+                        // without the analysis running ahead.
+                        failures.put(classResource, e);
+                    }
+                });
+    }
+
+    /**
+     * Get the parent classes of a class of the ontology, as {@link GraphUtils#lookupParentClasses(Model, Resource,
+     * boolean)} found them in the closure.
+     *
+     * @param classResource The class to get the parents of
+     * @return The parent classes
+     * @throws OrmGenerationException If looking up the parents failed
+     */
+    Set<Resource> lookupParentClasses(Resource classResource) throws OrmGenerationException {
+        final RuntimeException failure = failures.get(classResource);
+        if (failure != null) {
+            throw failure;
+        }
+        return parents.get(classResource);
+    }
+}
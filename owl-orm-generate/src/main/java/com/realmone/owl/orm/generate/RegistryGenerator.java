@@ -0,0 +1,188 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.generate;
+
+import com.realmone.owl.orm.VocabularyIRIs;
+import com.realmone.owl.orm.generate.properties.Property;
+import com.realmone.owl.orm.generate.support.GraphUtils;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JInvocation;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JPackage;
+import lombok.Value;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.vocabulary.OWL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.processing.Generated;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates an {@value #REGISTRY_NAME} class in every package interfaces were generated into, implementing
+ * {@link OntologyMetadata} with precomputed tables of the interfaces in the package: their type IRIs, the type IRIs of
+ * all their ancestors and the property methods each declares. Handing it to the engine spares it from reflecting over
+ * the annotations of every interface on first use.
+ * <p>
+ * Each interface is described by its own static method, so registries of large ontologies stay clear of the size
+ * limit on a single method.
+ * </p>
+ */
+class RegistryGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistryGenerator.class);
+
+    /**
+     * The simple name of the generated registry classes.
+     */
+    static final String REGISTRY_NAME = "OntologyRegistry";
+
+    private final JCodeModel codeModel;
+    private final Collection<GeneratingOntology> ontologies;
+    private final Map<JDefinedClass, List<Property>> attachedProperties = new HashMap<>();
+
+    RegistryGenerator(JCodeModel codeModel, Collection<GeneratingOntology> ontologies) {
+        this.codeModel = codeModel;
+        this.ontologies = ontologies;
+        ontologies.stream()
+                .flatMap(ontology -> Stream.concat(ontology.getDatatypeProperties().values().stream(),
+                        ontology.getObjectProperties().values().stream()))
+                .forEach(property -> property.getAttachments().keySet().forEach(owner ->
+                        attachedProperties.computeIfAbsent(owner, key -> new ArrayList<>()).add(property)));
+    }
+
+    /**
+     * Generate a registry for every package holding class interfaces of the ontologies.
+     */
+    void generate() {
+        // Several ontologies may share a package, and registries should come out the same on every run.
+        final Map<JPackage, Map<String, TypeDescription>> packages = new LinkedHashMap<>();
+        ontologies.forEach(ontology -> ontology.getClassIris().forEach(classIri -> {
+            final JClass jClass = ontology.getClassIndex().get(classIri);
+            if (jClass instanceof JDefinedClass interfaze && classIri instanceof IRI) {
+                packages.computeIfAbsent(ontology.getJPackage(), key -> new TreeMap<>())
+                        .put(interfaze.name(), new TypeDescription(ontology, classIri, interfaze));
+            }
+        }));
+        packages.forEach(this::generate);
+    }
+
+    private void generate(JPackage jPackage, Map<String, TypeDescription> types) {
+        final JDefinedClass registry;
+        try {
+            registry = jPackage._class(JMod.PUBLIC, REGISTRY_NAME);
+        } catch (JClassAlreadyExistsException e) {
+            LOGGER.warn("Not generating {} for package {} as {} already exists", REGISTRY_NAME, jPackage.name(),
+                    e.getExistingClass().fullName());
+            return;
+        }
+        registry._implements(OntologyMetadata.class);
+        registry.javadoc().add(String.format("<p>Metadata about the OWL ORM interfaces in package %s, for the "
+                + "ThingFactory to load instead of reflecting over their annotations.</p>%n", jPackage.name()));
+        registry.annotate(Generated.class)
+                .param("value", SourceGenerator.class.getName())
+                .param("comments", String.format("Generated by OWL ORM Maven Plugin for package: %s",
+                        jPackage.name()));
+        final JClass typeMetadata = codeModel.ref(TypeMetadata.class);
+        final JClass typeList = codeModel.ref(List.class).narrow(typeMetadata);
+        final JInvocation allTypes = codeModel.ref(List.class).staticInvoke("of");
+        types.values().forEach(type -> allTypes.arg(JExpr.invoke(describe(registry, type))));
+        registry.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, typeList, "TYPES", allTypes);
+        final JMethod getTypes = registry.method(JMod.PUBLIC, typeList, "getTypes");
+        getTypes.annotate(Override.class);
+        getTypes.body()._return(JExpr.ref("TYPES"));
+    }
+
+    /**
+     * Generate the method building the {@link TypeMetadata} of an interface.
+     */
+    private JMethod describe(JDefinedClass registry, TypeDescription type) {
+        final JDefinedClass interfaze = type.getInterfaze();
+        final JMethod method = registry.method(JMod.PRIVATE | JMod.STATIC, TypeMetadata.class,
+                "describe" + interfaze.name());
+        final JInvocation parents = codeModel.ref(Set.class).staticInvoke("of");
+        ancestors(type.getOntology(), type.getClassIri()).forEach(parent -> parents.arg(iri((IRI) parent)));
+        final Map<String, Integer> ordinals = new HashMap<>();
+        interfaze.methods().forEach(declared -> ordinals.putIfAbsent(declared.name(), ordinals.size()));
+        final Map<Integer, JExpression> descriptions = new TreeMap<>();
+        attachedProperties.getOrDefault(interfaze, List.of()).stream()
+                .filter(Property::isImplementable)
+                .forEach(property -> descriptions.putAll(property.describe(interfaze, ordinals::get)));
+        final JInvocation properties = codeModel.ref(List.class).staticInvoke("of");
+        descriptions.values().forEach(properties::arg);
+        method.body()._return(JExpr._new(codeModel.ref(TypeMetadata.class))
+                .arg(interfaze.dotclass())
+                .arg(interfaze.staticRef("TYPE"))
+                .arg(parents)
+                .arg(properties));
+        return method;
+    }
+
+    /**
+     * Find the classes an interface ends up extending the interfaces of, directly or not. Like the generated
+     * interfaces, these only include the parents that have an interface generated or referenced.
+     */
+    private Set<Resource> ancestors(GeneratingOntology ontology, Resource classIri) {
+        final Set<Resource> ancestors = new TreeSet<>(Comparator.comparing(Resource::stringValue));
+        final Deque<Resource> queue = new ArrayDeque<>(List.of(classIri));
+        while (!queue.isEmpty()) {
+            parents(ontology, queue.remove()).stream()
+                    .filter(parent -> !parent.equals(OWL.THING) && parent instanceof IRI)
+                    .filter(parent -> ontology.findClassReference(parent).isPresent())
+                    .filter(ancestors::add)
+                    .forEach(queue::add);
+        }
+        return ancestors;
+    }
+
+    private Set<Resource> parents(GeneratingOntology ontology, Resource classIri) {
+        return ontologies.stream()
+                .map(generating -> generating.getClassHierarchy().get(classIri))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseGet(() -> GraphUtils.lookupParentClasses(ontology.getClosureModel(), classIri, false));
+    }
+
+    private JExpression iri(IRI iri) {
+        return codeModel.ref(VocabularyIRIs.class).staticInvoke("createIRI")
+                .arg(iri.getNamespace())
+                .arg(iri.getLocalName());
+    }
+
+    /**
+     * A class interface to describe, and the ontology it was generated for.
+     */
+    @Value
+    private static class TypeDescription {
+        GeneratingOntology ontology;
+        Resource classIri;
+        JDefinedClass interfaze;
+    }
+}
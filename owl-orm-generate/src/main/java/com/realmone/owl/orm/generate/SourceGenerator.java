@@ -30,14 +30,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 public class SourceGenerator implements Runnable {
 
     private static final ModelFactory MODEL_FACTORY = new DynamicModelFactory();
 
+    /**
+     * Daemon threads for loading and analyzing ontologies, so an abandoned generation can't keep the build alive.
+     */
+    private static final ThreadFactory LOADER_THREADS = runnable -> {
+        final Thread thread = new Thread(runnable, "owl-orm-ontology-loader");
+        thread.setDaemon(true);
+        return thread;
+    };
+
     private final Model metamodel = MODEL_FACTORY.createEmptyModel();
     @Getter
     private final Set<ReferenceOntology> references;
@@ -50,13 +66,35 @@ public class SourceGenerator implements Runnable {
     private final FileSystemManager fileSystemManager;
 
 
+    /**
+     * Build a generator, loading and analyzing every ontology and generating the code model.
+     * <p>
+     * Parsing the ontology files and analyzing the closure of each ontology to generate run on a bounded pool of
+     * threads. Everything touching the shared {@link JCodeModel} or metamodel still happens on the calling thread, in
+     * the order the ontologies are given, so the generated sources are the same as if everything ran serially.
+     * </p>
+     *
+     * @param generateForOntologies     The ontologies to generate interfaces for
+     * @param referenceOntologies       The ontologies the generated ones may refer to
+     * @param outputLocation            The directory to write the generated sources to
+     * @param enforceFullClosure        Whether missing imports and parent classes fail the generation, defaults to
+     *                                  true
+     * @param isolateGenerationClosures Whether the ontologies to generate are left out of each other's closures,
+     *                                  defaults to false
+     * @param generateImplementations   Whether to generate concrete implementations of the interfaces, defaults to
+     *                                  false
+     * @param parallelism               The number of threads loading and analyzing ontologies, defaults to the number
+     *                                  of available processors
+     */
     @Builder
     protected SourceGenerator(@NonNull Set<OntologyMeta> generateForOntologies,
                               @NonNull Set<OntologyMeta> referenceOntologies,
                               @NonNull String outputLocation, Boolean enforceFullClosure,
-                              Boolean isolateGenerationClosures) {
+                              Boolean isolateGenerationClosures, Boolean generateImplementations,
+                              Integer parallelism) {
         final boolean includeGeneratedOntologiesInReferences = isolateGenerationClosures == null
                 || !isolateGenerationClosures;
+        final boolean enforce = enforceFullClosure == null || enforceFullClosure;
         this.outputLocation = outputLocation;
         try {
             fileSystemManager = VFS.getManager();
@@ -65,24 +103,58 @@ public class SourceGenerator implements Runnable {
         }
         // Load prolog header.
         this.prolog = loadProlog();
-        // Initialize our reference closure.
-        this.references = new HashSet<>(includeGeneratedOntologiesInReferences ?
-                referenceOntologies.size() + generateForOntologies.size() : referenceOntologies.size());
-        referenceOntologies.forEach(this::loadReference);
-        if (isolateGenerationClosures == null || !isolateGenerationClosures) {
-            generateForOntologies.forEach(this::loadReference);
+        final int threads = Math.max(1, Math.min(parallelism != null ? parallelism
+                        : Runtime.getRuntime().availableProcessors(),
+                referenceOntologies.size() + generateForOntologies.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, LOADER_THREADS);
+        try {
+            // Parse every ontology file up front. Ontologies to generate that are also references are parsed
+            // separately for each role, as blank nodes get new labels with every parse and show up in the output.
+            final Map<String, Future<Model>> referenceModels = new HashMap<>();
+            final Map<String, Future<Model>> generateModels = new HashMap<>();
+            referenceOntologies.forEach(wrapper -> referenceModels.computeIfAbsent(wrapper.getFile(),
+                    file -> executor.submit(() -> loadOntologyModel(file))));
+            if (includeGeneratedOntologiesInReferences) {
+                generateForOntologies.forEach(wrapper -> referenceModels.computeIfAbsent(wrapper.getFile(),
+                        file -> executor.submit(() -> loadOntologyModel(file))));
+            }
+            generateForOntologies.forEach(wrapper -> generateModels.computeIfAbsent(wrapper.getFile(),
+                    file -> executor.submit(() -> loadOntologyModel(file))));
+            // Initialize our reference closure.
+            this.references = new HashSet<>(includeGeneratedOntologiesInReferences ?
+                    referenceOntologies.size() + generateForOntologies.size() : referenceOntologies.size());
+            referenceOntologies.forEach(wrapper -> loadReference(wrapper,
+                    await(referenceModels.get(wrapper.getFile()))));
+            if (includeGeneratedOntologiesInReferences) {
+                generateForOntologies.forEach(wrapper -> loadReference(wrapper,
+                        await(referenceModels.get(wrapper.getFile()))));
+            }
+            // The metamodel is complete, so the closure of every ontology to generate can be analyzed. Every parse was
+            // submitted before these, so waiting on one from the pool can't starve it.
+            final Map<String, Future<OntologyClosure>> closures = new HashMap<>();
+            generateForOntologies.forEach(wrapper -> closures.computeIfAbsent(wrapper.getFile(), file ->
+                    executor.submit(() -> new OntologyClosure(await(generateModels.get(file)), metamodel, enforce))));
+            // Initialize our target ontologies to generate.
+            generateFor = new HashSet<>(generateForOntologies.size());
+            generateForOntologies.forEach(wrapper -> generateFor.add(GeneratingOntology.builder()
+                    .useCodeModel(jCodeModel)
+                    .useOntologyModel(await(generateModels.get(wrapper.getFile())))
+                    .useReferenceModel(metamodel)
+                    .useSourceGenerator(this)
+                    .useOntologyPackage(wrapper.getPackageName())
+                    .useOntologyName(wrapper.getOntologyName())
+                    .useEnforceFullClosure(enforce)
+                    .useClosure(await(closures.get(wrapper.getFile())))
+                    .build()));
+        } finally {
+            executor.shutdownNow();
+        }
+        // Generate concrete implementations of the interfaces once every ontology has attached its properties.
+        if (generateImplementations != null && generateImplementations) {
+            new ImplementationGenerator(jCodeModel, generateFor).generate();
         }
-        // Initialize our target ontologies to generate.
-        generateFor = new HashSet<>(generateForOntologies.size());
-        generateForOntologies.forEach(wrapper -> generateFor.add(GeneratingOntology.builder()
-                .useCodeModel(jCodeModel)
-                .useOntologyModel(loadOntologyModel(wrapper.getFile()))
-                .useReferenceModel(metamodel)
-                .useSourceGenerator(this)
-                .useOntologyPackage(wrapper.getPackageName())
-                .useOntologyName(wrapper.getOntologyName())
-                .useEnforceFullClosure(enforceFullClosure == null || enforceFullClosure)
-                .build()));
+        // Describe the generated interfaces of each package, so the engine doesn't have to reflect over them.
+        new RegistryGenerator(jCodeModel, generateFor).generate();
     }
 
     private String loadProlog(){
@@ -97,9 +169,8 @@ public class SourceGenerator implements Runnable {
         }
     }
 
-    private void loadReference(OntologyMeta wrapper) {
-        // Load our reference data into a model and create a ReferenceOntology instance.
-        final Model model = loadOntologyModel(wrapper.getFile());
+    private void loadReference(OntologyMeta wrapper, Model model) {
+        // Create a ReferenceOntology instance for our reference data.
         this.references.add(ReferenceOntology.builder()
                 .codeModel(jCodeModel)
                 .ontologyModel(model)
@@ -128,6 +199,25 @@ public class SourceGenerator implements Runnable {
         }
     }
 
+    /**
+     * Wait for a model to be loaded or a closure analyzed, failing the same way it would have on this thread.
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrmGenerationException("Interrupted while loading ontologies", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new OrmGenerationException("Issue loading ontologies", e.getCause());
+        }
+    }
+
     private Model loadOntologyModel(String ontologyFile) {
         try (FileObject fileObject = fileSystemManager.resolveFile(ontologyFile);
              final InputStream is = fileObject.getContent().getInputStream()) {
@@ -0,0 +1,83 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.generate.properties;
+
+import com.realmone.owl.orm.types.ValueConverter;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import com.sun.codemodel.JArray;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JVar;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The converters a generated implementation class hands to the BaseThing operations, one slot per converted type.
+ * The class gets a static {@value #RESOLVE_METHOD} method looking them all up from a registry, so the engine can
+ * resolve them once per class and registry and pass them to every instance it builds, instead of each instance
+ * looking up a converter for each of its properties.
+ */
+public class ConverterTable {
+
+    /**
+     * The field of the implementation holding its converters.
+     */
+    public static final String FIELD = "converters";
+
+    /**
+     * The static method of the implementation resolving its converters; the engine looks for the same name.
+     */
+    public static final String RESOLVE_METHOD = "resolveConverters";
+
+    private final JVar registry;
+    private final JArray resolved;
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    /**
+     * Declare the converters field and the {@value #RESOLVE_METHOD} method on an implementation class.
+     *
+     * @param codeModel      The code model the implementation belongs to
+     * @param implementation The implementation class to declare them on
+     */
+    public ConverterTable(JCodeModel codeModel, JDefinedClass implementation) {
+        final JClass converterType = codeModel.ref(ValueConverter.class).narrow(codeModel.wildcard());
+        implementation.field(JMod.PRIVATE | JMod.FINAL, converterType.array(), FIELD)
+                .javadoc().add("The converters of the property values, by the slot each converted type was given.");
+        final JMethod resolve = implementation.method(JMod.PUBLIC | JMod.STATIC, converterType.array(),
+                RESOLVE_METHOD);
+        registry = resolve.param(ValueConverterRegistry.class, "registry");
+        resolved = JExpr.newArray(converterType);
+        resolve.body()._return(resolved);
+        resolve.javadoc().add("Look up the converters of the property values of this class. A converter the registry "
+                + "doesn't have is left null, so the BaseThing operations fail the same way they would have looking "
+                + "it up themselves.");
+        resolve.javadoc().addParam(registry).add("The registry to look the converters up in");
+        resolve.javadoc().addReturn().add("The converters, in the order the constructor takes them");
+    }
+
+    /**
+     * Get the converter of a given type, giving the type a slot if it doesn't have one yet.
+     *
+     * @param convertedType The type the values are converted to and from
+     * @return An expression reading the converter from the implementation's converters
+     */
+    public JExpression slot(JClass convertedType) {
+        final Integer slot = slots.computeIfAbsent(convertedType.fullName(), name -> {
+            resolved.add(registry.invoke("getValueConverter").arg(convertedType.dotclass()).invoke("orElse")
+                    .arg(JExpr._null()));
+            return slots.size();
+        });
+        return JExpr._this().ref(FIELD).component(JExpr.lit(slot));
+    }
+}
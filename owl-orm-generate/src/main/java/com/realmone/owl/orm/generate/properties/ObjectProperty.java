@@ -17,6 +17,7 @@ import com.sun.codemodel.JDefinedClass;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 
 import java.util.Set;
@@ -37,6 +38,17 @@ public class ObjectProperty extends Property {
         // Intentionally left empty for this implementation of Property
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Object properties hold the IRIs of the things they point to.
+     * </p>
+     */
+    @Override
+    protected JClass getConvertedType() {
+        return jCodeModel.ref(IRI.class);
+    }
+
     private static JClass identifyRange(ClosureIndex closureIndex, Resource rangeIri, JCodeModel codeModel)
             throws OrmGenerationException {
         return closureIndex.findClassReference(rangeIri)
@@ -8,27 +8,39 @@
 package com.realmone.owl.orm.generate.properties;
 
 import com.realmone.owl.orm.VocabularyIRIs;
+import com.realmone.owl.orm.metadata.AccessorKind;
+import com.realmone.owl.orm.metadata.PrimitiveRange;
+import com.realmone.owl.orm.metadata.PropertyMetadata;
 import com.realmone.owl.orm.generate.ClosureIndex;
 import com.realmone.owl.orm.generate.OrmGenerationException;
 import com.sun.codemodel.JClass;
 import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JDocComment;
+import com.sun.codemodel.JExpr;
 import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
+import com.sun.codemodel.JType;
 import com.sun.codemodel.JVar;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 @Data
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -45,6 +57,12 @@ public abstract class Property {
     protected ClosureIndex closureIndex;
     protected Set<Resource> domain;
     protected String commentContext;
+    /**
+     * The interfaces this property has been attached to, and the suffix its methods were given on each.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    protected final Map<JDefinedClass, String> attachments = new LinkedHashMap<>();
 
     protected abstract void additionalAttach(JDefinedClass jDefinedClass, String suffix) throws OrmGenerationException;
 
@@ -63,12 +81,14 @@ public abstract class Property {
                     .javadoc().add("The IRI value of the " + resource + " property");
         }
         String suffix = getSuffix(counter);
+        attachments.put(jDefinedClass, suffix);
         // Build methods...
         createGetter(jDefinedClass, suffix);
         createSetter(jDefinedClass, suffix);
         createClearOutMethod(jDefinedClass, suffix);
         // addTo, removeFrom, clearOut on non-functional fields
         if (!functional) {
+            createStreamMethod(jDefinedClass, suffix);
             createAddRemoveMethod(jDefinedClass, true, suffix);
             createAddRemoveMethod(jDefinedClass, false, suffix);
 //            createClearOutMethod(jDefinedClass);
@@ -76,12 +96,150 @@ public abstract class Property {
         additionalAttach(jDefinedClass, suffix);
     }
 
+    /**
+     * Whether concrete implementations of the methods this property attaches can be generated. That requires an IRI
+     * constant on the interface to reference.
+     *
+     * @return True if {@link #implement(JDefinedClass, JDefinedClass, ConverterTable)} can be used for this property
+     */
+    public boolean isImplementable() {
+        return resource instanceof IRI;
+    }
+
+    /**
+     * Generate the bodies of the methods this property attached to a given interface on a class implementing it.
+     * Methods the implementation already declares (say from another property with the same name on a parent
+     * interface) are left alone.
+     *
+     * @param implementation The class implementing the interface, extending the engine's BaseThing
+     * @param owner          The interface this property was attached to
+     * @param converters     The converters of the implementation, to take this property's converter from
+     * @throws OrmGenerationException If this property was never attached to the owner interface
+     */
+    public void implement(JDefinedClass implementation, JDefinedClass owner, ConverterTable converters)
+            throws OrmGenerationException {
+        final String suffix = attachments.get(owner);
+        if (suffix == null || !isImplementable()) {
+            throw new OrmGenerationException(String.format("Cannot implement property %s for %s", resource,
+                    owner.fullName()));
+        }
+        final JExpression predicate = owner.staticRef(javaName.toUpperCase() + suffix);
+        final JExpression converter = converters.slot(getConvertedType());
+        final JClass getterType = functional ? jCodeModel.ref(Optional.class).narrow(targetRange)
+                : jCodeModel.ref(Set.class).narrow(targetRange);
+        // Boxed primitive ranges go through the operations using the primitive converters.
+        final PrimitiveRange primitive = PrimitiveRange.of(targetRange.fullName());
+        // Getter
+        implementMethod(implementation, getterType, getterName(suffix), null, null)
+                .ifPresent(method -> method.body()._return(functional && primitive != null
+                        ? JExpr.invoke(primitive.getGetter()).arg(predicate).arg(converter)
+                        : JExpr.invoke(functional ? "getFunctionalValue" : "getNonFunctionalValues").arg(predicate)
+                        .arg(targetRange.dotclass()).arg(converter)));
+        // Setter
+        implementMethod(implementation, jCodeModel.VOID, "set" + javaName + suffix,
+                functional ? targetRange : jCodeModel.ref(Set.class).narrow(targetRange),
+                functional ? "value" : "values")
+                .ifPresent(method -> method.body().add(functional && primitive != null
+                        ? JExpr.invoke(primitive.getSetter()).arg(predicate).arg(method.params().get(0)).arg(converter)
+                        : JExpr.invoke(functional ? "setFunctionalValue" : "setNonFunctionalValues").arg(predicate)
+                        .arg(targetRange.dotclass()).arg(method.params().get(0)).arg(converter)));
+        // Clear out
+        implementMethod(implementation, jCodeModel.BOOLEAN, "clearOut" + javaName + suffix, null, null)
+                .ifPresent(method -> method.body()._return(JExpr.invoke("clearValues").arg(predicate)));
+        if (!functional) {
+            implementMethod(implementation, jCodeModel.ref(Stream.class).narrow(targetRange),
+                    "stream" + javaName + suffix, null, null)
+                    .ifPresent(method -> method.body()._return(primitive != null
+                            ? JExpr.invoke(primitive.getStreamer()).arg(predicate).arg(converter)
+                            : JExpr.invoke("streamValues").arg(predicate).arg(targetRange.dotclass())
+                            .arg(converter)));
+            implementMethod(implementation, jCodeModel.BOOLEAN, "addTo" + javaName + suffix, targetRange, "toAdd")
+                    .ifPresent(method -> method.body()._return(valueInvocation("addValue", predicate, method)
+                            .arg(converter)));
+            implementMethod(implementation, jCodeModel.BOOLEAN, "removeFrom" + javaName + suffix, targetRange,
+                    "toRemove")
+                    .ifPresent(method -> method.body()._return(valueInvocation("removeValue", predicate, method)
+                            .arg(converter)));
+        }
+    }
+
+    /**
+     * The type the values of this property are converted to and from, which the generated implementation resolves a
+     * converter for.
+     *
+     * @return The range of this property
+     */
+    protected JClass getConvertedType() {
+        return targetRange;
+    }
+
+    /**
+     * Describe the methods this property attached to a given interface, for the generated {@code OntologyRegistry}.
+     *
+     * @param owner    The interface this property was attached to
+     * @param ordinals The ordinal of each method on the interface, by name
+     * @return An expression building the {@link PropertyMetadata} of each method, by the ordinal of the method
+     * @throws OrmGenerationException If this property was never attached to the owner interface
+     */
+    public Map<Integer, JExpression> describe(JDefinedClass owner, ToIntFunction<String> ordinals)
+            throws OrmGenerationException {
+        final String suffix = attachments.get(owner);
+        if (suffix == null || !isImplementable()) {
+            throw new OrmGenerationException(String.format("Cannot describe property %s for %s", resource,
+                    owner.fullName()));
+        }
+        final Map<String, AccessorKind> accessors = new LinkedHashMap<>();
+        accessors.put(getterName(suffix), AccessorKind.GET);
+        accessors.put("set" + javaName + suffix, AccessorKind.SET);
+        accessors.put("clearOut" + javaName + suffix, AccessorKind.CLEAR);
+        if (!functional) {
+            accessors.put("stream" + javaName + suffix, AccessorKind.STREAM);
+            accessors.put("addTo" + javaName + suffix, AccessorKind.ADD);
+            accessors.put("removeFrom" + javaName + suffix, AccessorKind.REMOVE);
+        }
+        final JExpression predicate = owner.staticRef(javaName.toUpperCase() + suffix);
+        final Map<Integer, JExpression> descriptions = new LinkedHashMap<>();
+        accessors.forEach((name, kind) -> {
+            final int ordinal = ordinals.applyAsInt(name);
+            descriptions.put(ordinal, JExpr._new(jCodeModel.ref(PropertyMetadata.class))
+                    .arg(JExpr.lit(name))
+                    .arg(predicate)
+                    .arg(JExpr.lit(functional))
+                    .arg(targetRange.dotclass())
+                    .arg(jCodeModel.ref(AccessorKind.class).staticRef(kind.name()))
+                    .arg(JExpr.lit(ordinal)));
+        });
+        return descriptions;
+    }
+
+    private JInvocation valueInvocation(String name, JExpression predicate, JMethod method) {
+        return JExpr.invoke(name).arg(predicate).arg(targetRange.dotclass()).arg(method.params().get(0));
+    }
+
+    private Optional<JMethod> implementMethod(JDefinedClass implementation, JType returnType, String name,
+                                              JType paramType, String paramName) {
+        if (implementation.methods().stream().anyMatch(existing -> existing.name().equals(name))) {
+            LOGGER.debug("Method {} already implemented on {}", name, implementation.fullName());
+            return Optional.empty();
+        }
+        JMethod method = implementation.method(JMod.PUBLIC, returnType, name);
+        method.annotate(Override.class);
+        if (paramType != null) {
+            method.param(paramType, paramName);
+        }
+        return Optional.of(method);
+    }
+
+    private String getterName(String suffix) {
+        return String.format("%s%s%s", functional && targetRange.fullName().equals(Boolean.class.getName()) ? "is"
+                : "get", javaName, suffix);
+    }
+
     private void createGetter(JDefinedClass jDefinedClass, String suffix) {
         JMethod method = jDefinedClass.method(JMod.PUBLIC,
                 functional ? jCodeModel.ref(Optional.class).narrow(targetRange)
                         : jCodeModel.ref(Set.class).narrow(targetRange),
-                String.format("%s%s%s", functional && targetRange.fullName().equals(Boolean.class.getName()) ? "is"
-                        : "get", javaName, suffix));
+                getterName(suffix));
         annotateMethod(method, targetRange.dotclass());
         JDocComment docs = method.javadoc();
 
@@ -109,6 +267,17 @@ public abstract class Property {
                 : "The set of values to associate with this property for this instance");
     }
 
+    private void createStreamMethod(JDefinedClass jDefinedClass, String suffix) {
+        JMethod method = jDefinedClass.method(JMod.PUBLIC, jCodeModel.ref(Stream.class).narrow(targetRange),
+                String.format("stream%s%s", javaName, suffix));
+        annotateMethod(method, targetRange.dotclass());
+        JDocComment docs = method.javadoc();
+        docs.add(String.format("<p>Stream values for non-functional property <b>%s</b>. Values are converted lazily "
+                + "as the stream is consumed, without building an intermediate set.</p><br/>", resource.stringValue()));
+        docs.add(commentContext);
+        docs.addReturn().add("The stream of values from the underlying graph model");
+    }
+
     private void createAddRemoveMethod(JDefinedClass jDefinedClass, boolean add, String suffix) {
         JMethod method = jDefinedClass.method(JMod.PUBLIC, jCodeModel.BOOLEAN, String.format("%s%s%s", add ? "addTo"
                 : "removeFrom", javaName, suffix));
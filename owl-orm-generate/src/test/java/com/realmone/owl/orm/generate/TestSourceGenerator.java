@@ -7,14 +7,42 @@
  */
 package com.realmone.owl.orm.generate;
 
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.metadata.PropertyMetadata;
+import com.realmone.owl.orm.metadata.TypeMetadata;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.DoubleValueConverter;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
 import java.io.File;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class TestSourceGenerator {
 
@@ -100,6 +128,152 @@ public class TestSourceGenerator {
                 .build();
     }
 
+    @Test
+    public void testGenerateImplementations() throws Exception {
+        SourceGenerator gen = SourceGenerator.builder()
+                .generateForOntologies(Set.of(
+                        OntologyMeta.builder()
+                                .file(new File("src/test/resources/BierOnto.ttl").getAbsolutePath())
+                                .ontologyName("BierOnto")
+                                .packageName("com.realmone.bieronto")
+                                .build(),
+                        OntologyMeta.builder()
+                                .file(new File("src/test/resources/foaf.owl").getAbsolutePath())
+                                .packageName("org.foaf")
+                                .ontologyName("Friend of a Friend")
+                                .build()))
+                .referenceOntologies(Collections.emptySet())
+                .outputLocation(output.getPath())
+                .enforceFullClosure(true)
+                .generateImplementations(true)
+                .build();
+        gen.run();
+        Assert.assertTrue(new File(output, "com/realmone/bieronto/BeerImpl.java").isFile());
+        Assert.assertTrue(new File(output, "org/foaf/PersonImpl.java").isFile());
+        // Non-functional properties get lazy stream accessors on both sides.
+        Assert.assertTrue(FileUtils.readFileToString(new File(output, "org/foaf/Person.java"),
+                StandardCharsets.UTF_8).contains("Stream<"));
+        String personImpl = FileUtils.readFileToString(new File(output, "org/foaf/PersonImpl.java"),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(personImpl.contains("streamValues("));
+        // Converters are resolved once per class and handed to each instance, and nothing in the output depends on
+        // when it was generated.
+        Assert.assertTrue(personImpl.contains("resolveConverters(ValueConverterRegistry registry)"));
+        Assert.assertTrue(personImpl.contains("this.converters["));
+        Assert.assertFalse(personImpl.contains("knowsConverter"));
+        Assert.assertFalse(personImpl.contains("date = "));
+        // Boxed primitive ranges go through the primitive converter operations.
+        String beerImpl = FileUtils.readFileToString(new File(output, "com/realmone/bieronto/BeerImpl.java"),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(beerImpl.contains("getBoxedDoubleValue(Beer.ALCOHOLBYVOLUME, this.converters["));
+        Assert.assertTrue(beerImpl.contains("setBoxedDoubleValue(Beer.ALCOHOLBYVOLUME, value, "));
+        // The generated interfaces and implementations should compile against the engine.
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Collection<File> sources = FileUtils.listFiles(output, new String[]{"java"}, true);
+            File classes = new File("target/source-gen-test-classes");
+            FileUtils.deleteDirectory(classes);
+            Assert.assertTrue(classes.mkdirs());
+            StringWriter diagnostics = new StringWriter();
+            boolean compiled = compiler.getTask(diagnostics, fileManager, null,
+                    List.of("-d", classes.getPath(), "-classpath", System.getProperty("java.class.path")), null,
+                    fileManager.getJavaFileObjectsFromFiles(sources)).call();
+            Assert.assertTrue(diagnostics.toString(), compiled);
+            // Every package gets a registry describing its interfaces, ancestors included.
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                    getClass().getClassLoader())) {
+                Map<String, TypeMetadata> types = new HashMap<>();
+                for (String registry : List.of("com.realmone.bieronto.OntologyRegistry", "org.foaf.OntologyRegistry")) {
+                    OntologyMetadata metadata = (OntologyMetadata) loader.loadClass(registry)
+                            .getConstructor().newInstance();
+                    metadata.getTypes().forEach(type -> types.put(type.getType().getName(), type));
+                }
+                TypeMetadata person = types.get("org.foaf.Person");
+                Assert.assertEquals("http://xmlns.com/foaf/0.1/Person", person.getTypeIri().stringValue());
+                Assert.assertTrue(person.getParents().stream()
+                        .anyMatch(parent -> parent.stringValue().equals("http://xmlns.com/foaf/0.1/Agent")));
+                // The tables should match what the engine would otherwise work out reflectively.
+                for (TypeMetadata type : types.values()) {
+                    Assert.assertEquals(type.getType().getDeclaredAnnotation(Type.class).value(),
+                            type.getTypeIri().stringValue());
+                    Assert.assertEquals(BaseThingFactory.getAllExtendedOrImplementedTypesRecursively(type.getType())
+                                    .stream()
+                                    .map(parent -> parent.getDeclaredAnnotation(Type.class))
+                                    .filter(Objects::nonNull)
+                                    .map(Type::value)
+                                    .collect(Collectors.toSet()),
+                            type.getParents().stream().map(IRI::stringValue).collect(Collectors.toSet()));
+                    Assert.assertEquals(type.getType().getDeclaredMethods().length, type.getProperties().size());
+                    for (PropertyMetadata property : type.getProperties()) {
+                        Method method = Arrays.stream(type.getType().getDeclaredMethods())
+                                .filter(declared -> declared.getName().equals(property.getMethodName()))
+                                .findFirst().orElseThrow();
+                        Property annotation = method.getDeclaredAnnotation(Property.class);
+                        Assert.assertEquals(annotation.value(), property.getPredicate().stringValue());
+                        Assert.assertEquals(annotation.functional(), property.isFunctional());
+                        Assert.assertEquals(annotation.type(), property.getRange());
+                    }
+                }
+                // The engine instantiates the generated implementations, handing them converters resolved per class.
+                DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+                registry.register(new DoubleValueConverter());
+                BaseThingFactory factory = BaseThingFactory.builder()
+                        .valueConverterRegistry(registry)
+                        .valueFactory(SimpleValueFactory.getInstance())
+                        .build();
+                Class<? extends Thing> beerType = loader.loadClass("com.realmone.bieronto.Beer")
+                        .asSubclass(Thing.class);
+                Thing beer = factory.create(beerType, "urn:beer", new LinkedHashModel());
+                Assert.assertEquals("com.realmone.bieronto.BeerImpl", beer.getClass().getName());
+                beerType.getMethod("setAlcoholByVolume", Double.class).invoke(beer, 5.5);
+                Assert.assertEquals(Optional.of(5.5), beerType.getMethod("getAlcoholByVolume").invoke(beer));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelGenerationMatchesSerial() throws Exception {
+        Map<String, String> serial = generateWith(1, new File(output, "serial"));
+        Map<String, String> parallel = generateWith(4, new File(output, "parallel"));
+        Assert.assertFalse(serial.isEmpty());
+        Assert.assertEquals(serial, parallel);
+    }
+
+    /**
+     * Generate BierOnto and FOAF with a given parallelism, and read back every source. Generation dates and the
+     * per-parse part of blank node labels differ between any two runs, so they're blanked.
+     */
+    private Map<String, String> generateWith(int parallelism, File location) throws Exception {
+        Assert.assertTrue(location.mkdirs());
+        SourceGenerator.builder()
+                .generateForOntologies(Set.of(
+                        OntologyMeta.builder()
+                                .file(new File("src/test/resources/BierOnto.ttl").getAbsolutePath())
+                                .ontologyName("BierOnto")
+                                .packageName("com.realmone.bieronto")
+                                .build(),
+                        OntologyMeta.builder()
+                                .file(new File("src/test/resources/foaf.owl").getAbsolutePath())
+                                .packageName("org.foaf")
+                                .ontologyName("Friend of a Friend")
+                                .build()))
+                .referenceOntologies(Collections.emptySet())
+                .outputLocation(location.getPath())
+                .enforceFullClosure(true)
+                .generateImplementations(true)
+                .parallelism(parallelism)
+                .build()
+                .run();
+        Map<String, String> sources = new HashMap<>();
+        for (File source : FileUtils.listFiles(location, new String[]{"java"}, true)) {
+            sources.put(location.toPath().relativize(source.toPath()).toString(),
+                    FileUtils.readFileToString(source, StandardCharsets.UTF_8)
+                            .replaceAll("date = \"[^\"]*\"", "date = \"\"")
+                            .replaceAll("_:genid-[0-9a-f]+-", "_:genid-"));
+        }
+        return sources;
+    }
+
     private Set<OntologyMeta> singletonSet(OntologyMeta wrapper) {
         return Collections.singleton(wrapper);
     }
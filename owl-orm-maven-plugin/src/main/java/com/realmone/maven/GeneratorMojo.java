@@ -51,6 +51,19 @@ public class GeneratorMojo extends AbstractMojo {
     @Parameter(property = "isolateGenerationClosures", required = true, defaultValue = "false")
     private boolean isolateGenerationClosures;
 
+    /**
+     * Whether to generate a concrete implementation class alongside each generated interface, so that the engine
+     * doesn't need to proxy them. Requires the owl-orm-engine on the classpath of the generated sources.
+     */
+    @Parameter(property = "generateImplementations", defaultValue = "false")
+    private boolean generateImplementations;
+
+    /**
+     * The number of threads parsing ontologies and analyzing their closures. Defaults to the number of available
+     * processors; the generated sources are the same whatever it's set to.
+     */
+    @Parameter(property = "parallelism")
+    private Integer parallelism;
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -59,6 +72,8 @@ public class GeneratorMojo extends AbstractMojo {
             SourceGenerator generator = SourceGenerator.builder()
                     .enforceFullClosure(enforceFullClosure)
                     .isolateGenerationClosures(isolateGenerationClosures)
+                    .generateImplementations(generateImplementations)
+                    .parallelism(parallelism)
                     .generateForOntologies(convertOnts(generates))
                     .referenceOntologies(convertOnts(references))
                     .outputLocation(outputLocation)
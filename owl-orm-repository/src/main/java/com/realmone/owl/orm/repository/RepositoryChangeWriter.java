@@ -0,0 +1,85 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.basic.UnitOfWork;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+/**
+ * A {@link UnitOfWork.ChangeWriter} persisting the changes of a {@link UnitOfWork} through an RDF4j
+ * {@link RepositoryConnection}. If the connection has no active transaction the changes are written in one of their
+ * own, which is rolled back if they can't all be written. Otherwise they become part of the caller's transaction, to
+ * commit or roll back as they see fit.
+ * <p>
+ * This is meant for units of work over a detached model, like statements copied out of the repository. A
+ * {@link RepositoryModel} already writes through its connection, so it doesn't need a unit of work to persist its
+ * changes.
+ * </p>
+ */
+public class RepositoryChangeWriter implements UnitOfWork.ChangeWriter {
+
+    /**
+     * The {@link RepositoryConnection} changes are written through.
+     */
+    @Getter
+    private final RepositoryConnection connection;
+
+    /**
+     * Construct a new {@link RepositoryChangeWriter}.
+     *
+     * @param connection The {@link RepositoryConnection} to write changes through
+     */
+    public RepositoryChangeWriter(@NonNull RepositoryConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Write the pending changes of a {@link UnitOfWork} to a repository, and then apply them to its underlying model.
+     * If writing fails, the transaction is rolled back, the underlying model is left alone and the changes stay
+     * pending.
+     *
+     * @param unitOfWork The {@link UnitOfWork} to flush
+     * @param connection The {@link RepositoryConnection} to write the changes through
+     * @throws OrmException If the changes couldn't be written
+     */
+    public static void flush(@NonNull UnitOfWork unitOfWork, @NonNull RepositoryConnection connection)
+            throws OrmException {
+        unitOfWork.flush(new RepositoryChangeWriter(connection));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(Model additions, Model removals) throws RepositoryException {
+        if (connection.isActive()) {
+            apply(additions, removals);
+            return;
+        }
+        connection.begin();
+        try {
+            apply(additions, removals);
+            connection.commit();
+        } catch (RuntimeException e) {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+            throw e;
+        }
+    }
+
+    private void apply(Model additions, Model removals) {
+        connection.remove(removals);
+        connection.add(additions);
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.basic.ThingModel;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.AbstractModel;
+import org.eclipse.rdf4j.model.impl.FilteredModel;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link Model} over an RDF4j {@link RepositoryConnection} that only holds the statements it has been asked about.
+ * The statements of a subject are loaded the first time a pattern with that subject is used, and are answered from
+ * memory from then on. Patterns without a subject go to the repository. Every write goes straight through the
+ * connection, so it takes part in whatever transaction the connection is in.
+ * <p>
+ * Only the most recently used subjects are held, up to a fixed number; the statements of the least recently used one
+ * are dropped to make room, and read again if it is used later. As writes go straight to the repository, nothing is
+ * lost by dropping them. Changes made to the repository by other means after a subject is loaded aren't seen until
+ * it is dropped or {@link #refresh()} is called. Like the connection it wraps, this model isn't thread safe.
+ * </p>
+ */
+public class RepositoryModel extends AbstractModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Resource[] NO_CONTEXTS = new Resource[0];
+
+    /**
+     * The number of subjects held by default.
+     */
+    public static final int DEFAULT_MAX_LOADED_SUBJECTS = 10_000;
+
+    private final transient RepositoryConnection connection;
+
+    private final boolean includeInferred;
+
+    /**
+     * The statements of the subjects currently loaded.
+     */
+    private final ThingModel cache = new ThingModel();
+
+    /**
+     * The subjects currently loaded, least recently used first.
+     */
+    private final Map<Resource, Boolean> loaded;
+
+    /**
+     * Construct a new model over a connection, holding up to {@value #DEFAULT_MAX_LOADED_SUBJECTS} subjects.
+     *
+     * @param connection      The {@link RepositoryConnection} to read from and write through
+     * @param includeInferred Whether inferred statements should be read as well as explicit ones
+     */
+    public RepositoryModel(@NonNull RepositoryConnection connection, boolean includeInferred) {
+        this(connection, includeInferred, DEFAULT_MAX_LOADED_SUBJECTS);
+    }
+
+    /**
+     * Construct a new model over a connection.
+     *
+     * @param connection        The {@link RepositoryConnection} to read from and write through
+     * @param includeInferred   Whether inferred statements should be read as well as explicit ones
+     * @param maxLoadedSubjects The most subjects to hold the statements of at once
+     */
+    public RepositoryModel(@NonNull RepositoryConnection connection, boolean includeInferred,
+                           int maxLoadedSubjects) {
+        if (maxLoadedSubjects < 1) {
+            throw new IllegalArgumentException("Must be able to load at least one subject: " + maxLoadedSubjects);
+        }
+        this.connection = connection;
+        this.includeInferred = includeInferred;
+        this.loaded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Resource, Boolean> eldest) {
+                if (size() > maxLoadedSubjects) {
+                    cache.remove(eldest.getKey(), null, null);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The {@link RepositoryConnection} this model reads from and writes through
+     */
+    public RepositoryConnection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Forget every statement loaded so far, so they're read from the repository again when next needed.
+     */
+    public void refresh() {
+        cache.clear();
+        loaded.clear();
+    }
+
+    /**
+     * @return The number of subjects whose statements are held in memory
+     */
+    public int loadedSubjects() {
+        return loaded.size();
+    }
+
+    @Override
+    public Set<Namespace> getNamespaces() {
+        final Set<Namespace> namespaces = new LinkedHashSet<>();
+        try (RepositoryResult<Namespace> result = connection.getNamespaces()) {
+            result.forEach(namespaces::add);
+        }
+        return namespaces;
+    }
+
+    @Override
+    public Optional<Namespace> getNamespace(String prefix) {
+        return Optional.ofNullable(connection.getNamespace(prefix)).map(name -> new SimpleNamespace(prefix, name));
+    }
+
+    @Override
+    public void setNamespace(Namespace namespace) {
+        connection.setNamespace(namespace.getPrefix(), namespace.getName());
+    }
+
+    @Override
+    public Optional<Namespace> removeNamespace(String prefix) {
+        final Optional<Namespace> existing = getNamespace(prefix);
+        existing.ifPresent(namespace -> connection.removeNamespace(prefix));
+        return existing;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, connection.size());
+    }
+
+    @Override
+    public boolean add(@NonNull Resource subj, @NonNull IRI pred, @NonNull Value obj, Resource... contexts) {
+        load(subj);
+        if (cache.add(subj, pred, obj, contexts)) {
+            connection.add(subj, pred, obj, contexts);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        if (subj != null) {
+            load(subj);
+            return cache.contains(subj, pred, obj, contexts);
+        }
+        return connection.hasStatement(null, pred, obj, includeInferred, contexts);
+    }
+
+    @Override
+    public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        if (subj != null) {
+            load(subj);
+            if (cache.remove(subj, pred, obj, contexts)) {
+                connection.remove(subj, pred, obj, contexts);
+                return true;
+            }
+            return false;
+        } else if (connection.hasStatement(null, pred, obj, false, contexts)) {
+            connection.remove((Resource) null, pred, obj, contexts);
+            cache.remove(null, pred, obj, contexts);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
+        final Resource[] filter = contexts != null ? contexts : NO_CONTEXTS;
+        return new FilteredModel(this, subj, pred, obj, filter) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Iterator<Statement> iterator() {
+                return matches(subj, pred, obj, filter);
+            }
+
+            @Override
+            protected void removeFilteredTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred,
+                                                       Value obj, Resource... contexts) {
+                RepositoryModel.this.remove(subj, pred, obj, contexts);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Statement> iterator() {
+        return matches(null, null, null, NO_CONTEXTS);
+    }
+
+    @Override
+    public void removeTermIteration(Iterator<Statement> iterator, Resource subj, IRI pred, Value obj,
+                                    Resource... contexts) {
+        remove(subj, pred, obj, contexts);
+    }
+
+    /**
+     * Load the statements of a subject unless they already are, marking it as the most recently used.
+     */
+    private void load(Resource subj) {
+        if (loaded.get(subj) == null) {
+            loaded.put(subj, Boolean.TRUE);
+            try (RepositoryResult<Statement> result = connection.getStatements(subj, null, null,
+                    includeInferred)) {
+                result.forEach(cache::add);
+            }
+        }
+    }
+
+    /**
+     * Collect the statements matching a pattern, so iterating them doesn't hold a repository result open and
+     * removing them while iterating is safe.
+     */
+    private Iterator<Statement> matches(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+        final List<Statement> statements = new ArrayList<>();
+        if (subj != null) {
+            load(subj);
+            cache.filter(subj, pred, obj, contexts).forEach(statements::add);
+        } else {
+            try (RepositoryResult<Statement> result = connection.getStatements(null, pred, obj, includeInferred,
+                    contexts)) {
+                result.forEach(statements::add);
+            }
+        }
+        final Iterator<Statement> iterator = statements.iterator();
+        return new Iterator<>() {
+            private Statement last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Statement next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                RepositoryModel.this.remove(last.getSubject(), last.getPredicate(), last.getObject(),
+                        last.getContext());
+                last = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.ThingFactory;
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.ThingEngine;
+import com.realmone.owl.orm.metadata.OntologyMetadata;
+import com.realmone.owl.orm.types.ValueConverterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ModelFactory;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ThingFactory} working on top of an RDF4j {@link RepositoryConnection}. {@link Thing}s are backed by a
+ * {@link RepositoryModel}, so the statements of a resource are only read from the repository the first time one of its
+ * properties is accessed, and every write goes through the connection. Wrap your work in
+ * {@link RepositoryConnection#begin()} and {@link RepositoryConnection#commit()} to make it atomic.
+ * <p>
+ * The methods without a model argument work on a single {@link RepositoryModel} owned by this factory, so statements
+ * loaded by one {@link Thing} are reused by the next one for the same resource, as long as it is among the most
+ * recently used. Models from the
+ * {@link #getModelFactory()} each have their own cache. Like the connection it wraps, this factory isn't thread safe.
+ * </p>
+ */
+public class RepositoryThingFactory implements ThingFactory {
+
+    /**
+     * The factory building the actual {@link Thing}s.
+     */
+    private final BaseThingFactory delegate;
+
+    /**
+     * The {@link RepositoryConnection} the {@link Thing}s of this factory read from and write through.
+     */
+    @Getter
+    private final RepositoryConnection connection;
+
+    /**
+     * The {@link RepositoryModel} shared by the methods without a model argument.
+     */
+    @Getter
+    private final RepositoryModel model;
+
+    /**
+     * Build a factory.
+     *
+     * @param connection             The {@link RepositoryConnection} to read from and write through
+     * @param valueConverterRegistry The registry of converters between RDF values and Java types
+     * @param valueFactory           The {@link ValueFactory} used to build IRIs, defaults to the connection's
+     * @param engine                 How to implement interfaces without a generated class, defaults to
+     *                               {@link ThingEngine#PROXY}
+     * @param includeInferred        Whether inferred statements should be read as well as explicit ones
+     * @param maxLoadedSubjects      The most subjects each {@link RepositoryModel} holds the statements of at once,
+     *                               defaults to {@value RepositoryModel#DEFAULT_MAX_LOADED_SUBJECTS}
+     * @param ontologies             Precomputed metadata about interfaces, like the generated {@code OntologyRegistry}
+     *                               classes
+     */
+    @Builder
+    private RepositoryThingFactory(@NonNull RepositoryConnection connection,
+                                   @NonNull ValueConverterRegistry valueConverterRegistry,
+                                   ValueFactory valueFactory, ThingEngine engine, boolean includeInferred,
+                                   Integer maxLoadedSubjects, @Singular List<OntologyMetadata> ontologies) {
+        final int capacity = maxLoadedSubjects != null ? maxLoadedSubjects
+                : RepositoryModel.DEFAULT_MAX_LOADED_SUBJECTS;
+        this.connection = connection;
+        this.model = new RepositoryModel(connection, includeInferred, capacity);
+        this.delegate = BaseThingFactory.builder()
+                .valueConverterRegistry(valueConverterRegistry)
+                .valueFactory(valueFactory != null ? valueFactory : connection.getValueFactory())
+                .modelFactory(() -> new RepositoryModel(connection, includeInferred, capacity))
+                .engine(engine)
+                .ontologies(ontologies)
+                .build();
+    }
+
+    /**
+     * Get a {@link Thing} from the repository.
+     *
+     * @param type     The interface class that extends {@link Thing} that you want to work with
+     * @param resource The {@link Resource} that uniquely identifies your instance of the {@link Thing}
+     * @param <T>      The type of {@link Thing} you want to work with
+     * @return The instance of your {@link Thing} or an empty {@link Optional} if it doesn't exist in the repository
+     * @throws OrmException If there is an issue with getting your instance
+     */
+    public <T extends Thing> Optional<T> get(Class<T> type, Resource resource) throws OrmException {
+        return delegate.get(type, resource, model);
+    }
+
+    /**
+     * Get every instance of a type of {@link Thing} in the repository. Only the subjects are read up front; their
+     * statements are loaded as each {@link Thing} is used.
+     *
+     * @param type The interface class that extends {@link Thing} that you want to work with
+     * @param <T>  The type of {@link Thing} you want to work with
+     * @return The instances of your {@link Thing}
+     * @throws OrmException If there is an issue with getting your instances
+     */
+    public <T extends Thing> List<T> getAll(Class<T> type) throws OrmException {
+        return delegate.getAll(type, model);
+    }
+
+    /**
+     * Forget the statements loaded into this factory's {@link RepositoryModel}, so changes made to the repository by
+     * other means are seen.
+     */
+    public void refresh() {
+        model.refresh();
+    }
+
+    @Override
+    public <T extends Thing> T create(Class<T> type, Resource resource) throws OrmException {
+        return delegate.create(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> T create(Class<T> type, Resource resource, Model model) throws OrmException {
+        return delegate.create(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> T create(Class<T> type, String resource, Model model) throws OrmException {
+        return delegate.create(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> T create(Class<T> type, String resource) throws OrmException {
+        return delegate.create(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> List<T> createAll(Class<T> type, Collection<? extends Resource> resources, Model model)
+            throws OrmException {
+        return delegate.createAll(type, resources, model);
+    }
+
+    @Override
+    public <T extends Thing> Optional<T> get(Class<T> type, Resource resource, Model model) throws OrmException {
+        return delegate.get(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> Optional<T> get(Class<T> type, String resource, Model model) throws OrmException {
+        return delegate.get(type, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> Optional<T> getMostSpecific(Class<T> bound, Resource resource, Model model)
+            throws OrmException {
+        return delegate.getMostSpecific(bound, resource, model);
+    }
+
+    @Override
+    public <T extends Thing> List<T> getAll(Class<T> type, Model model) throws OrmException {
+        return delegate.getAll(type, model);
+    }
+
+    @Override
+    public <T extends Thing> Stream<T> streamAll(Class<T> type, Model model) throws OrmException {
+        return delegate.streamAll(type, model);
+    }
+
+    @Override
+    public ValueFactory getValueFactory() {
+        return delegate.getValueFactory();
+    }
+
+    @Override
+    public ModelFactory getModelFactory() {
+        return delegate.getModelFactory();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.Thing;
+import com.realmone.owl.orm.annotations.Property;
+import com.realmone.owl.orm.annotations.Type;
+
+import java.util.Optional;
+import java.util.Set;
+
+@Type(Person.TYPE_IRI)
+public interface Person extends Thing {
+
+    String TYPE_IRI = "urn://example#Person";
+    String PREDICATE_NAME = "urn://name";
+    String PREDICATE_KNOWS = "urn://knows";
+
+    @Property(value = PREDICATE_NAME, functional = true, type = String.class)
+    Optional<String> getName();
+
+    @Property(value = PREDICATE_NAME, functional = true, type = String.class)
+    void setName(String value);
+
+    @Property(value = PREDICATE_KNOWS, type = Person.class)
+    Set<Person> getKnows();
+
+    @Property(value = PREDICATE_KNOWS, type = Person.class)
+    boolean addToKnows(Person value);
+}
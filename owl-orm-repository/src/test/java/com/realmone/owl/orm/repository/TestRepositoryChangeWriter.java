@@ -0,0 +1,155 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.OrmException;
+import com.realmone.owl.orm.basic.BaseThingFactory;
+import com.realmone.owl.orm.basic.UnitOfWork;
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+public class TestRepositoryChangeWriter {
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    private Repository repository;
+
+    private BaseThingFactory factory;
+
+    private ValueFactory vf;
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new ResourceValueConverter());
+    }
+
+    @Before
+    public void init() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        try (RepositoryConnection connection = repository.getConnection();
+             Reader reader = new FileReader("src/test/resources/people.ttl")) {
+            connection.add(reader, "urn://", RDFFormat.TURTLE);
+        }
+        vf = repository.getValueFactory();
+        factory = BaseThingFactory.builder()
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .valueFactory(vf)
+                .build();
+    }
+
+    @After
+    public void shutDown() {
+        repository.shutDown();
+    }
+
+    @Test
+    public void testFlush() {
+        try (RepositoryConnection connection = repository.getConnection()) {
+            Model snapshot = snapshot(connection);
+            UnitOfWork unitOfWork = factory.beginUnitOfWork(snapshot);
+            unitOfWork.get(Person.class, vf.createIRI("urn://bob")).orElseThrow().setName("Robert");
+            unitOfWork.create(Person.class, vf.createIRI("urn://dave")).setName("Dave");
+
+            RepositoryChangeWriter.flush(unitOfWork, connection);
+            Assert.assertFalse(unitOfWork.hasChanges());
+            Assert.assertFalse(connection.isActive());
+            Assert.assertTrue(Models.isomorphic(snapshot, snapshot(connection)));
+            Assert.assertTrue(connection.hasStatement(vf.createIRI("urn://bob"), name(), vf.createLiteral("Robert"),
+                    false));
+            Assert.assertFalse(connection.hasStatement(vf.createIRI("urn://bob"), name(), vf.createLiteral("Bob"),
+                    false));
+            Assert.assertTrue(connection.hasStatement(vf.createIRI("urn://dave"), name(), vf.createLiteral("Dave"),
+                    false));
+        }
+    }
+
+    @Test
+    public void testJoinsActiveTransaction() {
+        try (RepositoryConnection connection = repository.getConnection()) {
+            UnitOfWork unitOfWork = factory.beginUnitOfWork(snapshot(connection));
+            unitOfWork.create(Person.class, vf.createIRI("urn://dave")).setName("Dave");
+            connection.begin();
+            RepositoryChangeWriter.flush(unitOfWork, connection);
+            Assert.assertTrue(connection.isActive());
+            connection.rollback();
+            Assert.assertFalse(connection.hasStatement(vf.createIRI("urn://dave"), null, null, false));
+        }
+    }
+
+    @Test
+    public void testRollbackOnFailure() {
+        try (RepositoryConnection connection = repository.getConnection()) {
+            Model snapshot = snapshot(connection);
+            UnitOfWork unitOfWork = factory.beginUnitOfWork(snapshot);
+            unitOfWork.get(Person.class, vf.createIRI("urn://bob")).orElseThrow().setName("Robert");
+
+            Assert.assertThrows(OrmException.class, () -> RepositoryChangeWriter.flush(unitOfWork,
+                    failingAdds(connection)));
+            // The removal of the old name was rolled back, and the changes are kept for another attempt.
+            Assert.assertFalse(connection.isActive());
+            Assert.assertTrue(connection.hasStatement(vf.createIRI("urn://bob"), name(), vf.createLiteral("Bob"),
+                    false));
+            Assert.assertTrue(unitOfWork.hasChanges());
+            Assert.assertTrue(snapshot.contains(vf.createIRI("urn://bob"), name(), vf.createLiteral("Bob")));
+
+            RepositoryChangeWriter.flush(unitOfWork, connection);
+            Assert.assertTrue(connection.hasStatement(vf.createIRI("urn://bob"), name(), vf.createLiteral("Robert"),
+                    false));
+        }
+    }
+
+    private IRI name() {
+        return vf.createIRI(Person.PREDICATE_NAME);
+    }
+
+    private static Model snapshot(RepositoryConnection connection) {
+        return QueryResults.asModel(connection.getStatements(null, null, null, false));
+    }
+
+    /**
+     * A connection failing to add anything, after the removals have gone through.
+     */
+    private static RepositoryConnection failingAdds(RepositoryConnection connection) {
+        return (RepositoryConnection) Proxy.newProxyInstance(RepositoryConnection.class.getClassLoader(),
+                new Class[]{RepositoryConnection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("add")) {
+                        throw new RepositoryException("Disk full");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.repository;
+
+import com.realmone.owl.orm.types.impl.DefaultValueConverterRegistry;
+import com.realmone.owl.orm.types.impl.IRIValueConverter;
+import com.realmone.owl.orm.types.impl.ResourceValueConverter;
+import com.realmone.owl.orm.types.impl.StringValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TestRepositoryThingFactory {
+
+    private static final DefaultValueConverterRegistry VALUE_CONVERTER_REGISTRY = new DefaultValueConverterRegistry();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Repository repository;
+
+    @BeforeClass
+    public static void initRegistry() {
+        VALUE_CONVERTER_REGISTRY.register(new StringValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new IRIValueConverter());
+        VALUE_CONVERTER_REGISTRY.register(new ResourceValueConverter());
+    }
+
+    @After
+    public void shutDown() {
+        if (repository != null) {
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    public void testMemoryStore() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        verifyLazyLoadingAndWrites();
+    }
+
+    @Test
+    public void testNativeStore() throws Exception {
+        repository = new SailRepository(new NativeStore(folder.newFolder("native")));
+        verifyLazyLoadingAndWrites();
+    }
+
+    @Test
+    public void testRollback() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        load();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            RepositoryThingFactory factory = factory(connection);
+            ValueFactory vf = factory.getValueFactory();
+            connection.begin();
+            factory.get(Person.class, vf.createIRI("urn://bob")).orElseThrow().setName("Robert");
+            factory.create(Person.class, vf.createIRI("urn://dave"));
+            connection.rollback();
+            factory.refresh();
+            Assert.assertEquals("Bob", factory.get(Person.class, vf.createIRI("urn://bob"))
+                    .flatMap(Person::getName).orElseThrow());
+            Assert.assertTrue(factory.get(Person.class, vf.createIRI("urn://dave")).isEmpty());
+        }
+    }
+
+    @Test
+    public void testBoundedCache() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        load();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            RepositoryThingFactory factory = RepositoryThingFactory.builder()
+                    .connection(connection)
+                    .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                    .maxLoadedSubjects(1)
+                    .build();
+            ValueFactory vf = factory.getValueFactory();
+            Person alice = factory.get(Person.class, vf.createIRI("urn://alice")).orElseThrow();
+            Person bob = factory.get(Person.class, vf.createIRI("urn://bob")).orElseThrow();
+            Assert.assertEquals("Bob", bob.getName().orElseThrow());
+            Assert.assertEquals(1, factory.getModel().loadedSubjects());
+
+            // Evicted subjects are read again when next used.
+            Assert.assertEquals("Alice", alice.getName().orElseThrow());
+            Assert.assertEquals(1, factory.getModel().loadedSubjects());
+            Assert.assertEquals("Bob", bob.getName().orElseThrow());
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            try (RepositoryConnection connection = repository.getConnection()) {
+                new RepositoryModel(connection, false, 0);
+            }
+        });
+    }
+
+    private void verifyLazyLoadingAndWrites() throws Exception {
+        load();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            RepositoryThingFactory factory = factory(connection);
+            ValueFactory vf = factory.getValueFactory();
+            IRI alice = vf.createIRI("urn://alice");
+            IRI bob = vf.createIRI("urn://bob");
+
+            // Only the subjects are read to list instances, their statements are loaded as they're used.
+            List<Person> people = factory.getAll(Person.class);
+            Assert.assertEquals(3, people.size());
+            Assert.assertEquals(0, factory.getModel().loadedSubjects());
+            Person carol = factory.get(Person.class, vf.createIRI("urn://carol")).orElseThrow();
+            Assert.assertEquals(1, factory.getModel().loadedSubjects());
+            Assert.assertEquals("Carol", carol.getName().orElseThrow());
+            Assert.assertEquals(Set.of("Alice", "Bob"), carol.getKnows().stream()
+                    .map(person -> person.getName().orElseThrow())
+                    .collect(Collectors.toSet()));
+            Assert.assertEquals(3, factory.getModel().loadedSubjects());
+
+            // Writes go through the connection, and are seen by a fresh model.
+            connection.begin();
+            factory.get(Person.class, bob).orElseThrow().setName("Robert");
+            Person dave = factory.create(Person.class, vf.createIRI("urn://dave"));
+            dave.setName("Dave");
+            dave.addToKnows(factory.get(Person.class, alice).orElseThrow());
+            connection.commit();
+
+            Literal robert = vf.createLiteral("Robert");
+            Assert.assertTrue(connection.hasStatement(bob, vf.createIRI(Person.PREDICATE_NAME), robert, false));
+            Assert.assertFalse(connection.hasStatement(bob, vf.createIRI(Person.PREDICATE_NAME),
+                    vf.createLiteral("Bob"), false));
+            RepositoryModel fresh = new RepositoryModel(connection, false);
+            Person reread = factory.get(Person.class, vf.createIRI("urn://dave"), fresh).orElseThrow();
+            Assert.assertEquals("Dave", reread.getName().orElseThrow());
+            Assert.assertEquals(Set.of(alice), reread.getKnows().stream()
+                    .map(Person::getResource)
+                    .collect(Collectors.toSet()));
+            Assert.assertEquals(4, factory.getAll(Person.class, fresh).size());
+            Assert.assertTrue(fresh.contains(null, RDF.TYPE, vf.createIRI(Person.TYPE_IRI)));
+        }
+    }
+
+    private void load() throws Exception {
+        try (RepositoryConnection connection = repository.getConnection();
+             Reader reader = new FileReader("src/test/resources/people.ttl")) {
+            connection.add(reader, "urn://", RDFFormat.TURTLE);
+        }
+    }
+
+    private RepositoryThingFactory factory(RepositoryConnection connection) {
+        return RepositoryThingFactory.builder()
+                .connection(connection)
+                .valueConverterRegistry(VALUE_CONVERTER_REGISTRY)
+                .build();
+    }
+}
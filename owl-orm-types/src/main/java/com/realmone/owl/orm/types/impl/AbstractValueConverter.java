@@ -33,7 +33,11 @@ package com.realmone.owl.orm.types.impl;
 import com.realmone.owl.orm.types.ValueConverter;
 import lombok.Getter;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
 
 /**
@@ -54,6 +58,10 @@ public abstract class AbstractValueConverter<T> implements ValueConverter<T> {
      * A {@link ValueFactory} instance to use by default for doing conversion.
      */
     protected final ValueFactory valueFactory = new ValidatingValueFactory();
+    /**
+     * A {@link ValueFactory} that skips validation, for values that are valid by construction (like primitives).
+     */
+    protected static final ValueFactory TRUSTED_VALUE_FACTORY = SimpleValueFactory.getInstance();
 
     /**
      * Construct a new {@link AbstractValueConverter}.
@@ -63,4 +71,16 @@ public abstract class AbstractValueConverter<T> implements ValueConverter<T> {
     protected AbstractValueConverter(@NonNull final Class<T> type) {
         this.type = type;
     }
+
+    /**
+     * Get the built-in XSD datatype of a value without parsing anything, so converters can take a fast path for the
+     * datatypes they know.
+     *
+     * @param value The {@link Value} to inspect
+     * @return The XSD datatype of the literal, or null if the value isn't a literal with a built-in XSD datatype
+     */
+    protected static CoreDatatype.XSD xsdDatatype(@NonNull final Value value) {
+        return value instanceof Literal literal && literal.getCoreDatatype() instanceof CoreDatatype.XSD xsd
+                ? xsd : null;
+    }
 }
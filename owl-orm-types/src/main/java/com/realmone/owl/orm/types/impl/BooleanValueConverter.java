@@ -7,15 +7,20 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.BooleanConverter;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} implementation for converting {@link Boolean} values from statements.
  */
-public class BooleanValueConverter extends AbstractValueConverter<Boolean> {
+public class BooleanValueConverter extends AbstractValueConverter<Boolean> implements BooleanConverter {
 
     /**
      * Create a new instance of a {@link BooleanValueConverter}.
@@ -28,19 +33,63 @@ public class BooleanValueConverter extends AbstractValueConverter<Boolean> {
      * {@inheritDoc}
      */
     @Override
-    public Boolean convertValue(@NonNull final Value value) throws ValueConversionException {
-        try {
-            return ((Literal) value).booleanValue();
-        } catch (Exception e) {
-            throw new ValueConversionException("Issue converting '" + value.stringValue() + "' to boolean", e);
+    public boolean convertToBoolean(@NonNull final Value value) throws ValueConversionException {
+        return toBoolean(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertBoolean(final boolean value) {
+        return TRUSTED_VALUE_FACTORY.createLiteral(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean[] convertToBooleans(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final boolean[] converted = new boolean[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = toBoolean(value);
         }
+        return converted;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Value convertType(@NonNull final Boolean value) throws ValueConversionException {
-        return this.valueFactory.createLiteral(value);
+    public List<Boolean> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<Boolean> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(toBoolean(value));
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends Boolean> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (Boolean type : types) {
+            converted.add(TRUSTED_VALUE_FACTORY.createLiteral(type.booleanValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * Every literal converts itself into a boolean, or fails if it can't.
+     */
+    private static boolean toBoolean(Value value) throws ValueConversionException {
+        try {
+            return ((Literal) value).booleanValue();
+        } catch (Exception e) {
+            throw new ValueConversionException("Issue converting '" + value.stringValue() + "' to boolean", e);
+        }
     }
 }
@@ -14,16 +14,30 @@ import org.eclipse.rdf4j.model.base.CoreDatatype;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
+import java.time.ZoneOffset;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} for creating {@link Calendar} objects from statements.
+ * <p>
+ * Dates and times with a four digit year and a timezone are read and written by hand, which skips building an
+ * {@link javax.xml.datatype.XMLGregorianCalendar} for each value. Other lexical forms go through a shared
+ * {@link DatatypeFactory}.
+ * </p>
  *
  * @author bdgould
  */
 public class CalendarValueConverter extends AbstractValueConverter<Calendar> {
 
+    /**
+     * The Gregorian change date of a purely Gregorian calendar, as {@link javax.xml.datatype.XMLGregorianCalendar}
+     * builds them.
+     */
+    private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
     /**
      * Default constructor.
      */
@@ -37,11 +51,17 @@ public class CalendarValueConverter extends AbstractValueConverter<Calendar> {
     @Override
     public Calendar convertValue(@NonNull Value value)
             throws ValueConversionException {
+        final IsoDateTime parsed = IsoDateTime.parse(value.stringValue());
+        if (parsed != null) {
+            final GregorianCalendar calendar = new GregorianCalendar(
+                    TimeZone.getTimeZone(ZoneOffset.ofTotalSeconds(parsed.offsetSeconds)));
+            calendar.setGregorianChange(PURE_GREGORIAN_CHANGE);
+            calendar.setTimeInMillis(parsed.toEpochMilli());
+            return calendar;
+        }
         try {
             // Use the standard XMLGregorianCalendar object.
-            return DatatypeFactory.newInstance().newXMLGregorianCalendar(value.stringValue()).toGregorianCalendar();
-        } catch (DatatypeConfigurationException e) {
-            throw new ValueConversionException("Environment issue: Cannot instantiate XML Gregorian Calendar data.", e);
+            return datatypeFactory().newXMLGregorianCalendar(value.stringValue()).toGregorianCalendar();
         } catch (IllegalArgumentException e) {
             throw new ValueConversionException("Issue converting value of statement into a date object.", e);
         }
@@ -52,13 +72,48 @@ public class CalendarValueConverter extends AbstractValueConverter<Calendar> {
      */
     @Override
     public Value convertType(@NonNull Calendar type) throws ValueConversionException {
+        final long millis = type.getTimeInMillis();
+        final String label = IsoDateTime.format(millis, TimeZone.getDefault().getOffset(millis) / 1000);
+        if (label != null) {
+            return TRUSTED_VALUE_FACTORY.createLiteral(label, CoreDatatype.XSD.DATETIME);
+        }
         try {
             final GregorianCalendar gcal = new GregorianCalendar();
-            gcal.setTimeInMillis(type.getTimeInMillis());
+            gcal.setTimeInMillis(millis);
             return this.valueFactory.createLiteral(
-                    DatatypeFactory.newInstance().newXMLGregorianCalendar(gcal).toXMLFormat(), CoreDatatype.XSD.DATETIME);
+                    datatypeFactory().newXMLGregorianCalendar(gcal).toXMLFormat(), CoreDatatype.XSD.DATETIME);
         } catch (Exception e) {
             throw new ValueConversionException("Issue converting calendar into Value", e);
         }
     }
+
+    private static DatatypeFactory datatypeFactory() throws ValueConversionException {
+        if (DatatypeFactoryHolder.INSTANCE == null) {
+            throw new ValueConversionException("Environment issue: Cannot instantiate XML Gregorian Calendar data.",
+                    DatatypeFactoryHolder.FAILURE);
+        }
+        return DatatypeFactoryHolder.INSTANCE;
+    }
+
+    /**
+     * Looks the {@link DatatypeFactory} up once, the first time it is needed.
+     */
+    private static final class DatatypeFactoryHolder {
+
+        private static final DatatypeFactory INSTANCE;
+
+        private static final DatatypeConfigurationException FAILURE;
+
+        static {
+            DatatypeFactory instance = null;
+            DatatypeConfigurationException failure = null;
+            try {
+                instance = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                failure = e;
+            }
+            INSTANCE = instance;
+            FAILURE = failure;
+        }
+    }
 }
@@ -10,6 +10,7 @@ package com.realmone.owl.orm.types.impl;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
 
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -17,6 +18,8 @@ import java.time.format.DateTimeParseException;
 
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} for creating {@link java.util.Date} objects from statements.
+ * Dates and times with a four digit year are read and written by hand rather than through a
+ * {@link DateTimeFormatter}.
  *
  * @author bdgould
  */
@@ -34,6 +37,10 @@ public class DateValueConverter extends AbstractValueConverter<OffsetDateTime> {
      */
     @Override
     public OffsetDateTime convertValue(@NonNull final Value value) throws ValueConversionException {
+        final IsoDateTime parsed = IsoDateTime.parse(value.stringValue());
+        if (parsed != null) {
+            return parsed.toOffsetDateTime();
+        }
         try {
             return OffsetDateTime.parse(value.stringValue(), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
         } catch (DateTimeParseException e) {
@@ -43,6 +50,10 @@ public class DateValueConverter extends AbstractValueConverter<OffsetDateTime> {
 
     @Override
     public Value convertType(@NonNull OffsetDateTime type) throws ValueConversionException {
+        final String label = IsoDateTime.format(type);
+        if (label != null) {
+            return TRUSTED_VALUE_FACTORY.createLiteral(label, CoreDatatype.XSD.DATETIME);
+        }
         try {
             return this.valueFactory.createLiteral(type);
         } catch (Exception e) {
@@ -10,11 +10,35 @@ package com.realmone.owl.orm.types.impl;
 
 import com.realmone.owl.orm.types.ValueConverter;
 import com.realmone.owl.orm.types.ValueConverterRegistry;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The default {@link ValueConverterRegistry} instance.
+ * <p>
+ * Lookups are lock free: the registered converters and every lookup result (including misses) live in an immutable
+ * snapshot that {@link #register(ValueConverter)} replaces wholesale, so readers never see a registration half done
+ * and only walk a type's hierarchy the first time it is asked for.
+ * </p>
+ * <p>
+ * The first converter registered for a type without any {@link ValueConverter#getDatatypes() datatypes} is its
+ * general converter. Converters that do declare datatypes are dispatched to for literals of those datatypes, through a
+ * table built when the snapshot is. {@link TypedBigIntegerValueConverter} is such a converter, for the literals
+ * {@link BigIntegerValueConverter} would otherwise have to parse, and {@link #registerDefaults()} registers it along
+ * with a converter for every other built-in type.
+ * </p>
+ * <p>
+ * Call {@link #enableMemoization(int)} to have the converters of immutable types remember their conversions, through
+ * a {@link MemoizingValueConverter}. A type keeps its memoizing converter, along with what it remembers and its hit
+ * counts, until a converter is registered for that same type.
+ * </p>
  *
  * @author bdgould
  */
@@ -41,10 +65,14 @@ public class DefaultValueConverterRegistry implements ValueConverterRegistry {
     }
 
     /**
-     * The {@link Map} of registered {@link ValueConverter} objects, organized
-     * by their types.
+     * The current snapshot of registered {@link ValueConverter} objects and the lookups resolved against them.
      */
-    private final Map<Class<?>, List<ValueConverter<?>>> registry = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    /**
+     * How many conversions each memoizing converter remembers beyond its fixed table, or -1 if memoization is off.
+     */
+    private int memoizationCapacity = -1;
 
     /**
      * This method will "boxify" primitives into their {@link Object} type.
@@ -66,36 +94,177 @@ public class DefaultValueConverterRegistry implements ValueConverterRegistry {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Optional<ValueConverter<T>> getValueConverter(Class<T> type) {
-        return Optional.ofNullable(internalGetValueConverter(type));
+        final Snapshot current = snapshot;
+        Optional<ValueConverter<?>> result = current.resolved.get(type);
+        if (result == null) {
+            // Racing readers may resolve the same type twice, but they'll come to the same answer.
+            result = Optional.ofNullable(resolve(current.converters, boxify(type)));
+            current.resolved.putIfAbsent(type, result);
+        }
+        return (Optional<ValueConverter<T>>) (Optional<?>) result;
     }
 
-    @SuppressWarnings("unchecked")
     public <T> ValueConverter<T> internalGetValueConverter(final Class<T> type) {
-        ValueConverter<T> result = null;
-        if (registry.containsKey(type)) {
-            result = (ValueConverter<T>) registry.get(type).get(0);
-        } else {
+        return getValueConverter(type).orElse(null);
+    }
+
+    public synchronized <T> void register(ValueConverter<T> converter) {
+        final Class<T> type = converter.getType();
+        final Map<Class<?>, List<ValueConverter<?>>> registry = new HashMap<>(snapshot.registry);
+        final List<ValueConverter<?>> list = new ArrayList<>(registry.getOrDefault(type, List.of()));
+        list.add(converter);
+        registry.put(type, List.copyOf(list));
+        // Only the registered type is combined again; the others keep their converters, memoized ones included.
+        final Map<Class<?>, ValueConverter<?>> converters = new HashMap<>(snapshot.converters);
+        converters.put(type, memoize(type, combine(list)));
+        this.snapshot = new Snapshot(Map.copyOf(registry), converters);
+    }
+
+    /**
+     * Register the built-in converters: a general one for each type supported out of the box, and the
+     * datatype-specialized {@link TypedBigIntegerValueConverter}. Converters already registered for those types stay
+     * their general converters.
+     */
+    public synchronized void registerDefaults() {
+        List.<ValueConverter<?>>of(
+                new StringValueConverter(),
+                new IRIValueConverter(),
+                new ResourceValueConverter(),
+                new LiteralValueConverter(),
+                new ValueValueConverter(),
+                new BooleanValueConverter(),
+                new ShortValueConverter(),
+                new IntegerValueConverter(),
+                new LongValueConverter(),
+                new FloatValueConverter(),
+                new DoubleValueConverter(),
+                new BigIntegerValueConverter(),
+                new TypedBigIntegerValueConverter(),
+                new DateValueConverter(),
+                new CalendarValueConverter()
+        ).forEach(this::register);
+    }
+
+    /**
+     * Have the converters of immutable types (see {@link MemoizingValueConverter#isMemoizable(Class)}) remember their
+     * conversions, both for those already registered and those registered later. If memoization is already on, the
+     * memoizing converters are resized in place, keeping what they remember and their hit counts.
+     *
+     * @param capacity The most conversions each converter remembers in each direction, beyond its fixed table of
+     *                 booleans and small numbers; zero keeps only the fixed table
+     */
+    public synchronized void enableMemoization(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be negative: " + capacity);
+        }
+        this.memoizationCapacity = capacity;
+        final Map<Class<?>, ValueConverter<?>> converters = new HashMap<>();
+        snapshot.converters.forEach((type, converter) -> {
+            if (converter instanceof MemoizingValueConverter<?> memoizing) {
+                memoizing.setCapacity(capacity);
+                converters.put(type, memoizing);
+            } else {
+                converters.put(type, memoize(type, converter));
+            }
+        });
+        this.snapshot = new Snapshot(snapshot.registry, converters);
+    }
+
+    /**
+     * Stop remembering conversions, going straight to the registered converters again.
+     */
+    public synchronized void disableMemoization() {
+        this.memoizationCapacity = -1;
+        final Map<Class<?>, ValueConverter<?>> converters = new HashMap<>();
+        snapshot.converters.forEach((type, converter) -> converters.put(type,
+                converter instanceof MemoizingValueConverter<?> memoizing ? memoizing.getDelegate() : converter));
+        this.snapshot = new Snapshot(snapshot.registry, converters);
+    }
+
+    /**
+     * @return The memoizing converters currently in use, by the type they were registered for, so their hit rates can
+     * be inspected
+     */
+    public Map<Class<?>, MemoizingValueConverter<?>> getMemoizingConverters() {
+        final Map<Class<?>, MemoizingValueConverter<?>> memoizing = new HashMap<>();
+        snapshot.converters.forEach((type, converter) -> {
+            if (converter instanceof MemoizingValueConverter<?> memoizingConverter) {
+                memoizing.put(type, memoizingConverter);
+            }
+        });
+        return memoizing;
+    }
+
+    /**
+     * Find the converter for a type, falling back to its interfaces and then its superclass.
+     */
+    private static ValueConverter<?> resolve(final Map<Class<?>, ValueConverter<?>> converters,
+                                             final Class<?> type) {
+        ValueConverter<?> result = converters.get(type);
+        if (result == null) {
             // Recurse on directly implemented interfaces
             for (Class<?> clazz : type.getInterfaces()) {
-                result = (ValueConverter<T>) internalGetValueConverter(clazz);
+                result = resolve(converters, clazz);
                 if (result != null) break;
             }
             // Recurse on super class
             if (result == null && type.getSuperclass() != null) {
-                result = (ValueConverter<T>) internalGetValueConverter(type.getSuperclass());
+                result = resolve(converters, type.getSuperclass());
             }
         }
         return result;
     }
 
-    public <T> void register(ValueConverter<T> converter) {
-        if (this.registry.containsKey(converter.getType())) {
-            this.registry.get(converter.getType()).add(converter);
-        } else {
-            List<ValueConverter<?>> list = new ArrayList<>();
-            list.add(converter);
-            this.registry.put(converter.getType(), list);
+    /**
+     * Wrap the converter of a type in a {@link MemoizingValueConverter}, if memoization is on and the type is
+     * immutable.
+     */
+    private ValueConverter<?> memoize(final Class<?> type, final ValueConverter<?> converter) {
+        return memoizationCapacity >= 0 && MemoizingValueConverter.isMemoizable(type)
+                ? MemoizingValueConverter.of(converter, memoizationCapacity) : converter;
+    }
+
+    /**
+     * Combine the converters registered for a type into the single converter lookups return.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ValueConverter<?> combine(final List<ValueConverter<?>> registered) {
+        ValueConverter<?> general = null;
+        final Map<CoreDatatype, ValueConverter<?>> specialized = new HashMap<>();
+        for (ValueConverter<?> converter : registered) {
+            if (converter.getDatatypes().isEmpty()) {
+                general = general != null ? general : converter;
+            } else {
+                converter.getDatatypes().forEach(datatype -> specialized.putIfAbsent(datatype, converter));
+            }
+        }
+        if (general == null) {
+            general = registered.get(0);
+        }
+        return specialized.isEmpty() ? general : DispatchingValueConverter.of((ValueConverter) general,
+                (Map) Map.copyOf(specialized));
+    }
+
+    /**
+     * An immutable set of registrations, along with the lookups resolved against them so far.
+     */
+    private static final class Snapshot {
+
+        private final Map<Class<?>, List<ValueConverter<?>>> registry;
+
+        /**
+         * The converter each registered type resolves to.
+         */
+        private final Map<Class<?>, ValueConverter<?>> converters;
+
+        private final ConcurrentMap<Class<?>, Optional<ValueConverter<?>>> resolved = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<Class<?>, List<ValueConverter<?>>> registry,
+                         Map<Class<?>, ValueConverter<?>> converters) {
+            this.registry = registry;
+            this.converters = Map.copyOf(converters);
         }
     }
 }
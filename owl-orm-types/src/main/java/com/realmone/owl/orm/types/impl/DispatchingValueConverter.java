@@ -0,0 +1,261 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.DoubleConverter;
+import com.realmone.owl.orm.types.FloatConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.LongConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ValueConverter} combining the converters registered for one type. Literals go to the converter specialized
+ * in their datatype, if there is one, and everything else goes to the general converter. Java objects are always
+ * converted by the general converter. If the general converter converts primitives (like an {@link IntConverter}), so
+ * does the combination, through {@link #of(ValueConverter, Map)}.
+ *
+ * @param <T> The type this {@link ValueConverter} works with
+ */
+class DispatchingValueConverter<T> implements ValueConverter<T> {
+
+    protected final ValueConverter<T> general;
+
+    private final Map<CoreDatatype, ValueConverter<T>> specialized;
+
+    private DispatchingValueConverter(ValueConverter<T> general, Map<CoreDatatype, ValueConverter<T>> specialized) {
+        this.general = general;
+        this.specialized = specialized;
+    }
+
+    /**
+     * Combine the converters registered for a type.
+     *
+     * @param general     The converter for everything no specialized converter takes
+     * @param specialized The converters specialized in literals of each datatype
+     * @param <T>         The type the converters work with
+     * @return A {@link ValueConverter} implementing the same primitive converter interface as the general one, if any
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> ValueConverter<T> of(ValueConverter<T> general, Map<CoreDatatype, ValueConverter<T>> specialized) {
+        final Map raw = specialized;
+        if (general instanceof IntConverter ints) {
+            return (ValueConverter<T>) new Ints(ints, raw);
+        } else if (general instanceof LongConverter longs) {
+            return (ValueConverter<T>) new Longs(longs, raw);
+        } else if (general instanceof DoubleConverter doubles) {
+            return (ValueConverter<T>) new Doubles(doubles, raw);
+        } else if (general instanceof FloatConverter floats) {
+            return (ValueConverter<T>) new Floats(floats, raw);
+        } else if (general instanceof BooleanConverter booleans) {
+            return (ValueConverter<T>) new Booleans(booleans, raw);
+        }
+        return new DispatchingValueConverter<>(general, specialized);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T convertValue(@NonNull Value value) throws ValueConversionException {
+        return converterFor(value).convertValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertType(@NonNull T type) throws ValueConversionException {
+        return general.convertType(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        return generalOnly(values) ? general.convertValues(values) : ValueConverter.super.convertValues(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends T> types) throws ValueConversionException {
+        return general.convertTypes(types);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<T> getType() {
+        return general.getType();
+    }
+
+    /**
+     * Get the converter specialized in the datatype of a literal, or the general one.
+     */
+    protected ValueConverter<T> converterFor(Value value) {
+        if (value instanceof Literal literal) {
+            final ValueConverter<T> converter = specialized.get(literal.getCoreDatatype());
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return general;
+    }
+
+    /**
+     * Whether none of a batch of values goes to a specialized converter, so the general one can convert them all in
+     * one go.
+     */
+    protected boolean generalOnly(Collection<? extends Value> values) {
+        for (Value value : values) {
+            if (converterFor(value) != general) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Ints extends DispatchingValueConverter<Integer> implements IntConverter {
+
+        private Ints(IntConverter general, Map<CoreDatatype, ValueConverter<Integer>> specialized) {
+            super(general, specialized);
+        }
+
+        @Override
+        public int convertToInt(@NonNull Value value) throws ValueConversionException {
+            final ValueConverter<Integer> converter = converterFor(value);
+            return converter instanceof IntConverter ints ? ints.convertToInt(value)
+                    : converter.convertValue(value);
+        }
+
+        @Override
+        public Value convertInt(int value) throws ValueConversionException {
+            return ((IntConverter) general).convertInt(value);
+        }
+
+        @Override
+        public int[] convertToInts(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+            return generalOnly(values) ? ((IntConverter) general).convertToInts(values)
+                    : IntConverter.super.convertToInts(values);
+        }
+    }
+
+    private static final class Longs extends DispatchingValueConverter<Long> implements LongConverter {
+
+        private Longs(LongConverter general, Map<CoreDatatype, ValueConverter<Long>> specialized) {
+            super(general, specialized);
+        }
+
+        @Override
+        public long convertToLong(@NonNull Value value) throws ValueConversionException {
+            final ValueConverter<Long> converter = converterFor(value);
+            return converter instanceof LongConverter longs ? longs.convertToLong(value)
+                    : converter.convertValue(value);
+        }
+
+        @Override
+        public Value convertLong(long value) throws ValueConversionException {
+            return ((LongConverter) general).convertLong(value);
+        }
+
+        @Override
+        public long[] convertToLongs(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+            return generalOnly(values) ? ((LongConverter) general).convertToLongs(values)
+                    : LongConverter.super.convertToLongs(values);
+        }
+    }
+
+    private static final class Doubles extends DispatchingValueConverter<Double> implements DoubleConverter {
+
+        private Doubles(DoubleConverter general, Map<CoreDatatype, ValueConverter<Double>> specialized) {
+            super(general, specialized);
+        }
+
+        @Override
+        public double convertToDouble(@NonNull Value value) throws ValueConversionException {
+            final ValueConverter<Double> converter = converterFor(value);
+            return converter instanceof DoubleConverter doubles ? doubles.convertToDouble(value)
+                    : converter.convertValue(value);
+        }
+
+        @Override
+        public Value convertDouble(double value) throws ValueConversionException {
+            return ((DoubleConverter) general).convertDouble(value);
+        }
+
+        @Override
+        public double[] convertToDoubles(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+            return generalOnly(values) ? ((DoubleConverter) general).convertToDoubles(values)
+                    : DoubleConverter.super.convertToDoubles(values);
+        }
+    }
+
+    private static final class Floats extends DispatchingValueConverter<Float> implements FloatConverter {
+
+        private Floats(FloatConverter general, Map<CoreDatatype, ValueConverter<Float>> specialized) {
+            super(general, specialized);
+        }
+
+        @Override
+        public float convertToFloat(@NonNull Value value) throws ValueConversionException {
+            final ValueConverter<Float> converter = converterFor(value);
+            return converter instanceof FloatConverter floats ? floats.convertToFloat(value)
+                    : converter.convertValue(value);
+        }
+
+        @Override
+        public Value convertFloat(float value) throws ValueConversionException {
+            return ((FloatConverter) general).convertFloat(value);
+        }
+
+        @Override
+        public float[] convertToFloats(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+            return generalOnly(values) ? ((FloatConverter) general).convertToFloats(values)
+                    : FloatConverter.super.convertToFloats(values);
+        }
+    }
+
+    private static final class Booleans extends DispatchingValueConverter<Boolean> implements BooleanConverter {
+
+        private Booleans(BooleanConverter general, Map<CoreDatatype, ValueConverter<Boolean>> specialized) {
+            super(general, specialized);
+        }
+
+        @Override
+        public boolean convertToBoolean(@NonNull Value value) throws ValueConversionException {
+            final ValueConverter<Boolean> converter = converterFor(value);
+            return converter instanceof BooleanConverter booleans ? booleans.convertToBoolean(value)
+                    : converter.convertValue(value);
+        }
+
+        @Override
+        public Value convertBoolean(boolean value) throws ValueConversionException {
+            return ((BooleanConverter) general).convertBoolean(value);
+        }
+
+        @Override
+        public boolean[] convertToBooleans(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            return generalOnly(values) ? ((BooleanConverter) general).convertToBooleans(values)
+                    : BooleanConverter.super.convertToBooleans(values);
+        }
+    }
+}
@@ -7,16 +7,23 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.DoubleConverter;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} for {@link Double} types.
  *
  * @author bdgould
  */
-public class DoubleValueConverter extends AbstractValueConverter<Double> {
+public class DoubleValueConverter extends AbstractValueConverter<Double> implements DoubleConverter {
 
     /**
      * Construct a new {@link DoubleValueConverter}.
@@ -29,20 +36,65 @@ public class DoubleValueConverter extends AbstractValueConverter<Double> {
      * {@inheritDoc}
      */
     @Override
-    public Double convertValue(@NonNull Value value)
+    public double convertToDouble(@NonNull Value value)
             throws ValueConversionException {
-        try {
-            return Double.parseDouble(value.stringValue());
-        } catch (NumberFormatException e) {
-            throw new ValueConversionException("Issue getting double value from statement", e);
+        return toDouble(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertDouble(double value) {
+        return TRUSTED_VALUE_FACTORY.createLiteral(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] convertToDoubles(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final double[] converted = new double[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = toDouble(value);
         }
+        return converted;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Value convertType(@NonNull Double type) throws ValueConversionException {
-        return this.valueFactory.createLiteral(type);
+    public List<Double> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<Double> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(toDouble(value));
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends Double> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (Double type : types) {
+            converted.add(TRUSTED_VALUE_FACTORY.createLiteral(type.doubleValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * xsd:double literals convert themselves; anything else is parsed from its lexical form.
+     */
+    private static double toDouble(Value value) throws ValueConversionException {
+        try {
+            return xsdDatatype(value) == CoreDatatype.XSD.DOUBLE
+                    ? ((Literal) value).doubleValue() : Double.parseDouble(value.stringValue());
+        } catch (NumberFormatException e) {
+            throw new ValueConversionException("Issue getting double value from statement", e);
+        }
     }
 }
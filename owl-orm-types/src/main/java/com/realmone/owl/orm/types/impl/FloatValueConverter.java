@@ -7,16 +7,23 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.FloatConverter;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} for {@link Float}s.
  *
  * @author bdgould
  */
-public class FloatValueConverter extends AbstractValueConverter<Float> {
+public class FloatValueConverter extends AbstractValueConverter<Float> implements FloatConverter {
 
     /**
      * Construct a new {@link FloatValueConverter}.
@@ -29,20 +36,65 @@ public class FloatValueConverter extends AbstractValueConverter<Float> {
      * {@inheritDoc}
      */
     @Override
-    public Float convertValue(@NonNull Value value)
+    public float convertToFloat(@NonNull Value value)
             throws ValueConversionException {
-        try {
-            return Float.parseFloat(value.stringValue());
-        } catch (NumberFormatException e) {
-            throw new ValueConversionException("Issue getting float value from statement", e);
+        return toFloat(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertFloat(float value) {
+        return TRUSTED_VALUE_FACTORY.createLiteral(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float[] convertToFloats(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final float[] converted = new float[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = toFloat(value);
         }
+        return converted;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Value convertType(@NonNull Float type) throws ValueConversionException {
-        return this.valueFactory.createLiteral(type);
+    public List<Float> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<Float> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(toFloat(value));
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends Float> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (Float type : types) {
+            converted.add(TRUSTED_VALUE_FACTORY.createLiteral(type.floatValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * xsd:float literals convert themselves; anything else is parsed from its lexical form.
+     */
+    private static float toFloat(Value value) throws ValueConversionException {
+        try {
+            return xsdDatatype(value) == CoreDatatype.XSD.FLOAT
+                    ? ((Literal) value).floatValue() : Float.parseFloat(value.stringValue());
+        } catch (NumberFormatException e) {
+            throw new ValueConversionException("Issue getting float value from statement", e);
+        }
     }
 }
@@ -7,16 +7,24 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.IntConverter;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
- * {@link com.realmone.owl.orm.types.ValueConverter} for {@link Integer}s.
+ * {@link com.realmone.owl.orm.types.ValueConverter} for {@link Integer}s. Literals of the xsd:int family are read
+ * straight from the literal, without boxing.
  *
  * @author bdgould
  */
-public class IntegerValueConverter extends AbstractValueConverter<Integer> {
+public class IntegerValueConverter extends AbstractValueConverter<Integer> implements IntConverter {
 
     /**
      * Construct a new {@link IntegerValueConverter}.
@@ -29,20 +37,68 @@ public class IntegerValueConverter extends AbstractValueConverter<Integer> {
      * {@inheritDoc}
      */
     @Override
-    public Integer convertValue(@NonNull final Value value)
-            throws ValueConversionException {
-        try {
-            return Integer.parseInt(value.stringValue());
-        } catch (NumberFormatException e) {
-            throw new ValueConversionException("Issue getting int value from statement", e);
+    public int convertToInt(@NonNull final Value value) throws ValueConversionException {
+        return toInt(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertInt(int value) {
+        return TRUSTED_VALUE_FACTORY.createLiteral(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] convertToInts(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final int[] converted = new int[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = toInt(value);
         }
+        return converted;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Value convertType(@NonNull Integer type) throws ValueConversionException {
-        return this.valueFactory.createLiteral(type);
+    public List<Integer> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<Integer> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(toInt(value));
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends Integer> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (Integer type : types) {
+            converted.add(TRUSTED_VALUE_FACTORY.createLiteral(type.intValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * Literals of datatypes whose every value fits in an int convert themselves without losing anything; anything
+     * else is parsed from its lexical form.
+     */
+    private static int toInt(Value value) throws ValueConversionException {
+        final CoreDatatype.XSD datatype = xsdDatatype(value);
+        try {
+            return datatype == null ? Integer.parseInt(value.stringValue()) : switch (datatype) {
+                case INT, SHORT, BYTE, UNSIGNED_SHORT, UNSIGNED_BYTE -> ((Literal) value).intValue();
+                default -> Integer.parseInt(value.stringValue());
+            };
+        } catch (NumberFormatException e) {
+            throw new ValueConversionException("Issue getting int value from statement", e);
+        }
     }
 }
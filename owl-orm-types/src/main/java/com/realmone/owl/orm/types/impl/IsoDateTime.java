@@ -0,0 +1,282 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A hand-rolled reader and writer for the common xsd:dateTime and xsd:date lexical forms, used by the temporal
+ * converters instead of {@link javax.xml.datatype.XMLGregorianCalendar} and {@link java.time.format.DateTimeFormatter}.
+ * <p>
+ * Only four digit years with an explicit timezone are handled here (like {@code 2024-05-01T12:30:00.25Z} or
+ * {@code 2024-05-01-05:00}). Anything else, such as a missing timezone, {@code 24:00:00} or a leap second, makes
+ * {@link #parse(String)} return null so callers can fall back to a complete implementation.
+ * </p>
+ */
+final class IsoDateTime {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final int MAX_OFFSET_SECONDS = 14 * 3600;
+
+    final int year;
+    final int month;
+    final int day;
+    final int hour;
+    final int minute;
+    final int second;
+    final int nano;
+    final int offsetSeconds;
+
+    private IsoDateTime(int year, int month, int day, int hour, int minute, int second, int nano,
+                        int offsetSeconds) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.hour = hour;
+        this.minute = minute;
+        this.second = second;
+        this.nano = nano;
+        this.offsetSeconds = offsetSeconds;
+    }
+
+    /**
+     * Parse an xsd:dateTime or xsd:date lexical form. A date is read as midnight at its timezone.
+     *
+     * @param text The lexical form
+     * @return The parsed date and time, or null if the text isn't in one of the forms handled here
+     */
+    static IsoDateTime parse(String text) {
+        final int length = text.length();
+        if (length < 11 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        final int year = digits(text, 0, 4);
+        final int month = digits(text, 5, 2);
+        final int day = digits(text, 8, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int position = 10;
+        if (text.charAt(position) == 'T') {
+            if (length < 20 || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                return null;
+            }
+            hour = digits(text, 11, 2);
+            minute = digits(text, 14, 2);
+            second = digits(text, 17, 2);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                return null;
+            }
+            position = 19;
+            if (text.charAt(position) == '.') {
+                final int start = ++position;
+                while (position < length && isDigit(text.charAt(position))) {
+                    if (position - start < 9) {
+                        nano = nano * 10 + (text.charAt(position) - '0');
+                    }
+                    position++;
+                }
+                if (position == start) {
+                    return null;
+                }
+                for (int scale = position - start; scale < 9; scale++) {
+                    nano *= 10;
+                }
+            }
+        }
+        final int offsetSeconds = offset(text, position);
+        return offsetSeconds == Integer.MIN_VALUE ? null
+                : new IsoDateTime(year, month, day, hour, minute, second, nano, offsetSeconds);
+    }
+
+    /**
+     * @return This date and time as an {@link OffsetDateTime}
+     */
+    OffsetDateTime toOffsetDateTime() {
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano,
+                ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * @return The milliseconds since the epoch this date and time stands for
+     */
+    long toEpochMilli() {
+        final long seconds = epochDay(year, month, day) * 86_400L + hour * 3600L + minute * 60L + second
+                - offsetSeconds;
+        return seconds * 1000L + nano / 1_000_000;
+    }
+
+    /**
+     * Write an xsd:dateTime lexical form with millisecond precision.
+     *
+     * @param epochMilli    The milliseconds since the epoch
+     * @param offsetSeconds The timezone offset to write the local time in
+     * @return The lexical form, or null if the year isn't between 1 and 9999 or the offset isn't in whole minutes
+     */
+    static String format(long epochMilli, int offsetSeconds) {
+        if (offsetSeconds % 60 != 0) {
+            return null;
+        }
+        final long local = epochMilli + offsetSeconds * 1000L;
+        final long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        final int millisOfDay = (int) Math.floorMod(local, MILLIS_PER_DAY);
+        // Convert the epoch day into a civil date (proleptic Gregorian).
+        final long shifted = epochDay + 719_468;
+        final long era = Math.floorDiv(shifted, 146_097);
+        final long dayOfEra = shifted - era * 146_097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        final int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > 9999) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(29);
+        appendDateTime(builder, (int) year, month, day, millisOfDay / 3_600_000, millisOfDay / 60_000 % 60,
+                millisOfDay / 1000 % 60);
+        builder.append('.');
+        pad(builder, millisOfDay % 1000, 3);
+        appendOffset(builder, offsetSeconds);
+        return builder.toString();
+    }
+
+    /**
+     * Write an xsd:dateTime lexical form with as many fractional digits as the value needs.
+     *
+     * @param dateTime The {@link OffsetDateTime} to write
+     * @return The lexical form, or null if the year isn't between 1 and 9999 or the offset isn't in whole minutes
+     */
+    static String format(OffsetDateTime dateTime) {
+        if (dateTime.getYear() < 1 || dateTime.getYear() > 9999 || dateTime.getOffset().getTotalSeconds() % 60 != 0) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(35);
+        appendDateTime(builder, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            builder.append('.');
+            pad(builder, nano, digits);
+        }
+        appendOffset(builder, dateTime.getOffset().getTotalSeconds());
+        return builder.toString();
+    }
+
+    private static void appendDateTime(StringBuilder builder, int year, int month, int day, int hour, int minute,
+                                       int second) {
+        pad(builder, year, 4);
+        builder.append('-');
+        pad(builder, month, 2);
+        builder.append('-');
+        pad(builder, day, 2);
+        builder.append('T');
+        pad(builder, hour, 2);
+        builder.append(':');
+        pad(builder, minute, 2);
+        builder.append(':');
+        pad(builder, second, 2);
+    }
+
+    /**
+     * Write a timezone offset, which xsd:dateTime only has minutes for.
+     */
+    private static void appendOffset(StringBuilder builder, int offsetSeconds) {
+        if (offsetSeconds == 0) {
+            builder.append('Z');
+        } else {
+            final int absolute = Math.abs(offsetSeconds);
+            builder.append(offsetSeconds < 0 ? '-' : '+');
+            pad(builder, absolute / 3600, 2);
+            builder.append(':');
+            pad(builder, absolute / 60 % 60, 2);
+        }
+    }
+
+    private static void pad(StringBuilder builder, int value, int width) {
+        for (int limit = 10; width > 1; width--, limit *= 10) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+        builder.append(value);
+    }
+
+    /**
+     * Read a timezone from the end of the text.
+     *
+     * @return The offset in seconds, or {@link Integer#MIN_VALUE} if there isn't exactly one valid timezone
+     */
+    private static int offset(String text, int position) {
+        final int remaining = text.length() - position;
+        if (remaining == 1 && text.charAt(position) == 'Z') {
+            return 0;
+        } else if (remaining == 6 && text.charAt(position + 3) == ':') {
+            final char sign = text.charAt(position);
+            final int hours = digits(text, position + 1, 2);
+            final int minutes = digits(text, position + 4, 2);
+            final int seconds = hours * 3600 + minutes * 60;
+            if ((sign == '+' || sign == '-') && hours >= 0 && minutes >= 0 && minutes < 60
+                    && seconds <= MAX_OFFSET_SECONDS) {
+                return sign == '-' ? -seconds : seconds;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * @return The value of a run of decimal digits, or -1 if any of them isn't a digit
+     */
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * @return The days since 1970-01-01 of a civil date (proleptic Gregorian)
+     */
+    private static long epochDay(int year, int month, int day) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -7,30 +7,70 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.LongConverter;
 import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
-public class LongValueConverter extends AbstractValueConverter<Long> {
+
+public class LongValueConverter extends AbstractValueConverter<Long> implements LongConverter {
 
     public LongValueConverter() {
         super(Long.class);
     }
 
     @Override
-    public Long convertValue(@NonNull Value value)
+    public long convertToLong(@NonNull Value value)
             throws ValueConversionException {
+        return toLong(value);
+    }
+
+    @Override
+    public Value convertLong(long value) {
+        return TRUSTED_VALUE_FACTORY.createLiteral(value);
+    }
+
+    @Override
+    public long[] convertToLongs(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final long[] converted = new long[values.size()];
+        int index = 0;
+        for (Value value : values) {
+            converted[index++] = toLong(value);
+        }
+        return converted;
+    }
+
+    @Override
+    public List<Long> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        final List<Long> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(toLong(value));
+        }
+        return converted;
+    }
+
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends Long> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (Long type : types) {
+            converted.add(TRUSTED_VALUE_FACTORY.createLiteral(type.longValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * Every literal converts itself into a long, or fails if it can't.
+     */
+    private static long toLong(Value value) throws ValueConversionException {
         try {
             return ((Literal) value).longValue();
         } catch (Exception e) {
             throw new ValueConversionException("Issue converting value '" + value + "' into a long", e);
         }
     }
-
-    @Override
-    public Value convertType(@NonNull Long type) throws ValueConversionException {
-        return this.valueFactory.createLiteral(type);
-    }
 }
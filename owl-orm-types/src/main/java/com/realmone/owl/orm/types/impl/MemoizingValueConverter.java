@@ -0,0 +1,574 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.DoubleConverter;
+import com.realmone.owl.orm.types.FloatConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.LongConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.math.BigInteger;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link ValueConverter} remembering the conversions of another one, in both directions. This pays off for data
+ * that repeats the same few values over and over, like flags, small counts and categorical strings.
+ * <p>
+ * Booleans and small whole numbers are converted up front into a fixed table, whatever the capacity. Everything else
+ * is held in a bounded, least recently used cache, split into independently locked segments so concurrent callers
+ * rarely contend. Hits and misses are counted so the cache can be sized for the data it sees, and
+ * {@link #setCapacity(int)} resizes it in place.
+ * </p>
+ * <p>
+ * If the delegate converts primitives (like an {@link IntConverter}), so does a converter built through
+ * {@link #of(ValueConverter, int)}, answering from the same table and cache.
+ * </p>
+ * <p>
+ * Converted objects are shared between callers, so only wrap converters of immutable types (see
+ * {@link #isMemoizable(Class)}).
+ * </p>
+ *
+ * @param <T> The type this {@link ValueConverter} works with
+ */
+public class MemoizingValueConverter<T> implements ValueConverter<T> {
+
+    /**
+     * The types whose instances are immutable, and so safe to share between callers.
+     */
+    private static final Set<Class<?>> MEMOIZABLE_TYPES = Set.of(String.class, Boolean.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, BigInteger.class, OffsetDateTime.class);
+
+    private static final int SEGMENTS = 16;
+
+    private static final int SMALLEST_PINNED = -128;
+
+    private static final int LARGEST_PINNED = 1024;
+
+    /**
+     * The converter actually doing the work.
+     */
+    @Getter
+    private final ValueConverter<T> delegate;
+
+    private final Map<Value, T> pinnedValues;
+    private final Map<T, Value> pinnedTypes;
+
+    private final Segment<Value, T>[] values;
+    private final Segment<T, Value>[] types;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Construct a new {@link MemoizingValueConverter}.
+     *
+     * @param delegate The {@link ValueConverter} to remember the conversions of
+     * @param capacity The most values to remember in each direction, beyond the fixed table
+     * @throws ValueConversionException If the fixed table can't be converted
+     */
+    @SuppressWarnings("unchecked")
+    public MemoizingValueConverter(@NonNull ValueConverter<T> delegate, int capacity)
+            throws ValueConversionException {
+        checkCapacity(capacity);
+        this.delegate = delegate;
+        this.pinnedTypes = new HashMap<>();
+        for (T pinned : pinned(delegate.getType())) {
+            pinnedTypes.put(pinned, delegate.convertType(pinned));
+        }
+        this.pinnedValues = pinnedTypes.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getValue, Map.Entry::getKey, (a, b) -> a));
+        final int perSegment = (capacity + SEGMENTS - 1) / SEGMENTS;
+        this.values = new Segment[SEGMENTS];
+        this.types = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            values[i] = new Segment<>(perSegment);
+            types[i] = new Segment<>(perSegment);
+        }
+    }
+
+    /**
+     * Remember the conversions of a {@link ValueConverter}.
+     *
+     * @param delegate The {@link ValueConverter} to remember the conversions of
+     * @param capacity The most values to remember in each direction, beyond the fixed table
+     * @param <T>      The type the converter works with
+     * @return A {@link MemoizingValueConverter} implementing the same primitive converter interface as the delegate,
+     * if any
+     * @throws ValueConversionException If the fixed table can't be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MemoizingValueConverter<T> of(@NonNull ValueConverter<T> delegate, int capacity)
+            throws ValueConversionException {
+        final MemoizingValueConverter<?> memoizing;
+        if (delegate instanceof IntConverter) {
+            memoizing = new Ints((ValueConverter<Integer>) delegate, capacity);
+        } else if (delegate instanceof LongConverter) {
+            memoizing = new Longs((ValueConverter<Long>) delegate, capacity);
+        } else if (delegate instanceof DoubleConverter) {
+            memoizing = new Doubles((ValueConverter<Double>) delegate, capacity);
+        } else if (delegate instanceof FloatConverter) {
+            memoizing = new Floats((ValueConverter<Float>) delegate, capacity);
+        } else if (delegate instanceof BooleanConverter) {
+            memoizing = new Booleans((ValueConverter<Boolean>) delegate, capacity);
+        } else {
+            memoizing = new MemoizingValueConverter<>(delegate, capacity);
+        }
+        return (MemoizingValueConverter<T>) memoizing;
+    }
+
+    /**
+     * @param type A type of object
+     * @return Whether converters of the type can be wrapped safely, as its instances are immutable
+     */
+    public static boolean isMemoizable(Class<?> type) {
+        return MEMOIZABLE_TYPES.contains(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T convertValue(@NonNull Value value) throws ValueConversionException {
+        return memoizedValue(value, delegate::convertValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value convertType(@NonNull T type) throws ValueConversionException {
+        return memoizedType(type, delegate::convertType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values that aren't remembered are handed to the delegate together, in one batch.
+     * </p>
+     */
+    @Override
+    public List<T> convertValues(@NonNull Collection<? extends Value> values) throws ValueConversionException {
+        return memoizedBatch(values, pinnedValues, this.values, delegate::convertValues);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Objects that aren't remembered are handed to the delegate together, in one batch.
+     * </p>
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends T> types) throws ValueConversionException {
+        return memoizedBatch(types, pinnedTypes, this.types, delegate::convertTypes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<T> getType() {
+        return delegate.getType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CoreDatatype> getDatatypes() {
+        return delegate.getDatatypes();
+    }
+
+    /**
+     * @return The number of conversions answered from memory
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of conversions handed to the delegate
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The share of conversions answered from memory, between 0 and 1
+     */
+    public double getHitRate() {
+        final long hitCount = getHits();
+        final long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return The number of conversions currently held in the bounded cache, in both directions
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < SEGMENTS; i++) {
+            size += values[i].sizeLocked() + types[i].sizeLocked();
+        }
+        return size;
+    }
+
+    /**
+     * Change how many conversions are remembered in each direction, beyond the fixed table. The most recently used
+     * conversions that still fit are kept, as are the hit and miss counts.
+     *
+     * @param capacity The most values to remember in each direction, beyond the fixed table
+     */
+    public void setCapacity(int capacity) {
+        checkCapacity(capacity);
+        final int perSegment = (capacity + SEGMENTS - 1) / SEGMENTS;
+        for (int i = 0; i < SEGMENTS; i++) {
+            values[i].resizeLocked(perSegment);
+            types[i].resizeLocked(perSegment);
+        }
+    }
+
+    /**
+     * Convert a {@link Value}, answering from the fixed table or the cache if possible.
+     *
+     * @param value      The {@link Value} to convert
+     * @param conversion How to convert it if it isn't remembered
+     * @return The converted object
+     * @throws ValueConversionException If the conversion fails
+     */
+    protected T memoizedValue(Value value, Conversion<Value, T> conversion) throws ValueConversionException {
+        final T pinned = pinnedValues.get(value);
+        return pinned != null ? count(pinned) : lookup(values, value, conversion);
+    }
+
+    /**
+     * Convert an object, answering from the fixed table or the cache if possible.
+     *
+     * @param type       The object to convert
+     * @param conversion How to convert it if it isn't remembered
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    protected Value memoizedType(T type, Conversion<T, Value> conversion) throws ValueConversionException {
+        final Value pinned = pinnedTypes.get(type);
+        return pinned != null ? count(pinned) : lookup(types, type, conversion);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be negative: " + capacity);
+        }
+    }
+
+    private <X> X count(X result) {
+        hits.increment();
+        return result;
+    }
+
+    private <K, V> V lookup(Segment<K, V>[] segments, K key, Conversion<K, V> conversion)
+            throws ValueConversionException {
+        final Segment<K, V> segment = segment(segments, key);
+        final V cached = segment.getLocked(key);
+        if (cached != null) {
+            return count(cached);
+        }
+        misses.increment();
+        // Convert outside the lock; racing callers may both convert, but they'll come to the same answer.
+        final V converted = conversion.convert(key);
+        segment.putLocked(key, converted);
+        return converted;
+    }
+
+    /**
+     * Convert a batch, answering what it can from the fixed table and the cache, and handing the rest to the delegate
+     * in one call.
+     */
+    private <K, V> List<V> memoizedBatch(Collection<? extends K> keys, Map<K, V> pinned, Segment<K, V>[] segments,
+                                         Conversion<List<K>, List<V>> conversion) throws ValueConversionException {
+        final List<V> converted = new ArrayList<>(keys.size());
+        final List<K> missed = new ArrayList<>();
+        for (K key : keys) {
+            V known = pinned.get(key);
+            if (known == null) {
+                known = segment(segments, key).getLocked(key);
+            }
+            if (known != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                missed.add(key);
+            }
+            converted.add(known);
+        }
+        if (missed.isEmpty()) {
+            return converted;
+        }
+        final Iterator<K> missedKeys = missed.iterator();
+        final Iterator<V> fresh = conversion.convert(missed).iterator();
+        for (int i = 0; i < converted.size(); i++) {
+            if (converted.get(i) == null) {
+                final K key = missedKeys.next();
+                final V value = fresh.next();
+                segment(segments, key).putLocked(key, value);
+                converted.set(i, value);
+            }
+        }
+        return converted;
+    }
+
+    private static <K, V> Segment<K, V> segment(Segment<K, V>[] segments, K key) {
+        return segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> pinned(Class<T> type) {
+        final Function<Integer, ?> from;
+        if (type == Boolean.class) {
+            return (List<T>) List.of(Boolean.TRUE, Boolean.FALSE);
+        } else if (type == Integer.class) {
+            from = Function.identity();
+        } else if (type == Long.class) {
+            from = Integer::longValue;
+        } else if (type == Short.class) {
+            from = Integer::shortValue;
+        } else {
+            return List.of();
+        }
+        return IntStream.rangeClosed(SMALLEST_PINNED, LARGEST_PINNED).boxed()
+                .map(from)
+                .map(value -> (T) value)
+                .toList();
+    }
+
+    /**
+     * One direction of a conversion, as done by the delegate.
+     *
+     * @param <K> The type converted from
+     * @param <V> The type converted to
+     */
+    @FunctionalInterface
+    protected interface Conversion<K, V> {
+        V convert(K key) throws ValueConversionException;
+    }
+
+    private static final class Ints extends MemoizingValueConverter<Integer> implements IntConverter {
+
+        private final IntConverter ints;
+
+        private Ints(ValueConverter<Integer> delegate, int capacity) {
+            super(delegate, capacity);
+            this.ints = (IntConverter) delegate;
+        }
+
+        @Override
+        public int convertToInt(@NonNull Value value) throws ValueConversionException {
+            return memoizedValue(value, ints::convertToInt);
+        }
+
+        @Override
+        public Value convertInt(int value) throws ValueConversionException {
+            return memoizedType(value, ints::convertInt);
+        }
+
+        @Override
+        public int[] convertToInts(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final List<Integer> memoized = convertValues(values);
+            final int[] converted = new int[memoized.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = memoized.get(i);
+            }
+            return converted;
+        }
+    }
+
+    private static final class Longs extends MemoizingValueConverter<Long> implements LongConverter {
+
+        private final LongConverter longs;
+
+        private Longs(ValueConverter<Long> delegate, int capacity) {
+            super(delegate, capacity);
+            this.longs = (LongConverter) delegate;
+        }
+
+        @Override
+        public long convertToLong(@NonNull Value value) throws ValueConversionException {
+            return memoizedValue(value, longs::convertToLong);
+        }
+
+        @Override
+        public Value convertLong(long value) throws ValueConversionException {
+            return memoizedType(value, longs::convertLong);
+        }
+
+        @Override
+        public long[] convertToLongs(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final List<Long> memoized = convertValues(values);
+            final long[] converted = new long[memoized.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = memoized.get(i);
+            }
+            return converted;
+        }
+    }
+
+    private static final class Doubles extends MemoizingValueConverter<Double> implements DoubleConverter {
+
+        private final DoubleConverter doubles;
+
+        private Doubles(ValueConverter<Double> delegate, int capacity) {
+            super(delegate, capacity);
+            this.doubles = (DoubleConverter) delegate;
+        }
+
+        @Override
+        public double convertToDouble(@NonNull Value value) throws ValueConversionException {
+            return memoizedValue(value, doubles::convertToDouble);
+        }
+
+        @Override
+        public Value convertDouble(double value) throws ValueConversionException {
+            return memoizedType(value, doubles::convertDouble);
+        }
+
+        @Override
+        public double[] convertToDoubles(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final List<Double> memoized = convertValues(values);
+            final double[] converted = new double[memoized.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = memoized.get(i);
+            }
+            return converted;
+        }
+    }
+
+    private static final class Floats extends MemoizingValueConverter<Float> implements FloatConverter {
+
+        private final FloatConverter floats;
+
+        private Floats(ValueConverter<Float> delegate, int capacity) {
+            super(delegate, capacity);
+            this.floats = (FloatConverter) delegate;
+        }
+
+        @Override
+        public float convertToFloat(@NonNull Value value) throws ValueConversionException {
+            return memoizedValue(value, floats::convertToFloat);
+        }
+
+        @Override
+        public Value convertFloat(float value) throws ValueConversionException {
+            return memoizedType(value, floats::convertFloat);
+        }
+
+        @Override
+        public float[] convertToFloats(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final List<Float> memoized = convertValues(values);
+            final float[] converted = new float[memoized.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = memoized.get(i);
+            }
+            return converted;
+        }
+    }
+
+    private static final class Booleans extends MemoizingValueConverter<Boolean> implements BooleanConverter {
+
+        private final BooleanConverter booleans;
+
+        private Booleans(ValueConverter<Boolean> delegate, int capacity) {
+            super(delegate, capacity);
+            this.booleans = (BooleanConverter) delegate;
+        }
+
+        @Override
+        public boolean convertToBoolean(@NonNull Value value) throws ValueConversionException {
+            return memoizedValue(value, booleans::convertToBoolean);
+        }
+
+        @Override
+        public Value convertBoolean(boolean value) throws ValueConversionException {
+            return memoizedType(value, booleans::convertBoolean);
+        }
+
+        @Override
+        public boolean[] convertToBooleans(@NonNull Collection<? extends Value> values)
+                throws ValueConversionException {
+            final List<Boolean> memoized = convertValues(values);
+            final boolean[] converted = new boolean[memoized.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = memoized.get(i);
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * One independently locked slice of a least recently used cache.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        private synchronized V getLocked(K key) {
+            return get(key);
+        }
+
+        private synchronized void putLocked(K key, V value) {
+            if (capacity > 0) {
+                put(key, value);
+            }
+        }
+
+        private synchronized void resizeLocked(int capacity) {
+            this.capacity = capacity;
+            final Iterator<K> eldest = keySet().iterator();
+            while (size() > capacity) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        private synchronized int sizeLocked() {
+            return size();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
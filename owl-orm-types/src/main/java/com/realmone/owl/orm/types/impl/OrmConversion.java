@@ -0,0 +1,390 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.DoubleConverter;
+import com.realmone.owl.orm.types.FloatConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.LongConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A Flight Recorder event for converting property values between RDF and Java. Like any JFR event it costs next to
+ * nothing unless a recording has it enabled; by default only conversions slower than a millisecond are recorded,
+ * which a recording's settings can lower (for instance to {@code 0 ms}) to see every conversion.
+ * <p>
+ * The event is recorded by the static conversion methods here, which call a {@link ValueConverter} the same way
+ * calling it directly would. Anything about the conversion the event needs beyond the converted values themselves,
+ * like the datatype or the size of a batch, is only worked out if the recording wants the event.
+ * </p>
+ */
+@Name(OrmConversion.NAME)
+@Label("Value Conversion")
+@Category({"OWL ORM"})
+@Description("Conversion of property values between RDF and Java")
+@Threshold("1 ms")
+public final class OrmConversion extends jdk.jfr.Event {
+
+    /**
+     * The name the event is recorded under.
+     */
+    public static final String NAME = "com.realmone.owl.orm.Conversion";
+
+    @Label("Java Type")
+    Class<?> javaType;
+
+    @Label("Datatype")
+    @Description("The datatype of the (first) literal converted, if it was a literal")
+    String datatype;
+
+    @Label("To RDF")
+    @Description("Whether Java objects were converted into RDF values, rather than the other way around")
+    boolean toRdf;
+
+    @Label("Value Count")
+    int valueCount;
+
+    private OrmConversion() {
+    }
+
+    /**
+     * Convert an RDF value into a Java object.
+     *
+     * @param converter The {@link ValueConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @param <T>       The type the converter works with
+     * @return The converted object
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static <T> T convertValue(ValueConverter<T> converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final T converted = converter.convertValue(value);
+        event.complete(converter.getType(), value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert a Java object into an RDF value.
+     *
+     * @param converter The {@link ValueConverter} to convert with
+     * @param object    The object to convert
+     * @param <T>       The type the converter works with
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static <T> Value convertType(ValueConverter<T> converter, T object) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertType(object);
+        event.complete(converter.getType(), converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into Java objects, in one batch.
+     *
+     * @param converter The {@link ValueConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @param <T>       The type the converter works with
+     * @return The converted objects, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static <T> List<T> convertValues(ValueConverter<T> converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final List<T> converted = converter.convertValues(values);
+        event.complete(converter.getType(), values, false);
+        return converted;
+    }
+
+    /**
+     * Convert Java objects into RDF values, in one batch.
+     *
+     * @param converter The {@link ValueConverter} to convert with
+     * @param objects   The objects to convert
+     * @param <T>       The type the converter works with
+     * @return The converted {@link Value}s, in the iteration order of the objects
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static <T> List<Value> convertTypes(ValueConverter<T> converter, Collection<? extends T> objects)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final List<Value> converted = converter.convertTypes(objects);
+        event.complete(converter.getType(), converted, true);
+        return converted;
+    }
+
+    /**
+     * Convert an RDF value into an {@code int}, without boxing it.
+     *
+     * @param converter The {@link IntConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @return The converted {@code int}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static int convertToInt(IntConverter converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final int converted = converter.convertToInt(value);
+        event.complete(Integer.class, value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert an {@code int} into an RDF value, without boxing it.
+     *
+     * @param converter The {@link IntConverter} to convert with
+     * @param value     The {@code int} to convert
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static Value convertInt(IntConverter converter, int value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertInt(value);
+        event.complete(Integer.class, converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert an RDF value into a {@code long}, without boxing it.
+     *
+     * @param converter The {@link LongConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @return The converted {@code long}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static long convertToLong(LongConverter converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final long converted = converter.convertToLong(value);
+        event.complete(Long.class, value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert a {@code long} into an RDF value, without boxing it.
+     *
+     * @param converter The {@link LongConverter} to convert with
+     * @param value     The {@code long} to convert
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static Value convertLong(LongConverter converter, long value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertLong(value);
+        event.complete(Long.class, converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert an RDF value into a {@code double}, without boxing it.
+     *
+     * @param converter The {@link DoubleConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @return The converted {@code double}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static double convertToDouble(DoubleConverter converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final double converted = converter.convertToDouble(value);
+        event.complete(Double.class, value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert a {@code double} into an RDF value, without boxing it.
+     *
+     * @param converter The {@link DoubleConverter} to convert with
+     * @param value     The {@code double} to convert
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static Value convertDouble(DoubleConverter converter, double value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertDouble(value);
+        event.complete(Double.class, converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert an RDF value into a {@code float}, without boxing it.
+     *
+     * @param converter The {@link FloatConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @return The converted {@code float}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static float convertToFloat(FloatConverter converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final float converted = converter.convertToFloat(value);
+        event.complete(Float.class, value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert a {@code float} into an RDF value, without boxing it.
+     *
+     * @param converter The {@link FloatConverter} to convert with
+     * @param value     The {@code float} to convert
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static Value convertFloat(FloatConverter converter, float value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertFloat(value);
+        event.complete(Float.class, converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert an RDF value into a {@code boolean}, without boxing it.
+     *
+     * @param converter The {@link BooleanConverter} to convert with
+     * @param value     The {@link Value} to convert
+     * @return The converted {@code boolean}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static boolean convertToBoolean(BooleanConverter converter, Value value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final boolean converted = converter.convertToBoolean(value);
+        event.complete(Boolean.class, value, false, 1);
+        return converted;
+    }
+
+    /**
+     * Convert a {@code boolean} into an RDF value, without boxing it.
+     *
+     * @param converter The {@link BooleanConverter} to convert with
+     * @param value     The {@code boolean} to convert
+     * @return The converted {@link Value}
+     * @throws ValueConversionException If the conversion fails
+     */
+    public static Value convertBoolean(BooleanConverter converter, boolean value) throws ValueConversionException {
+        final OrmConversion event = start();
+        final Value converted = converter.convertBoolean(value);
+        event.complete(Boolean.class, converted, true, 1);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into {@code int}s, in one batch and without boxing them.
+     *
+     * @param converter The {@link IntConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @return The converted {@code int}s, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static int[] convertToInts(IntConverter converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final int[] converted = converter.convertToInts(values);
+        event.complete(Integer.class, values, false);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into {@code long}s, in one batch and without boxing them.
+     *
+     * @param converter The {@link LongConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @return The converted {@code long}s, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static long[] convertToLongs(LongConverter converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final long[] converted = converter.convertToLongs(values);
+        event.complete(Long.class, values, false);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into {@code double}s, in one batch and without boxing them.
+     *
+     * @param converter The {@link DoubleConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @return The converted {@code double}s, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static double[] convertToDoubles(DoubleConverter converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final double[] converted = converter.convertToDoubles(values);
+        event.complete(Double.class, values, false);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into {@code float}s, in one batch and without boxing them.
+     *
+     * @param converter The {@link FloatConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @return The converted {@code float}s, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static float[] convertToFloats(FloatConverter converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final float[] converted = converter.convertToFloats(values);
+        event.complete(Float.class, values, false);
+        return converted;
+    }
+
+    /**
+     * Convert RDF values into {@code boolean}s, in one batch and without boxing them.
+     *
+     * @param converter The {@link BooleanConverter} to convert with
+     * @param values    The {@link Value}s to convert
+     * @return The converted {@code boolean}s, in the iteration order of the values
+     * @throws ValueConversionException If any conversion fails
+     */
+    public static boolean[] convertToBooleans(BooleanConverter converter, Collection<? extends Value> values)
+            throws ValueConversionException {
+        final OrmConversion event = start();
+        final boolean[] converted = converter.convertToBooleans(values);
+        event.complete(Boolean.class, values, false);
+        return converted;
+    }
+
+    private static OrmConversion start() {
+        final OrmConversion event = new OrmConversion();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing, and commit the event if the recording wants it.
+     */
+    private void complete(Class<?> javaType, Value value, boolean toRdf, int valueCount) {
+        if (shouldCommit()) {
+            this.javaType = javaType;
+            this.datatype = value instanceof Literal literal ? literal.getDatatype().stringValue() : null;
+            this.toRdf = toRdf;
+            this.valueCount = valueCount;
+            commit();
+        }
+    }
+
+    /**
+     * Like {@link #complete(Class, Value, boolean, int)}, only looking into the values if the event is committed.
+     */
+    private void complete(Class<?> javaType, Collection<? extends Value> values, boolean toRdf) {
+        if (shouldCommit()) {
+            complete(javaType, values.isEmpty() ? null : values.iterator().next(), toRdf, values.size());
+        }
+    }
+}
@@ -11,6 +11,10 @@ import com.realmone.owl.orm.types.ValueConversionException;
 import lombok.NonNull;
 import org.eclipse.rdf4j.model.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * {@link com.realmone.owl.orm.types.ValueConverter} for {@link String}s.
  *
@@ -41,6 +45,30 @@ public class StringValueConverter extends AbstractValueConverter<String> {
         return this.valueFactory.createLiteral(type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> convertValues(@NonNull Collection<? extends Value> values) {
+        final List<String> converted = new ArrayList<>(values.size());
+        for (Value value : values) {
+            converted.add(value.stringValue());
+        }
+        return converted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Value> convertTypes(@NonNull Collection<? extends String> types) {
+        final List<Value> converted = new ArrayList<>(types.size());
+        for (String type : types) {
+            converted.add(this.valueFactory.createLiteral(type));
+        }
+        return converted;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
@@ -0,0 +1,53 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.ValueConversionException;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import java.math.BigInteger;
+import java.util.Set;
+
+/**
+ * A {@link BigIntegerValueConverter} specialized in integer and decimal literals, which it asks for their number
+ * rather than parsing their label again. Whole decimals convert too, while decimals with a fraction are rejected.
+ * Register it alongside a {@link BigIntegerValueConverter}, and the {@link DefaultValueConverterRegistry} sends it
+ * those literals without looking at anything but their datatype.
+ */
+public class TypedBigIntegerValueConverter extends BigIntegerValueConverter {
+
+    private static final Set<CoreDatatype> DATATYPES = Set.of(CoreDatatype.XSD.INTEGER, CoreDatatype.XSD.LONG,
+            CoreDatatype.XSD.INT, CoreDatatype.XSD.SHORT, CoreDatatype.XSD.BYTE, CoreDatatype.XSD.DECIMAL);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger convertValue(@NonNull Value value) throws ValueConversionException {
+        if (!(value instanceof Literal literal)) {
+            return super.convertValue(value);
+        }
+        try {
+            return literal.getCoreDatatype() == CoreDatatype.XSD.DECIMAL
+                    ? literal.decimalValue().toBigIntegerExact() : literal.integerValue();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new ValueConversionException("Issue getting big integer value from statement.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CoreDatatype> getDatatypes() {
+        return DATATYPES;
+    }
+}
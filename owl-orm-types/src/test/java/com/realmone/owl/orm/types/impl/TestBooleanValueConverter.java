@@ -7,11 +7,27 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.ValueConversionException;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
 
 public class TestBooleanValueConverter extends AbstractValueConverterTest<Boolean, Literal> {
 
     public TestBooleanValueConverter() {
         super(true, VALUE_FACTORY.createLiteral("not a boolean"), new BooleanValueConverter());
     }
+
+    @Test
+    public void testBatchConversion() throws ValueConversionException {
+        BooleanValueConverter booleans = new BooleanValueConverter();
+        List<Value> values = booleans.convertTypes(List.of(true, false));
+        Assert.assertEquals(List.of(true, false), booleans.convertValues(values));
+        Assert.assertArrayEquals(new boolean[]{true, false}, booleans.convertToBooleans(values));
+        Assert.assertThrows(ValueConversionException.class,
+                () -> booleans.convertToBooleans(List.of(values.get(0), VALUE_FACTORY.createLiteral("x"))));
+    }
 }
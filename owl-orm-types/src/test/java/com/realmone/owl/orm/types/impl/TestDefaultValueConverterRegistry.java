@@ -0,0 +1,177 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.ValueConversionException;
+import com.realmone.owl.orm.types.ValueConverter;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestDefaultValueConverterRegistry {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    @Test
+    public void testResolution() {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        IntegerValueConverter ints = new IntegerValueConverter();
+        registry.register(ints);
+        registry.register(new IntegerValueConverter());
+        registry.register(new ValueValueConverter());
+        // The first converter registered for a type wins, primitives are boxed, and subtypes find their supertype's.
+        Assert.assertSame(ints, registry.getValueConverter(Integer.class).orElseThrow());
+        Assert.assertSame(ints, registry.getValueConverter(int.class).orElseThrow());
+        Class<? extends IRI> iriClass = VALUE_FACTORY.createIRI("urn://test").getClass();
+        Assert.assertEquals(Value.class, registry.getValueConverter(iriClass).orElseThrow().getType());
+    }
+
+    @Test
+    public void testMissesAreForgottenOnRegister() {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        Assert.assertTrue(registry.getValueConverter(Resource.class).isEmpty());
+        Assert.assertTrue(registry.getValueConverter(Resource.class).isEmpty());
+        registry.register(new ResourceValueConverter());
+        Assert.assertTrue(registry.getValueConverter(Resource.class).isPresent());
+        Assert.assertSame(registry.getValueConverter(Resource.class).orElseThrow(),
+                registry.internalGetValueConverter(IRI.class));
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.register(new StringValueConverter());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        ValueConverter<String> strings = registry.getValueConverter(String.class).orElseThrow();
+                        Assert.assertEquals(String.class, strings.getType());
+                        registry.getValueConverter(Long.class).ifPresent(longs ->
+                                Assert.assertEquals(Long.class, longs.getType()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            registry.register(new LongValueConverter());
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+            Assert.assertTrue(registry.getValueConverter(Long.class).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDatatypeDispatch() throws ValueConversionException {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.register(new DecimalIntegerValueConverter());
+        registry.register(new IntegerValueConverter());
+        ValueConverter<Integer> converter = registry.getValueConverter(Integer.class).orElseThrow();
+        Assert.assertEquals(5, (int) converter.convertValue(VALUE_FACTORY.createLiteral(5)));
+        Assert.assertEquals(3, (int) converter.convertValue(VALUE_FACTORY.createLiteral("3.0", XSD.DECIMAL)));
+        Assert.assertEquals(XSD.INT, ((Literal) converter.convertType(4)).getDatatype());
+        Assert.assertThrows(ValueConversionException.class,
+                () -> converter.convertValue(VALUE_FACTORY.createLiteral("3.5", XSD.DECIMAL)));
+
+        // Batches go through the same dispatch, without boxing if asked for ints.
+        List<Literal> batch = List.of(VALUE_FACTORY.createLiteral(5), VALUE_FACTORY.createLiteral("3.0", XSD.DECIMAL));
+        Assert.assertEquals(List.of(5, 3), converter.convertValues(batch));
+        Assert.assertArrayEquals(new int[]{5, 3}, ((IntConverter) converter).convertToInts(batch));
+        Assert.assertArrayEquals(new int[]{5, 6}, ((IntConverter) converter).convertToInts(
+                List.of(VALUE_FACTORY.createLiteral(5), VALUE_FACTORY.createLiteral(6))));
+        Assert.assertEquals(converter.convertTypes(List.of(4)), List.of(converter.convertType(4)));
+    }
+
+    @Test
+    public void testBuiltInDatatypeDispatch() throws ValueConversionException {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        BigIntegerValueConverter bigInts = new BigIntegerValueConverter();
+        registry.register(bigInts);
+        registry.registerDefaults();
+
+        // Ints read the literals that fit straight from them, without a dispatch table.
+        ValueConverter<Integer> intConverter = registry.getValueConverter(Integer.class).orElseThrow();
+        Assert.assertTrue(intConverter instanceof IntegerValueConverter);
+        IntConverter primitive = (IntConverter) intConverter;
+        Assert.assertEquals(7, primitive.convertToInt(VALUE_FACTORY.createLiteral((short) 7)));
+        Assert.assertEquals(8, primitive.convertToInt(VALUE_FACTORY.createLiteral("8", XSD.INTEGER)));
+        Assert.assertEquals(9, (int) intConverter.convertValue(VALUE_FACTORY.createLiteral((byte) 9)));
+        Assert.assertEquals(XSD.INT, ((Literal) primitive.convertInt(4)).getDatatype());
+
+        // The typed big integer converter fills the dispatch table, behind the general converter registered first.
+        ValueConverter<BigInteger> bigIntConverter = registry.getValueConverter(BigInteger.class).orElseThrow();
+        Assert.assertNotSame(bigInts, bigIntConverter);
+        Assert.assertEquals(BigInteger.valueOf(1L << 40),
+                bigIntConverter.convertValue(VALUE_FACTORY.createLiteral(1L << 40)));
+        Assert.assertEquals(BigInteger.TEN, bigIntConverter.convertValue(VALUE_FACTORY.createLiteral(BigInteger.TEN)));
+        // Whole decimals only convert through the typed converter.
+        Assert.assertEquals(BigInteger.valueOf(3),
+                bigIntConverter.convertValue(VALUE_FACTORY.createLiteral("3.0", XSD.DECIMAL)));
+        Assert.assertThrows(ValueConversionException.class,
+                () -> bigIntConverter.convertValue(VALUE_FACTORY.createLiteral("3.5", XSD.DECIMAL)));
+        Assert.assertThrows(ValueConversionException.class,
+                () -> bigInts.convertValue(VALUE_FACTORY.createLiteral("3.0", XSD.DECIMAL)));
+        // Other values still go to the general converter.
+        Assert.assertEquals(BigInteger.TWO, bigIntConverter.convertValue(VALUE_FACTORY.createLiteral("2")));
+    }
+
+    /**
+     * Decodes whole xsd:decimal literals into integers.
+     */
+    private static class DecimalIntegerValueConverter extends AbstractValueConverter<Integer> {
+
+        private DecimalIntegerValueConverter() {
+            super(Integer.class);
+        }
+
+        @Override
+        public Integer convertValue(@NonNull Value value) throws ValueConversionException {
+            try {
+                return ((Literal) value).decimalValue().intValueExact();
+            } catch (ArithmeticException e) {
+                throw new ValueConversionException("Decimal isn't a whole int: " + value, e);
+            }
+        }
+
+        @Override
+        public Value convertType(@NonNull Integer type) {
+            return VALUE_FACTORY.createLiteral(type.toString(), XSD.DECIMAL);
+        }
+
+        @Override
+        public Set<CoreDatatype> getDatatypes() {
+            return Set.of(CoreDatatype.XSD.DECIMAL);
+        }
+    }
+}
@@ -7,11 +7,37 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.ValueConversionException;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
 
 public class TestDoubleValueConverter extends AbstractValueConverterTest<Double, Literal> {
 
     public TestDoubleValueConverter() {
         super(3.1415, VALUE_FACTORY.createLiteral("not a double"), new DoubleValueConverter());
     }
+
+    @Test
+    public void testPrimitiveConversion() throws ValueConversionException {
+        DoubleValueConverter doubles = new DoubleValueConverter();
+        Assert.assertEquals(2.5, doubles.convertToDouble(doubles.convertDouble(2.5)), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY,
+                doubles.convertToDouble(VALUE_FACTORY.createLiteral("INF", XSD.DOUBLE)), 0);
+        Assert.assertEquals(0.1, doubles.convertToDouble(VALUE_FACTORY.createLiteral("0.1", XSD.DECIMAL)), 0);
+    }
+
+    @Test
+    public void testBatchConversion() throws ValueConversionException {
+        DoubleValueConverter doubles = new DoubleValueConverter();
+        List<Value> values = doubles.convertTypes(List.of(0.5, 2.0));
+        Assert.assertEquals(List.of(0.5, 2.0), doubles.convertValues(values));
+        Assert.assertArrayEquals(new double[]{0.5, 2.0}, doubles.convertToDoubles(values), 0);
+        Assert.assertThrows(ValueConversionException.class,
+                () -> doubles.convertToDoubles(List.of(values.get(0), VALUE_FACTORY.createLiteral("x"))));
+    }
 }
@@ -7,11 +7,27 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.ValueConversionException;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
 
 public class TestFloatValueConverter extends AbstractValueConverterTest<Float, Literal> {
 
     public TestFloatValueConverter() {
         super(3.1415F, VALUE_FACTORY.createLiteral("not a float"), new FloatValueConverter());
     }
+
+    @Test
+    public void testBatchConversion() throws ValueConversionException {
+        FloatValueConverter floats = new FloatValueConverter();
+        List<Value> values = floats.convertTypes(List.of(0.5f, 2.0f));
+        Assert.assertEquals(List.of(0.5f, 2.0f), floats.convertValues(values));
+        Assert.assertArrayEquals(new float[]{0.5f, 2.0f}, floats.convertToFloats(values), 0);
+        Assert.assertThrows(ValueConversionException.class,
+                () -> floats.convertToFloats(List.of(values.get(0), VALUE_FACTORY.createLiteral("x"))));
+    }
 }
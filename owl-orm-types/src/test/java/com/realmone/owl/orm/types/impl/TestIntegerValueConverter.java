@@ -7,11 +7,42 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.ValueConversionException;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
 
 public class TestIntegerValueConverter extends AbstractValueConverterTest<Integer, Literal> {
 
     public TestIntegerValueConverter() {
         super(123, VALUE_FACTORY.createLiteral("not an int"), new IntegerValueConverter());
     }
+
+    @Test
+    public void testPrimitiveConversion() throws ValueConversionException {
+        IntegerValueConverter ints = new IntegerValueConverter();
+        Assert.assertEquals(42, ints.convertToInt(ints.convertInt(42)));
+        Assert.assertEquals(XSD.INT, ((Literal) ints.convertInt(42)).getDatatype());
+        Assert.assertEquals(7, ints.convertToInt(VALUE_FACTORY.createLiteral("7", XSD.INTEGER)));
+        Assert.assertEquals(-3, ints.convertToInt(VALUE_FACTORY.createLiteral((short) -3)));
+    }
+
+    @Test(expected = ValueConversionException.class)
+    public void testIntegerOverflow() throws ValueConversionException {
+        new IntegerValueConverter().convertToInt(VALUE_FACTORY.createLiteral("99999999999", XSD.INTEGER));
+    }
+
+    @Test
+    public void testBatchConversion() throws ValueConversionException {
+        IntegerValueConverter ints = new IntegerValueConverter();
+        List<Value> values = ints.convertTypes(List.of(3, 1, 2));
+        Assert.assertEquals(List.of(3, 1, 2), ints.convertValues(values));
+        Assert.assertArrayEquals(new int[]{3, 1, 2}, ints.convertToInts(values));
+        Assert.assertThrows(ValueConversionException.class,
+                () -> ints.convertToInts(List.of(VALUE_FACTORY.createLiteral(1), VALUE_FACTORY.createLiteral("x"))));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.xml.datatype.DatatypeFactory;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Random;
+
+public class TestIsoDateTime {
+
+    @Test
+    public void testMatchesJdkParsing() throws Exception {
+        DatatypeFactory datatypeFactory = DatatypeFactory.newInstance();
+        Random random = new Random(17);
+        for (int i = 0; i < 2_000; i++) {
+            OffsetDateTime expected = OffsetDateTime.ofInstant(
+                    Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE) * 4L - 4_000_000_000L,
+                            random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000)),
+                    ZoneOffset.ofTotalSeconds((random.nextInt(57) - 28) * 900));
+            String lexical = expected.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            IsoDateTime parsed = IsoDateTime.parse(lexical);
+            Assert.assertNotNull(lexical, parsed);
+            Assert.assertEquals(lexical, expected, parsed.toOffsetDateTime());
+            Assert.assertEquals(lexical, expected.toInstant().toEpochMilli(), parsed.toEpochMilli());
+            Assert.assertEquals(lexical, datatypeFactory.newXMLGregorianCalendar(lexical).toGregorianCalendar()
+                    .getTimeInMillis(), parsed.toEpochMilli());
+            Assert.assertEquals(expected, OffsetDateTime.parse(IsoDateTime.format(expected)));
+            long millis = parsed.toEpochMilli();
+            Assert.assertEquals(millis, OffsetDateTime.parse(IsoDateTime.format(millis, expected.getOffset()
+                    .getTotalSeconds())).toInstant().toEpochMilli());
+        }
+    }
+
+    @Test
+    public void testForms() {
+        Assert.assertEquals(OffsetDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneOffset.ofHours(-5)),
+                IsoDateTime.parse("2024-02-29-05:00").toOffsetDateTime());
+        Assert.assertEquals(120_000_000, IsoDateTime.parse("2024-05-01T12:30:00.12Z").nano);
+        Assert.assertEquals("2024-05-01T12:30:00.120Z",
+                IsoDateTime.format(IsoDateTime.parse("2024-05-01T12:30:00.12Z").toEpochMilli(), 0));
+        Assert.assertEquals("0999-01-02T03:04:05.5+14:00",
+                IsoDateTime.format(OffsetDateTime.of(999, 1, 2, 3, 4, 5, 500_000_000, ZoneOffset.ofHours(14))));
+        // Forms left to the complete implementations.
+        Assert.assertNull(IsoDateTime.parse("2024-05-01T12:30:00"));
+        Assert.assertNull(IsoDateTime.parse("2023-02-29Z"));
+        Assert.assertNull(IsoDateTime.parse("2024-05-01T24:00:00Z"));
+        Assert.assertNull(IsoDateTime.parse("-0044-03-15T12:00:00Z"));
+        Assert.assertNull(IsoDateTime.parse("2024-05-01T12:30:00.Z"));
+        Assert.assertNull(IsoDateTime.parse("2024-05-01T12:30:00+15:00"));
+        Assert.assertNull(IsoDateTime.format(OffsetDateTime.of(10_000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+        // Offsets with seconds can't be written without losing them.
+        Assert.assertNull(IsoDateTime.format(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0,
+                ZoneOffset.ofHoursMinutesSeconds(5, 30, 15))));
+        Assert.assertNull(IsoDateTime.format(0, -(5 * 3600 + 30 * 60 + 15)));
+        Assert.assertEquals("1970-01-01T05:30:00.000+05:30", IsoDateTime.format(0, 5 * 3600 + 30 * 60));
+    }
+
+    @Test
+    public void testConvertersFallBack() throws Exception {
+        ValidatingValueFactory valueFactory = new ValidatingValueFactory();
+        Calendar calendar = new CalendarValueConverter().convertValue(
+                valueFactory.createLiteral("2024-05-01T12:30:00", XSD.DATETIME));
+        Assert.assertEquals(12, calendar.get(Calendar.HOUR_OF_DAY));
+        Calendar fast = new CalendarValueConverter().convertValue(
+                valueFactory.createLiteral("2024-05-01T12:30:00+02:00", XSD.DATETIME));
+        Assert.assertEquals(12, fast.get(Calendar.HOUR_OF_DAY));
+        Assert.assertEquals(2 * 3_600_000, fast.get(Calendar.ZONE_OFFSET));
+    }
+}
@@ -7,11 +7,27 @@
  */
 package com.realmone.owl.orm.types.impl;
 
+import com.realmone.owl.orm.types.ValueConversionException;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
 
 public class TestLongValueConverter extends AbstractValueConverterTest<Long, Literal> {
 
     public TestLongValueConverter() {
         super(123L, VALUE_FACTORY.createLiteral("not a long"), new LongValueConverter());
     }
+
+    @Test
+    public void testBatchConversion() throws ValueConversionException {
+        LongValueConverter longs = new LongValueConverter();
+        List<Value> values = longs.convertTypes(List.of(3L, 1L, 1L << 40));
+        Assert.assertEquals(List.of(3L, 1L, 1L << 40), longs.convertValues(values));
+        Assert.assertArrayEquals(new long[]{3L, 1L, 1L << 40}, longs.convertToLongs(values));
+        Assert.assertThrows(ValueConversionException.class,
+                () -> longs.convertToLongs(List.of(values.get(0), VALUE_FACTORY.createLiteral("x"))));
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import com.realmone.owl.orm.types.BooleanConverter;
+import com.realmone.owl.orm.types.IntConverter;
+import com.realmone.owl.orm.types.ValueConverter;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class TestMemoizingValueConverter {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    @Test
+    public void testPinnedTable() {
+        MemoizingValueConverter<Integer> ints = new MemoizingValueConverter<>(new IntegerValueConverter(), 0);
+        Value seven = ints.convertType(7);
+        Assert.assertSame(seven, ints.convertType(7));
+        Assert.assertEquals(7, (int) ints.convertValue(seven));
+        Assert.assertEquals(3, ints.getHits());
+        Assert.assertEquals(0, ints.getMisses());
+        // Outside the table, and with no room in the cache, everything goes to the delegate.
+        Assert.assertEquals(5000, (int) ints.convertValue(ints.convertType(5000)));
+        Assert.assertEquals(2, ints.getMisses());
+        Assert.assertEquals(0, ints.size());
+
+        MemoizingValueConverter<Boolean> booleans = new MemoizingValueConverter<>(new BooleanValueConverter(), 0);
+        Assert.assertTrue(booleans.convertValue(booleans.convertType(true)));
+        Assert.assertEquals(1.0, booleans.getHitRate(), 0);
+    }
+
+    @Test
+    public void testBoundedCache() {
+        MemoizingValueConverter<String> strings = new MemoizingValueConverter<>(new StringValueConverter(), 64);
+        for (int round = 0; round < 10; round++) {
+            for (String status : new String[]{"ACTIVE", "RETIRED", "PENDING"}) {
+                Literal literal = VALUE_FACTORY.createLiteral(status);
+                Assert.assertEquals(status, strings.convertValue(literal));
+                Assert.assertEquals(literal, strings.convertType(status));
+            }
+        }
+        Assert.assertEquals(6, strings.getMisses());
+        Assert.assertEquals(54, strings.getHits());
+        Assert.assertEquals(0.9, strings.getHitRate(), 0.0001);
+        for (int i = 0; i < 10_000; i++) {
+            strings.convertType("value " + i);
+        }
+        Assert.assertTrue("The cache should stay bounded: " + strings.size(), strings.size() <= 64 + 16);
+    }
+
+    @Test
+    public void testBatchConversion() {
+        List<Collection<? extends Value>> batches = new ArrayList<>();
+        MemoizingValueConverter<String> strings = MemoizingValueConverter.of(new StringValueConverter() {
+            @Override
+            public List<String> convertValues(Collection<? extends Value> values) {
+                batches.add(List.copyOf(values));
+                return super.convertValues(values);
+            }
+        }, 64);
+        Literal a = VALUE_FACTORY.createLiteral("a");
+        Literal b = VALUE_FACTORY.createLiteral("b");
+        Assert.assertEquals("a", strings.convertValue(a));
+        // Only what isn't remembered goes to the delegate, in a single batch.
+        Assert.assertEquals(List.of("a", "b", "b"), strings.convertValues(List.of(a, b, b)));
+        Assert.assertEquals(List.of(List.of(b, b)), batches);
+        Assert.assertEquals(List.of("b", "a"), strings.convertValues(List.of(b, a)));
+        Assert.assertEquals(1, batches.size());
+        Assert.assertEquals(List.of(a, b), strings.convertTypes(List.of("a", "b")));
+
+        IntConverter ints = (IntConverter) MemoizingValueConverter.of(new IntegerValueConverter(), 64);
+        Assert.assertArrayEquals(new int[]{1, 5000}, ints.convertToInts(List.of(VALUE_FACTORY.createLiteral(1),
+                VALUE_FACTORY.createLiteral(5000))));
+    }
+
+    @Test
+    public void testRegistry() {
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.register(new StringValueConverter());
+        registry.register(new CalendarValueConverter());
+        Assert.assertTrue(registry.getMemoizingConverters().isEmpty());
+        registry.enableMemoization(128);
+        registry.register(new IntegerValueConverter());
+        ValueConverter<String> strings = registry.getValueConverter(String.class).orElseThrow();
+        Assert.assertTrue(strings instanceof MemoizingValueConverter);
+        Assert.assertTrue(registry.getValueConverter(Integer.class).orElseThrow() instanceof MemoizingValueConverter);
+        // Calendars are mutable, so they're never shared.
+        Assert.assertFalse(registry.getValueConverter(Calendar.class).orElseThrow()
+                instanceof MemoizingValueConverter);
+        strings.convertValue(VALUE_FACTORY.createLiteral("x"));
+        strings.convertValue(VALUE_FACTORY.createLiteral("x"));
+        Assert.assertEquals(1, registry.getMemoizingConverters().get(String.class).getHits());
+
+        // Registering another type keeps the memoizing converters of the others, and what they remember.
+        registry.register(new LongValueConverter());
+        Assert.assertSame(strings, registry.getValueConverter(String.class).orElseThrow());
+        strings.convertValue(VALUE_FACTORY.createLiteral("x"));
+        Assert.assertEquals(2, registry.getMemoizingConverters().get(String.class).getHits());
+
+        // Resizing does too, and no capacity still leaves the fixed table.
+        registry.enableMemoization(0);
+        Assert.assertSame(strings, registry.getValueConverter(String.class).orElseThrow());
+        Assert.assertEquals(0, registry.getMemoizingConverters().get(String.class).size());
+        MemoizingValueConverter<?> ints = registry.getMemoizingConverters().get(Integer.class);
+        ((IntConverter) ints).convertInt(7);
+        Assert.assertEquals(1, ints.getHits());
+
+        registry.disableMemoization();
+        Assert.assertTrue(registry.getMemoizingConverters().isEmpty());
+        Assert.assertTrue(registry.getValueConverter(Integer.class).orElseThrow() instanceof IntegerValueConverter);
+    }
+
+    @Test
+    public void testPrimitiveConverters() {
+        MemoizingValueConverter<Integer> memoizing = MemoizingValueConverter.of(new IntegerValueConverter(), 16);
+        Assert.assertTrue(memoizing instanceof IntConverter);
+        IntConverter ints = (IntConverter) memoizing;
+        Value seven = ints.convertInt(7);
+        Assert.assertEquals(7, ints.convertToInt(seven));
+        Assert.assertEquals(2, memoizing.getHits());
+        Value large = ints.convertInt(5000);
+        Assert.assertEquals(5000, ints.convertToInt(large));
+        Assert.assertEquals(5000, ints.convertToInt(large));
+        Assert.assertEquals(2, memoizing.getMisses());
+        Assert.assertEquals(3, memoizing.getHits());
+
+        Assert.assertTrue(MemoizingValueConverter.of(new BooleanValueConverter(), 0) instanceof BooleanConverter);
+        Assert.assertFalse(MemoizingValueConverter.of((ValueConverter<?>) new StringValueConverter(), 0)
+                instanceof IntConverter);
+
+        // Memoizing over the combination of a type's converters still converts primitives.
+        DefaultValueConverterRegistry registry = new DefaultValueConverterRegistry();
+        registry.enableMemoization(16);
+        registry.register(new IntegerValueConverter());
+        registry.register(new IntegerValueConverter() {
+            @Override
+            public Set<CoreDatatype> getDatatypes() {
+                return Set.of(CoreDatatype.XSD.INT);
+            }
+        });
+        Assert.assertTrue(registry.getValueConverter(Integer.class).orElseThrow() instanceof IntConverter);
+    }
+
+    @Test
+    public void testResize() {
+        MemoizingValueConverter<String> strings = new MemoizingValueConverter<>(new StringValueConverter(), 1024);
+        for (int i = 0; i < 500; i++) {
+            strings.convertType("value " + i);
+        }
+        Assert.assertEquals(500, strings.size());
+        strings.setCapacity(32);
+        Assert.assertTrue("The cache should shrink: " + strings.size(), strings.size() <= 32);
+        strings.convertType("value 499");
+        Assert.assertEquals(1, strings.getHits());
+        Assert.assertThrows(IllegalArgumentException.class, () -> strings.setCapacity(-1));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.ValidatingValueFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestOrmConversion {
+
+    private static final ValueFactory VALUE_FACTORY = new ValidatingValueFactory();
+
+    @Test
+    public void testEvents() throws Exception {
+        IntegerValueConverter ints = new IntegerValueConverter();
+        StringValueConverter strings = new StringValueConverter();
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(OrmConversion.NAME).withoutThreshold();
+            recording.start();
+            Value seven = OrmConversion.convertInt(ints, 7);
+            Assert.assertEquals(7, OrmConversion.convertToInt(ints, seven));
+            Assert.assertEquals(List.of("a", "b"), OrmConversion.convertValues(strings,
+                    List.of(VALUE_FACTORY.createLiteral("a"), VALUE_FACTORY.createLiteral("b"))));
+            Assert.assertTrue(OrmConversion.convertTypes(strings, List.of()).isEmpty());
+            recording.stop();
+            Path file = Files.createTempFile("owl-orm", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file).stream()
+                        .filter(event -> event.getEventType().getName().equals(OrmConversion.NAME))
+                        .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+                        .collect(Collectors.toList());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+        Assert.assertEquals(4, events.size());
+        Assert.assertEquals(Integer.class.getName(), events.get(0).getClass("javaType").getName());
+        Assert.assertTrue(events.get(0).getBoolean("toRdf"));
+        Assert.assertEquals("http://www.w3.org/2001/XMLSchema#int", events.get(1).getString("datatype"));
+        Assert.assertFalse(events.get(1).getBoolean("toRdf"));
+        Assert.assertEquals(2, events.get(2).getInt("valueCount"));
+        Assert.assertEquals("http://www.w3.org/2001/XMLSchema#string", events.get(2).getString("datatype"));
+        // An empty batch has no datatype to report.
+        Assert.assertEquals(0, events.get(3).getInt("valueCount"));
+        Assert.assertNull(events.get(3).getString("datatype"));
+    }
+}
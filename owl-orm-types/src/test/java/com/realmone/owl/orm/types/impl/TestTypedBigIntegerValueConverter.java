@@ -0,0 +1,20 @@
+/*
+ *
+ *   owl-orm: A Maven Plugin and API for working with POJOs representing ontological classes on top of RDF4j
+ *   Copyright (c) 2024 RealmOne (https://realmone.com/)
+ *
+ *   Licensed under the MIT License
+ */
+package com.realmone.owl.orm.types.impl;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+
+import java.math.BigInteger;
+
+public class TestTypedBigIntegerValueConverter extends AbstractValueConverterTest<BigInteger, Literal> {
+
+    public TestTypedBigIntegerValueConverter() {
+        super(BigInteger.TEN, VALUE_FACTORY.createLiteral("10.5", XSD.DECIMAL), new TypedBigIntegerValueConverter());
+    }
+}